@@ -0,0 +1,37 @@
+package org.Pages.Bench;
+
+/**
+ * 🧪 Representative bodies for the micro-benchmarks
+ * --------------------------------------------------
+ * Shapes follow what the live API returns (login response with a JWT,
+ * paged JSON lists), so the parsing benchmarks see realistic input.
+ */
+final class Payloads {
+
+    private Payloads() {
+    }
+
+    /** 🔐 Login response: token first, then the user / merchant block */
+    static String loginResponse() {
+        String jwt = "eyJhbGciOiJIUzI1NiJ9."
+                + "eyJzdWIiOiJzYSIsIm1lcmNoYW50SWQiOjEsImlhdCI6MTc2MTU1OTUxMiwiZXhwIjoxNzYxNjQ1OTEyfQ."
+                + "Qm9ndXNTaWduYXR1cmVGb3JCZW5jaG1hcmtzT25seV9ub3RfYV9yZWFsX2tleQ";
+        return "{\"token\": \"" + jwt + "\",\"type\":\"Bearer\",\"user\":{\"id\":1,\"username\":\"sa\","
+                + "\"roles\":[\"ADMIN\",\"MERCHANT\"],\"merchantId\":1,\"locale\":\"en-US\"},\"expiresIn\":86400}";
+    }
+
+    /** 📄 Paged list of roughly the given size, one item per line like pretty-printed JSON */
+    static String json(int approxBytes) {
+        StringBuilder sb = new StringBuilder(approxBytes + 256).append("{\n\"content\":[\n");
+        int i = 0;
+        while (sb.length() < approxBytes) {
+            sb.append(i == 0 ? "" : ",\n")
+                    .append("{\"id\":").append(i)
+                    .append(",\"customerId\":\"CUS-").append(100000 + i)
+                    .append("\",\"amount\":").append(10 + i % 990).append(".50")
+                    .append(",\"currency\":\"EUR\",\"status\":\"SUCCESS\",\"provider\":\"Stripe\"}");
+            i++;
+        }
+        return sb.append("\n],\n\"totalElements\":").append(i).append(",\"last\":true\n}").toString();
+    }
+}
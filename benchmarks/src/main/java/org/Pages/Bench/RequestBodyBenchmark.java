@@ -0,0 +1,51 @@
+package org.Pages.Bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📨 Building the login request body
+ * -----------------------------------
+ * - stringFormat: String.format("{\"username\":\"%s\",\"password\":\"%s\"}", ...)
+ *   as used by the suites and SessionManager (parses the format string per call)
+ * - concatenation: the same JSON with + (indy string concat)
+ * - stringBuilder: explicit, pre-sized StringBuilder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dinvoo.latency.logDir=none")
+public class RequestBodyBenchmark {
+
+    private String username = "sa";
+    private String password = "123456";
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format("{\"username\":\"%s\",\"password\":\"%s\"}", username, password);
+    }
+
+    @Benchmark
+    public String concatenation() {
+        return "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+    }
+
+    @Benchmark
+    public String stringBuilder() {
+        return new StringBuilder(32 + username.length() + password.length())
+                .append("{\"username\":\"").append(username)
+                .append("\",\"password\":\"").append(password)
+                .append("\"}").toString();
+    }
+}
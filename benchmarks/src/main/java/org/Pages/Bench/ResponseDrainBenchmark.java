@@ -0,0 +1,78 @@
+package org.Pages.Bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📥 Draining a response body
+ * ---------------------------
+ * - readLine: BufferedReader.readLine + StringBuilder.append(line), as the suites
+ *   did with HttpURLConnection (decodes to chars, drops newlines, copies twice)
+ * - readAllBytes: raw bytes, decoded once into a String (what HttpEngine does today)
+ * - discard: transferTo a null sink, the floor for "read and ignore"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dinvoo.latency.logDir=none")
+public class ResponseDrainBenchmark {
+
+    /** Approximate body size in bytes */
+    @Param({"1024", "65536", "1048576"})
+    public int size;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = Payloads.json(size).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String readLine() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                sb.append(line);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String readAllBytes() throws IOException {
+        try (InputStream in = new ByteArrayInputStream(body)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public void discard(Blackhole bh) throws IOException {
+        try (InputStream in = new ByteArrayInputStream(body)) {
+            bh.consume(in.transferTo(OutputStream.nullOutputStream()));
+        }
+    }
+}
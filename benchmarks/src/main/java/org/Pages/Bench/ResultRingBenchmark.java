@@ -0,0 +1,104 @@
+package org.Pages.Bench;
+
+import org.Pages.History.HistoryReport;
+import org.Pages.History.ResultRing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 💽 Result history ring
+ * ----------------------
+ * - append / appendContended: cost of recording one outcome (1 vs 4 writer threads)
+ * - hourlyPercentiles: streaming 2 M records (48 h) into per-endpoint per-hour
+ *   histograms, as HistoryReport does
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dinvoo.latency.logDir=none", "-Dinvoo.history.file=none"})
+public class ResultRingBenchmark {
+
+    private static final int ENDPOINTS = 30;
+    private static final int FILLED = 2_000_000;
+
+    @State(Scope.Benchmark)
+    public static class Writer {
+
+        Path file;
+        ResultRing ring;
+
+        @Setup(Level.Trial)
+        public void open() throws IOException {
+            file = Files.createTempFile("bench", ".ring");
+            Files.delete(file);
+            ring = ResultRing.openForWriting(file, 4_000_000);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            ring.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Filled {
+
+        Path file;
+        ResultRing ring;
+
+        @Setup(Level.Trial)
+        public void fill() throws IOException {
+            file = Files.createTempFile("bench", ".ring");
+            Files.delete(file);
+            ring = ResultRing.openForWriting(file, FILLED);
+            long start = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(48);
+            long step = TimeUnit.HOURS.toMillis(48) / FILLED;
+            for (int i = 0; i < FILLED; i++) {
+                ring.append(start + i * step, i % ENDPOINTS, i % 97 == 0 ? 503 : 200, 0, 500 + (i * 7919L) % 200_000, 2048);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            ring.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long append(Writer w) {
+        return w.ring.append(System.currentTimeMillis(), 7, 200, 0, 1234, 4096);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long appendContended(Writer w) {
+        return w.ring.append(System.currentTimeMillis(), 7, 200, 0, 1234, 4096);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Map<Long, HistoryReport.Aggregate[]> hourlyPercentiles(Filled f) {
+        return HistoryReport.aggregate(f.ring, 0, Long.MAX_VALUE, TimeUnit.HOURS.toMillis(1), null, -1);
+    }
+}
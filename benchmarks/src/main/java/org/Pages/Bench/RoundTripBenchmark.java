@@ -0,0 +1,117 @@
+package org.Pages.Bench;
+
+import org.Pages.Http.ApiRequest;
+import org.Pages.Http.ApiResponse;
+import org.Pages.Http.HttpEngine;
+import org.Pages.Stub.StubServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🔁 Full round trip against a local StubServer
+ * ----------------------------------------------
+ * - httpEngine: HttpEngine.shared().get(url, token), pooled keep-alive client
+ * - javaNetHttp: the same java.net.http client with none of the engine around
+ *   it (no cache lookup, breaker, bulkhead, body check, latency / phase / JFR
+ *   recording), so httpEngine - javaNetHttp is the engine's own cost
+ * - httpUrlConnection: the suites' original openConnection + readLine path
+ *
+ * javaNetHttp vs httpUrlConnection is the client library itself: every
+ * java.net.http exchange hops between the caller, the client's selector
+ * thread and its executor, while HttpURLConnection reads the socket on the
+ * calling thread. On a machine with few cores those hops are context
+ * switches and dominate a sub-millisecond local round trip; they overlap
+ * once calls run concurrently (-t N), which is what the engine is built for.
+ *
+ * Run with -t N to see contention on the shared client, e.g.
+ *   java -jar target/benchmarks.jar RoundTrip -t 8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dinvoo.latency.logDir=none", "-Dinvoo.history.file=none"})
+public class RoundTripBenchmark {
+
+    private StubServer stub;
+    private String url;
+    private String token;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stub = StubServer.start(0);
+        url = stub.baseUrl() + "/api/v1/analytics/status-counts?type=all";
+        String login = HttpEngine.shared().send(ApiRequest.post(stub.baseUrl() + "/api/v1/auth/login",
+                "{\"username\":\"sa\",\"password\":\"123456\"}").retainBody()).text();
+        token = login.split("\"token\"\\s*:\\s*\"")[1].split("\"")[0];
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create(url))
+                .header("Accept", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public long httpEngine() throws IOException {
+        ApiResponse response = HttpEngine.shared().get(url, token);
+        return response.status() + response.bodyLength();
+    }
+
+    @Benchmark
+    public long javaNetHttp() throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            return response.statusCode() + body.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    @Benchmark
+    public int httpUrlConnection() throws IOException {
+        HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
+        conn.setRequestMethod("GET");
+        conn.setRequestProperty("Accept", "application/json");
+        conn.setRequestProperty("Authorization", "Bearer " + token);
+        int code = conn.getResponseCode();
+        StringBuilder body = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                body.append(line);
+            }
+        }
+        return code + body.length();
+    }
+}
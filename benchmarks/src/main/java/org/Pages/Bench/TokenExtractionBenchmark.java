@@ -0,0 +1,67 @@
+package org.Pages.Bench;
+
+import org.Pages.Json.JsonFields;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 🔐 Token extraction from the login response
+ * --------------------------------------------
+ * - legacySplit: the split("\"token\"\\s*:\\s*\"") line every suite carried
+ *   (recompiles two regexes and allocates the split arrays per call)
+ * - precompiledPattern: same grammar with a cached Pattern
+ * - indexOf: plain scan for the "token" key, no regex
+ * - jsonFields: the streaming JsonFields extractor over the raw response bytes
+ *   (what SessionManager uses; decodes only the token string)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dinvoo.latency.logDir=none")
+public class TokenExtractionBenchmark {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]*)\"");
+
+    private static final JsonFields LOGIN_FIELDS = JsonFields.of("token");
+
+    private final String body = Payloads.loginResponse();
+    private final byte[] bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+
+    @Benchmark
+    public String legacySplit() {
+        return body.split("\"token\"\\s*:\\s*\"")[1].split("\"")[0];
+    }
+
+    @Benchmark
+    public String precompiledPattern() {
+        Matcher m = TOKEN.matcher(body);
+        return m.find() ? m.group(1) : null;
+    }
+
+    @Benchmark
+    public String indexOf() {
+        int key = body.indexOf("\"token\"");
+        int start = body.indexOf('"', body.indexOf(':', key + 7) + 1) + 1;
+        return body.substring(start, body.indexOf('"', start));
+    }
+
+    @Benchmark
+    public String jsonFields() throws IOException {
+        return LOGIN_FIELDS.extract(bodyBytes).string("token");
+    }
+}
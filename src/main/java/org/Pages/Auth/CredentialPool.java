@@ -0,0 +1,245 @@
+package org.Pages.Auth;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 👥 Pool of load-test users
+ * --------------------------
+ * Spreads load over many principals, so one account's rate limit or session
+ * contention doesn't cap the whole run:
+ *   -Dinvoo.credentials.file=users.txt          one "username:password" per line (# comments)
+ *   -Dinvoo.credentials.assign=roundRobin       each call takes the next user
+ *                              sticky           a virtual user always gets the same user
+ *   -Dinvoo.credentials.loginParallelism=16     logins in flight during loginAll()
+ *
+ * - loginAll() logs every user in before the clock starts, in parallel, via the
+ *   shared SessionManager (so tokens are refreshed as usual); users whose login
+ *   fails are left out of the rotation
+ * - record() keeps per-user request / error / 401 / 429 counts; users whose
+ *   error rate is well above the pool's are flagged in report(); LoadTest adds
+ *   its pool to the RunReport, a LoadWorker prints each session's pool after
+ *   the run (a pool doesn't register itself, so several pools can't overwrite
+ *   each other's section)
+ * - Without a file the pool holds the single fallback user
+ * - Distributed workers each take every n-th user of the file (worker index
+ *   and count come with the RUN block), so no account is shared between them
+ */
+public final class CredentialPool {
+
+    public enum Assignment { ROUND_ROBIN, STICKY }
+
+    private final List<Credentials> all;
+    private final Assignment assignment;
+    private final int loginParallelism;
+    private final Map<Credentials, UserStats> stats = new LinkedHashMap<>();
+    private final AtomicLong next = new AtomicLong();
+    private volatile List<Credentials> usable;
+
+    public CredentialPool(List<Credentials> credentials, Assignment assignment, int loginParallelism) {
+        if (credentials.isEmpty()) {
+            throw new IllegalArgumentException("❌ A credential pool needs at least one user");
+        }
+        this.all = List.copyOf(credentials);
+        this.usable = all;
+        this.assignment = assignment;
+        this.loginParallelism = Math.max(1, loginParallelism);
+        for (Credentials c : all) {
+            stats.put(c, new UserStats());
+        }
+    }
+
+    /** 📋 Pool from -Dinvoo.credentials.file, or just `fallback` when no file is set */
+    public static CredentialPool fromProperties(Credentials fallback) throws IOException {
+        return fromProperties(fallback, 0, 1);
+    }
+
+    /** 📋 Slice `slice` of `slices` of the file's users (disjoint per slice); the fallback user is never split */
+    public static CredentialPool fromProperties(Credentials fallback, int slice, int slices) throws IOException {
+        String file = System.getProperty("invoo.credentials.file");
+        String assign = System.getProperty("invoo.credentials.assign", "roundRobin").replace("-", "").toLowerCase(Locale.ROOT);
+        Assignment assignment = switch (assign) {
+            case "roundrobin" -> Assignment.ROUND_ROBIN;
+            case "sticky" -> Assignment.STICKY;
+            default -> throw new IOException("❌ Unknown -Dinvoo.credentials.assign '" + assign + "' (roundRobin or sticky)");
+        };
+        List<Credentials> credentials = file == null ? List.of(fallback)
+                : slice(load(Paths.get(file), fallback.loginUrl()), slice, slices);
+        return new CredentialPool(credentials, assignment, Integer.getInteger("invoo.credentials.loginParallelism", 16));
+    }
+
+    /** ✂️ Every `slices`-th user starting at `slice`, so slices never overlap */
+    public static List<Credentials> slice(List<Credentials> credentials, int slice, int slices) throws IOException {
+        if (slices < 1 || slice < 0 || slice >= slices) {
+            throw new IllegalArgumentException("❌ Credential slice " + slice + " of " + slices);
+        }
+        if (credentials.size() < slices) {
+            throw new IOException("❌ " + credentials.size() + " users can't be split over " + slices
+                    + " workers without sharing accounts");
+        }
+        List<Credentials> part = new ArrayList<>();
+        for (int i = slice; i < credentials.size(); i += slices) {
+            part.add(credentials.get(i));
+        }
+        return part;
+    }
+
+    /** 📄 "username:password" lines; blank lines and # comments are skipped */
+    public static List<Credentials> load(Path file, String loginUrl) throws IOException {
+        List<Credentials> credentials = new ArrayList<>();
+        int lineNumber = 0;
+        for (String line : Files.readAllLines(file)) {
+            lineNumber++;
+            int hash = line.indexOf('#');
+            String entry = (hash < 0 ? line : line.substring(0, hash)).trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            int colon = entry.indexOf(':');
+            if (colon <= 0) {
+                throw new IOException("❌ " + file + ":" + lineNumber + " is not username:password");
+            }
+            credentials.add(new Credentials(loginUrl, entry.substring(0, colon), entry.substring(colon + 1)));
+        }
+        if (credentials.isEmpty()) {
+            throw new IOException("❌ No users in " + file);
+        }
+        return credentials;
+    }
+
+    /** 🔐 Logs every user in, in parallel; returns how many made it (failed users leave the rotation) */
+    public int loginAll() throws IOException {
+        Semaphore permits = new Semaphore(loginParallelism);
+        List<Future<?>> logins = new ArrayList<>();
+        long start = System.nanoTime();
+        try (ExecutorService workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("pool-login-", 0).factory())) {
+            for (Credentials c : all) {
+                logins.add(workers.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return SessionManager.shared().token(c);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+        List<Credentials> ok = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        for (int i = 0; i < all.size(); i++) {
+            try {
+                logins.get(i).get();
+                ok.add(all.get(i));
+            } catch (Exception e) {
+                Throwable cause = e.getCause() == null ? e : e.getCause();
+                stats.get(all.get(i)).loginFailed = true;
+                failed.add(all.get(i).username() + " (" + cause.getMessage() + ")");
+            }
+        }
+        if (ok.isEmpty()) {
+            throw new IOException("❌ No user of the credential pool could log in: " + String.join(", ", failed));
+        }
+        usable = List.copyOf(ok);
+        System.out.printf("👥 %d / %d pool users logged in in %.1fs, assigned %s%n", ok.size(), all.size(),
+                (System.nanoTime() - start) / 1e9, assignment == Assignment.STICKY ? "sticky" : "round-robin");
+        if (!failed.isEmpty()) {
+            System.err.println("⚠️ Left out of the pool: " + String.join(", ", failed));
+        }
+        return ok.size();
+    }
+
+    /** 👤 User for one call of `virtualUser` */
+    public Credentials assign(long virtualUser) {
+        List<Credentials> users = usable;
+        long slot = assignment == Assignment.STICKY ? virtualUser : next.getAndIncrement();
+        return users.get((int) Math.floorMod(slot, (long) users.size()));
+    }
+
+    /** 🔑 Current token of `user` */
+    public String token(Credentials user) throws IOException {
+        return SessionManager.shared().token(user);
+    }
+
+    /** 📝 Outcome of one call made as `user` (-1 = I/O error); a 401 drops the user's session */
+    public void record(Credentials user, int status) {
+        UserStats s = stats.get(user);
+        if (s == null) {
+            return;
+        }
+        s.requests.increment();
+        if (status < 200 || status >= 300) {
+            s.errors.increment();
+        }
+        if (status == 401) {
+            s.unauthorized.increment();
+            SessionManager.shared().invalidate(user);
+        } else if (status == 429) {
+            s.throttled.increment();
+        }
+    }
+
+    public int size() {
+        return usable.size();
+    }
+
+    /** 🚦 Users whose error rate is over twice the pool's (and over 1%) */
+    public List<String> hotUsers() {
+        long requests = stats.values().stream().mapToLong(s -> s.requests.sum()).sum();
+        long errors = stats.values().stream().mapToLong(s -> s.errors.sum()).sum();
+        double poolRate = requests == 0 ? 0 : (double) errors / requests;
+        List<String> hot = new ArrayList<>();
+        stats.forEach((c, s) -> {
+            if (s.requests.sum() > 0 && s.rate() > 0.01 && s.rate() > 2 * poolRate) {
+                hot.add(String.format("%s %.1f%% errors (%d × 429, %d × 401)", c.username(), s.rate() * 100,
+                        s.throttled.sum(), s.unauthorized.sum()));
+            }
+        });
+        return hot;
+    }
+
+    /** 📊 Per-user table; "" until a call was recorded */
+    public String report() {
+        if (stats.values().stream().allMatch(s -> s.requests.sum() == 0)) {
+            return "";
+        }
+        int width = Math.max(8, all.stream().mapToInt(c -> c.username().length()).max().orElse(8));
+        List<String> hot = hotUsers();
+        StringBuilder sb = new StringBuilder("👥 Credential pool (" + usable.size() + " / " + all.size() + " users, "
+                + (assignment == Assignment.STICKY ? "sticky" : "round-robin") + ")");
+        sb.append(String.format("%n   %-" + width + "s %9s %8s %7s %7s %7s", "USER", "REQUESTS", "ERRORS", "ERR %", "429", "401"));
+        stats.forEach((c, s) -> sb.append(String.format("%n   %-" + width + "s %9d %8d %6.1f%% %7d %7d%s", c.username(),
+                s.requests.sum(), s.errors.sum(), s.rate() * 100, s.throttled.sum(), s.unauthorized.sum(),
+                s.loginFailed ? "  login failed" : "")));
+        for (String user : hot) {
+            sb.append("\n⚠️ Hot user: ").append(user);
+        }
+        return sb.toString();
+    }
+
+    private static final class UserStats {
+
+        final LongAdder requests = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder throttled = new LongAdder();
+        final LongAdder unauthorized = new LongAdder();
+        volatile boolean loginFailed;
+
+        double rate() {
+            long n = requests.sum();
+            return n == 0 ? 0 : (double) errors.sum() / n;
+        }
+    }
+}
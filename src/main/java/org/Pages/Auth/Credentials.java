@@ -0,0 +1,13 @@
+package org.Pages.Auth;
+
+/**
+ * 🔑 One login identity: the login endpoint plus username / password.
+ * Sessions are cached per Credentials value.
+ */
+public record Credentials(String loginUrl, String username, String password) {
+
+    @Override
+    public String toString() {
+        return username + "@" + loginUrl;
+    }
+}
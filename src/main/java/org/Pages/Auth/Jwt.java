@@ -0,0 +1,44 @@
+package org.Pages.Auth;
+
+import org.Pages.Json.JsonFields;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * 🪪 Minimal JWT reader
+ * ---------------------
+ * Only decodes the payload to find the "exp" and "merchant_id" claims; signatures are the server's business.
+ */
+public final class Jwt {
+
+    private static final JsonFields EXP = JsonFields.of("exp");
+    private static final JsonFields MERCHANT_ID = JsonFields.of("merchant_id");
+
+    private Jwt() {
+    }
+
+    /** ⏳ Expiry as epoch seconds, or -1 when the token carries no readable exp claim */
+    public static long expiresAtEpochSeconds(String token) {
+        return longClaim(token, EXP, "exp");
+    }
+
+    /** 🏪 Tenant the token is scoped to, or -1 when it carries no readable merchant_id claim */
+    public static long merchantId(String token) {
+        return longClaim(token, MERCHANT_ID, "merchant_id");
+    }
+
+    private static long longClaim(String token, JsonFields fields, String claim) {
+        int first = token.indexOf('.');
+        if (first < 0) {
+            return -1;
+        }
+        int second = token.indexOf('.', first + 1);
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(token.substring(first + 1, second < 0 ? token.length() : second));
+            return fields.extract(payload).longValue(claim, -1);
+        } catch (IllegalArgumentException | IOException e) {
+            return -1;
+        }
+    }
+}
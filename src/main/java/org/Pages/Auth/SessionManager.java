@@ -0,0 +1,208 @@
+package org.Pages.Auth;
+
+import org.Pages.Http.ApiRequest;
+import org.Pages.Http.ApiResponse;
+import org.Pages.Http.BodyCheck;
+import org.Pages.Http.HttpEngine;
+import org.Pages.Metrics.RunReport;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.*;
+
+/**
+ * 🔐 Run-wide JWT sessions
+ * ------------------------
+ * - Logs in once per Credentials; concurrent callers wait on the single in-flight login
+ * - Reads the JWT "exp" claim and refreshes in the background before it expires
+ * - Callers keep getting the current token while a refresh is running
+ * - Login count and latency are exposed via metrics() and printed in the RunReport
+ */
+public final class SessionManager {
+
+    private static final SessionManager SHARED = new SessionManager();
+
+    static {
+        RunReport.register("session", () -> SHARED.metrics().toString());
+    }
+
+    /** Refresh this long before expiry (capped at 10% of the token lifetime) */
+    private static final long REFRESH_SKEW_SECONDS = Long.getLong("invoo.session.refreshSkewSeconds", 60);
+    private static final long RETRY_DELAY_SECONDS = 5;
+
+    /** Token at the top level, or wrapped in a "data" envelope; read while the body streams in */
+    private static final BodyCheck LOGIN_CHECK = BodyCheck.nonEmpty().extract("token", "data.token");
+
+    private final ConcurrentMap<Credentials, Session> sessions = new ConcurrentHashMap<>();
+    private final SessionMetrics metrics = new SessionMetrics();
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "session-refresher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private SessionManager() {
+    }
+
+    public static SessionManager shared() {
+        return SHARED;
+    }
+
+    /** 🔑 Current token for these credentials, logging in only if there is no valid one */
+    public String token(String loginUrl, String username, String password) throws IOException {
+        return token(new Credentials(loginUrl, username, password));
+    }
+
+    public String token(Credentials credentials) throws IOException {
+        return sessions.computeIfAbsent(credentials, Session::new).token();
+    }
+
+    /** 🧹 Drops the cached token, e.g. after the server answered 401 */
+    public void invalidate(Credentials credentials) {
+        Session session = sessions.get(credentials);
+        if (session != null) {
+            session.invalidate();
+        }
+    }
+
+    public SessionMetrics metrics() {
+        return metrics;
+    }
+
+    private Token login(Credentials credentials, boolean refresh) throws IOException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            String jsonBody = String.format("{\"username\":\"%s\",\"password\":\"%s\"}",
+                    credentials.username(), credentials.password());
+            ApiResponse response = HttpEngine.shared().send(
+                    ApiRequest.post(credentials.loginUrl(), jsonBody).check(LOGIN_CHECK));
+
+            if (response.status() != 200) {
+                throw new IOException("❌ Login failed! HTTP " + response.status());
+            }
+
+            String token = response.fields() == null ? null : response.fields().firstString("token", "data.token");
+            if (token == null || token.isEmpty()) {
+                throw new IOException("❌ Token not found in login response: " + response.preview(200));
+            }
+
+            ok = true;
+            System.out.println("✅ Logged in as " + credentials.username()
+                    + (refresh ? " (background refresh)" : "") + ", token acquired.");
+            return new Token(token, Jwt.expiresAtEpochSeconds(token));
+        } finally {
+            metrics.recordLogin(System.nanoTime() - start, ok, refresh);
+        }
+    }
+
+    private record Token(String value, long expiresAt) {
+
+        boolean usable() {
+            return expiresAt < 0 || System.currentTimeMillis() / 1000 < expiresAt;
+        }
+    }
+
+    /** One credential's token plus its single-flight login future */
+    private final class Session {
+
+        private final Credentials credentials;
+        private CompletableFuture<Token> current;
+
+        private Session(Credentials credentials) {
+            this.credentials = credentials;
+        }
+
+        String token() throws IOException {
+            CompletableFuture<Token> pending;
+            boolean leader = false;
+            synchronized (this) {
+                if (current == null || isStale(current)) {
+                    current = new CompletableFuture<>();
+                    leader = true;
+                }
+                pending = current;
+            }
+            if (leader) {
+                try {
+                    Token token = login(credentials, false);
+                    pending.complete(token);
+                    scheduleRefresh(token);
+                } catch (IOException | RuntimeException e) {
+                    pending.completeExceptionally(e);
+                } catch (Throwable t) {
+                    // an Error too must fail the future, or every later caller waits on it forever
+                    pending.completeExceptionally(t);
+                    throw t;
+                }
+            }
+            return await(pending).value();
+        }
+
+        synchronized void invalidate() {
+            current = null;
+        }
+
+        private boolean isStale(CompletableFuture<Token> future) {
+            if (!future.isDone()) {
+                return false;
+            }
+            if (future.isCompletedExceptionally()) {
+                return true;
+            }
+            return !future.join().usable();
+        }
+
+        private void scheduleRefresh(Token token) {
+            if (token.expiresAt() < 0) {
+                return;
+            }
+            long now = System.currentTimeMillis() / 1000;
+            long lifetime = token.expiresAt() - now;
+            long skew = Math.min(REFRESH_SKEW_SECONDS, Math.max(1, lifetime / 10));
+            long delay = Math.max(0, lifetime - skew);
+            refresher.schedule(() -> refresh(token), delay, TimeUnit.SECONDS);
+        }
+
+        private void refresh(Token previous) {
+            synchronized (this) {
+                // someone already replaced or invalidated the token
+                if (current == null || !current.isDone() || current.isCompletedExceptionally()
+                        || current.join() != previous) {
+                    return;
+                }
+            }
+            try {
+                Token fresh = login(credentials, true);
+                synchronized (this) {
+                    current = CompletableFuture.completedFuture(fresh);
+                }
+                scheduleRefresh(fresh);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("⚠️ Background token refresh failed for " + credentials + ": " + e.getMessage());
+                if (previous.usable()) {
+                    refresher.schedule(() -> refresh(previous), RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+                }
+            }
+        }
+
+        private Token await(CompletableFuture<Token> future) throws IOException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("❌ Interrupted while waiting for login of " + credentials);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException io) {
+                    throw io;
+                }
+                if (cause instanceof UncheckedIOException unchecked) {
+                    throw unchecked.getCause();
+                }
+                throw new IOException("❌ Login failed for " + credentials, cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.Pages.Auth;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 📊 Login counters for the whole run
+ * ------------------------------------
+ * - logins / failed logins / background refreshes
+ * - total and max login latency
+ */
+public final class SessionMetrics {
+
+    private final AtomicLong logins = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    void recordLogin(long nanos, boolean ok, boolean refresh) {
+        logins.incrementAndGet();
+        if (!ok) {
+            failures.incrementAndGet();
+        }
+        if (refresh) {
+            refreshes.incrementAndGet();
+        }
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long logins() {
+        return logins.get();
+    }
+
+    public long failures() {
+        return failures.get();
+    }
+
+    public long refreshes() {
+        return refreshes.get();
+    }
+
+    public double averageLoginMillis() {
+        long n = logins.get();
+        return n == 0 ? 0 : totalNanos.get() / (double) n / 1_000_000d;
+    }
+
+    public long maxLoginMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("🔐 Session logins: %d (%d background refreshes, %d failed), avg %.1f ms, max %d ms",
+                logins(), refreshes(), failures(), averageLoginMillis(), maxLoginMillis());
+    }
+}
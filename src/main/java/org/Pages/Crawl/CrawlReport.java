@@ -0,0 +1,110 @@
+package org.Pages.Crawl;
+
+import org.Pages.Http.Endpoint;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 🧾 Result of one pagination crawl
+ * ---------------------------------
+ * - records received vs. totalElements announced by page 0
+ * - per-page latency grouped into offset buckets (up to 10), so a backend whose
+ *   deep pages get slower shows a rising p50 / max column
+ * - least-squares slope of latency over offset (ms per 1,000 rows)
+ */
+public final class CrawlReport {
+
+    private static final int BUCKETS = 10;
+
+    private final Endpoint endpoint;
+    private final int pageSize;
+    private final int parallelism;
+    private final List<PageCrawler.PageResult> pages;
+    private final long totalElements;
+    private final boolean capped;
+    private final long elapsedNanos;
+
+    CrawlReport(Endpoint endpoint, int pageSize, int parallelism, List<PageCrawler.PageResult> pages,
+                long totalElements, boolean capped, long elapsedNanos) {
+        this.endpoint = endpoint;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.pages = pages;
+        this.totalElements = totalElements;
+        this.capped = capped;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public List<PageCrawler.PageResult> pages() {
+        return pages;
+    }
+
+    public long records() {
+        return pages.stream().mapToLong(PageCrawler.PageResult::records).sum();
+    }
+
+    /** totalElements announced by the first page, -1 when the API doesn't say */
+    public long totalElements() {
+        return totalElements;
+    }
+
+    /** Stopped at invoo.crawl.maxPages before reaching the end */
+    public boolean capped() {
+        return capped;
+    }
+
+    public List<PageCrawler.PageResult> failures() {
+        return pages.stream().filter(PageCrawler.PageResult::failed).toList();
+    }
+
+    /** 📈 Latency growth in ms per 1,000 rows of offset (least squares), NaN with < 2 pages */
+    public double slopeMillisPer1000Rows() {
+        List<PageCrawler.PageResult> ok = pages.stream().filter(p -> !p.failed()).toList();
+        if (ok.size() < 2) {
+            return Double.NaN;
+        }
+        double meanX = ok.stream().mapToDouble(PageCrawler.PageResult::offset).average().orElse(0);
+        double meanY = ok.stream().mapToDouble(p -> p.latencyNanos() / 1e6).average().orElse(0);
+        double num = 0;
+        double den = 0;
+        for (PageCrawler.PageResult p : ok) {
+            double dx = p.offset() - meanX;
+            num += dx * (p.latencyNanos() / 1e6 - meanY);
+            den += dx * dx;
+        }
+        return den == 0 ? Double.NaN : num / den * 1000;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format(
+                "📚 Crawl %s: %d records in %d pages (size %d, parallelism %d) in %.2f s%s%s",
+                endpoint.name(), records(), pages.size(), pageSize, parallelism, elapsedNanos / 1e9,
+                totalElements >= 0 ? ", totalElements " + totalElements : "",
+                capped ? " — capped at invoo.crawl.maxPages" : ""));
+        sb.append(String.format("%n   %-15s %6s %9s %9s %9s %10s", "OFFSET", "PAGES", "p50 ms", "max ms", "RECORDS", "KB"));
+
+        PageCrawler.PageResult[] sorted = pages.stream().filter(p -> !p.failed())
+                .sorted((a, b) -> Long.compare(a.offset(), b.offset())).toArray(PageCrawler.PageResult[]::new);
+        int perBucket = Math.max(1, (sorted.length + BUCKETS - 1) / BUCKETS);
+        for (int from = 0; from < sorted.length; from += perBucket) {
+            PageCrawler.PageResult[] bucket = Arrays.copyOfRange(sorted, from, Math.min(sorted.length, from + perBucket));
+            long[] latencies = Arrays.stream(bucket).mapToLong(PageCrawler.PageResult::latencyNanos).sorted().toArray();
+            String range = bucket.length == 1 ? String.valueOf(bucket[0].offset())
+                    : bucket[0].offset() + "-" + bucket[bucket.length - 1].offset();
+            sb.append(String.format("%n   %-15s %6d %9.2f %9.2f %9d %10.1f", range, bucket.length,
+                    latencies[(latencies.length - 1) / 2] / 1e6, latencies[latencies.length - 1] / 1e6,
+                    Arrays.stream(bucket).mapToLong(PageCrawler.PageResult::records).sum(),
+                    Arrays.stream(bucket).mapToLong(PageCrawler.PageResult::bytes).sum() / 1024.0));
+        }
+        double slope = slopeMillisPer1000Rows();
+        if (!Double.isNaN(slope)) {
+            sb.append(String.format("%n   📈 latency vs offset: %+.2f ms per 1,000 rows", slope));
+        }
+        for (PageCrawler.PageResult failed : failures()) {
+            sb.append(String.format("%n   ❌ page %d (offset %d): %s", failed.page(), failed.offset(), failed.error()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,160 @@
+package org.Pages.Crawl;
+
+import org.Pages.Http.ApiRequest;
+import org.Pages.Http.ApiResponse;
+import org.Pages.Http.BodyCheck;
+import org.Pages.Http.Endpoint;
+import org.Pages.Http.HttpEngine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 📚 Pagination crawler for list endpoints
+ * ----------------------------------------
+ * 1. Fetches page 0 and reads totalElements / totalPages
+ * 2. Fetches the remaining pages concurrently (at most `parallelism` in flight)
+ * 3. Streams every record of "content" to the consumer while each page arrives
+ * 4. Records per-page latency so CrawlReport can show how it grows with offset
+ *
+ * GET endpoints are paged with ?page=&size=, POST endpoints with "page" / "size"
+ * in the JSON body. Without totalPages / totalElements pages are read one after
+ * another until "last" or an empty page. -Dinvoo.crawl.maxPages (default 200)
+ * caps very large lists.
+ *
+ * The consumer is called from several threads at once.
+ */
+public final class PageCrawler {
+
+    private static final Pattern PAGE_FIELD = Pattern.compile("\"page\"\\s*:\\s*\\d+");
+    private static final Pattern SIZE_FIELD = Pattern.compile("\"size\"\\s*:\\s*\\d+");
+
+    private final Endpoint endpoint;
+    private final int pageSize;
+    private final int parallelism;
+    private final int maxPages;
+
+    public PageCrawler(Endpoint endpoint, int pageSize, int parallelism) {
+        this(endpoint, pageSize, parallelism, Integer.getInteger("invoo.crawl.maxPages", 200));
+    }
+
+    public PageCrawler(Endpoint endpoint, int pageSize, int parallelism, int maxPages) {
+        this.endpoint = endpoint;
+        this.pageSize = pageSize;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxPages = Math.max(1, maxPages);
+    }
+
+    /** ▶️ Crawls every page; failures are collected in the report rather than thrown */
+    public CrawlReport crawl(Callable<String> tokens, Consumer<byte[]> records) {
+        long start = System.nanoTime();
+        PageResult first = fetch(0, tokens, records);
+        List<PageResult> pages = new ArrayList<>();
+        pages.add(first);
+
+        int totalPages = first.totalPages() >= 0 ? first.totalPages()
+                : first.totalElements() >= 0 ? (int) ((first.totalElements() + pageSize - 1) / pageSize) : -1;
+
+        if (totalPages < 0) {
+            // no totals: walk forward until the API says we're done
+            PageResult last = first;
+            while (!last.failed() && !last.last() && last.records() > 0 && pages.size() < maxPages) {
+                last = fetch(pages.size(), tokens, records);
+                pages.add(last);
+            }
+        } else if (!first.failed()) {
+            int toFetch = Math.min(totalPages, maxPages);
+            PageResult[] rest = new PageResult[Math.max(0, toFetch - 1)];
+            Semaphore inFlight = new Semaphore(parallelism);
+            try (ExecutorService workers = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("crawl-" + endpoint.name().toLowerCase() + "-", 0).factory())) {
+                for (int page = 1; page < toFetch; page++) {
+                    inFlight.acquireUninterruptibly();
+                    int p = page;
+                    workers.execute(() -> {
+                        try {
+                            rest[p - 1] = fetch(p, tokens, records);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            }
+            pages.addAll(List.of(rest));
+        }
+
+        boolean capped = totalPages > maxPages || totalPages < 0 && pages.size() >= maxPages;
+        return new CrawlReport(endpoint, pageSize, parallelism, pages, first.totalElements(), capped,
+                System.nanoTime() - start);
+    }
+
+    private PageResult fetch(int page, Callable<String> tokens, Consumer<byte[]> records) {
+        AtomicInteger count = new AtomicInteger();
+        BodyCheck check = BodyCheck.json("content")
+                .extract("totalElements", "totalPages", "last")
+                .forEach("content", record -> {
+                    count.incrementAndGet();
+                    records.accept(record);
+                });
+        long start = System.nanoTime();
+        try {
+            String token = endpoint.authenticated() ? tokens.call() : null;
+            start = System.nanoTime(); // the first call may log in; that isn't page latency
+            ApiResponse response = HttpEngine.shared().send(request(page).bearer(token).check(check).noCache());
+            long latency = System.nanoTime() - start;
+            boolean ok = response.status() >= 200 && response.status() < 300 && response.valid();
+            String error = ok ? null : "HTTP " + response.status()
+                    + (response.valid() ? "" : ", " + String.join("; ", response.violations()));
+            return new PageResult(page, (long) page * pageSize, response.status(), latency, count.get(),
+                    response.bodyLength(),
+                    response.fields() == null ? -1 : response.fields().longValue("totalElements", -1),
+                    response.fields() == null ? -1 : (int) response.fields().longValue("totalPages", -1),
+                    response.fields() != null && "true".equals(response.fields().string("last")),
+                    error);
+        } catch (Exception e) {
+            return new PageResult(page, (long) page * pageSize, -1, System.nanoTime() - start, count.get(), 0,
+                    -1, -1, false, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    /** The endpoint's request with page / size swapped in */
+    ApiRequest request(int page) {
+        if ("GET".equals(endpoint.method())) {
+            String url = endpoint.url();
+            int q = url.indexOf('?');
+            StringBuilder sb = new StringBuilder(q < 0 ? url : url.substring(0, q)).append('?');
+            if (q >= 0) {
+                for (String param : url.substring(q + 1).split("&")) {
+                    if (!param.startsWith("page=") && !param.startsWith("size=") && !param.isEmpty()) {
+                        sb.append(param).append('&');
+                    }
+                }
+            }
+            sb.append("page=").append(page).append("&size=").append(pageSize);
+            return ApiRequest.get(sb.toString());
+        }
+        String body = endpoint.body() == null ? "{}" : endpoint.body();
+        body = PAGE_FIELD.matcher(body).find() ? PAGE_FIELD.matcher(body).replaceFirst("\"page\":" + page)
+                : body.replaceFirst("\\{", "{\"page\":" + page + (body.trim().equals("{}") ? "" : ","));
+        body = SIZE_FIELD.matcher(body).find() ? SIZE_FIELD.matcher(body).replaceFirst("\"size\":" + pageSize)
+                : body.replaceFirst("\\{", "{\"size\":" + pageSize + ",");
+        return ApiRequest.of(endpoint.method(), endpoint.url()).body(body);
+    }
+
+    /** One fetched page */
+    public record PageResult(int page, long offset, int status, long latencyNanos, int records, long bytes,
+                             long totalElements, int totalPages, boolean last, String error) {
+
+        public boolean failed() {
+            return error != null;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.Pages.History;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 📖 Endpoint ids for a ResultRing
+ * --------------------------------
+ * Records store a 4-byte id; the names ("GET /api/v1/customers") live next to the
+ * ring in &lt;ring&gt;.endpoints, one per line, line number = id. New names are
+ * appended, existing ids never change.
+ */
+public final class EndpointDictionary {
+
+    private final Path file;
+    private final List<String> names = new ArrayList<>();
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+
+    private EndpointDictionary(Path file) {
+        this.file = file;
+    }
+
+    /** The dictionary file belonging to a ring file */
+    public static Path fileFor(Path ring) {
+        return ring.resolveSibling(ring.getFileName() + ".endpoints");
+    }
+
+    public static EndpointDictionary load(Path file) throws IOException {
+        EndpointDictionary dictionary = new EndpointDictionary(file);
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                dictionary.ids.putIfAbsent(line, dictionary.names.size());
+                dictionary.names.add(line);
+            }
+        }
+        return dictionary;
+    }
+
+    /** 🔑 Id for the name, assigning (and persisting) a new one on first use */
+    public int id(String name) throws IOException {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(name);
+            if (id == null) {
+                try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    out.write(name.replace('\n', ' ') + "\n");
+                }
+                id = names.size();
+                names.add(name);
+                ids.put(name, id);
+            }
+            return id;
+        }
+    }
+
+    /** Name for an id, or "#id" when it's unknown */
+    public synchronized String name(int id) {
+        return id >= 0 && id < names.size() ? names.get(id) : "#" + id;
+    }
+}
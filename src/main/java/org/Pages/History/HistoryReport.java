@@ -0,0 +1,185 @@
+package org.Pages.History;
+
+import org.HdrHistogram.Histogram;
+import org.Pages.Metrics.Durations;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📈 Percentiles per endpoint per time bucket from a ResultRing
+ * -------------------------------------------------------------
+ *   java -cp "target/classes:$(cat cp.txt)" org.Pages.History.HistoryReport \
+ *       .invoo/history/results.ring --since 24h --bucket 1h --endpoint customers --kind REQUEST
+ *
+ * --since / --until are durations before now (default 24h / 0); --bucket
+ * defaults to 1h. The ring is mapped read-only and streamed once: memory is one
+ * small histogram per (bucket, endpoint), however many records the file holds.
+ */
+public final class HistoryReport {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
+            .withZone(ZoneId.systemDefault());
+
+    private HistoryReport() {
+    }
+
+    /** Aggregated outcomes of one endpoint in one bucket */
+    public static final class Aggregate {
+
+        private final Histogram latency = new Histogram(1, TimeUnit.MINUTES.toMicros(10), 2);
+        private long failed;
+        private long bytes;
+
+        private void add(int status, int latencyMicros, long length) {
+            latency.recordValue(Math.min(Math.max(1, latencyMicros), latency.getHighestTrackableValue()));
+            if (status < 200 || status >= 400) {
+                failed++;
+            }
+            bytes += length;
+        }
+
+        public Histogram latency() {
+            return latency;
+        }
+
+        public long count() {
+            return latency.getTotalCount();
+        }
+
+        /** non-2xx/3xx responses and I/O errors */
+        public long failed() {
+            return failed;
+        }
+
+        public long bytes() {
+            return bytes;
+        }
+    }
+
+    /**
+     * 🔎 Streams [from, to) and aggregates per bucket start → endpoint id.
+     * kind < 0 keeps every kind; endpoints == null keeps every endpoint.
+     */
+    public static Map<Long, Aggregate[]> aggregate(ResultRing ring, long fromMillis, long toMillis, long bucketMillis,
+                                                   boolean[] endpoints, int kind) {
+        Map<Long, Aggregate[]> buckets = new TreeMap<>();
+        Aggregate[][] current = {new Aggregate[0]};
+        long[] currentStart = {Long.MIN_VALUE};
+        ring.scan(fromMillis, toMillis, (timestamp, endpoint, status, k, latencyMicros, bytes) -> {
+            if (kind >= 0 && k != kind || endpoints != null && (endpoint >= endpoints.length || !endpoints[endpoint])) {
+                return;
+            }
+            long start = timestamp - Math.floorMod(timestamp, bucketMillis);
+            if (start != currentStart[0]) {
+                currentStart[0] = start;
+                current[0] = buckets.getOrDefault(start, new Aggregate[0]);
+            }
+            Aggregate[] row = current[0];
+            if (endpoint >= row.length) {
+                row = Arrays.copyOf(row, endpoint + 1);
+                current[0] = row;
+                buckets.put(start, row);
+            }
+            if (row[endpoint] == null) {
+                row[endpoint] = new Aggregate();
+                buckets.put(start, row);
+            }
+            row[endpoint].add(status, latencyMicros, bytes);
+        });
+        return buckets;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = null;
+        String since = "24h";
+        String until = "0";
+        String bucket = "1h";
+        String endpointFilter = null;
+        String kind = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--since" -> since = args[++i];
+                case "--until" -> until = args[++i];
+                case "--bucket" -> bucket = args[++i];
+                case "--endpoint" -> endpointFilter = args[++i];
+                case "--kind" -> kind = args[++i];
+                default -> file = Paths.get(args[i]);
+            }
+        }
+        if (file == null) {
+            System.err.println("❌ Usage: HistoryReport <ring file> [--since 24h] [--until 0] [--bucket 1h]"
+                    + " [--endpoint text] [--kind REQUEST|REPLAY|PROBE]");
+            System.exit(2);
+        }
+
+        long now = System.currentTimeMillis();
+        long from = now - Durations.parse(since).toMillis();
+        long to = now - Durations.parse(until).toMillis();
+        long bucketMillis = Math.max(1, Durations.parse(bucket).toMillis());
+        EndpointDictionary names = EndpointDictionary.load(EndpointDictionary.fileFor(file));
+
+        try (ResultRing ring = ResultRing.openForReading(file)) {
+            boolean[] endpoints = null;
+            if (endpointFilter != null) {
+                endpoints = new boolean[4096];
+                for (int id = 0; id < endpoints.length; id++) {
+                    endpoints[id] = names.name(id).toLowerCase().contains(endpointFilter.toLowerCase());
+                }
+            }
+            int kindOrdinal = kind == null ? -1 : ResultHistory.Kind.valueOf(kind.toUpperCase()).ordinal();
+            long started = System.nanoTime();
+            Map<Long, Aggregate[]> buckets = aggregate(ring, from, to, bucketMillis, endpoints, kindOrdinal);
+            System.out.println(table(ring, names, buckets, bucket));
+            System.out.printf("   (scanned in %s)%n", Durations.format(Duration.ofNanos(System.nanoTime() - started)));
+        }
+    }
+
+    static String table(ResultRing ring, EndpointDictionary names, Map<Long, Aggregate[]> buckets, String bucket) {
+        List<String[]> rows = new ArrayList<>();
+        long records = 0;
+        for (Map.Entry<Long, Aggregate[]> entry : buckets.entrySet()) {
+            Aggregate[] row = entry.getValue();
+            List<Integer> ids = new ArrayList<>();
+            for (int id = 0; id < row.length; id++) {
+                if (row[id] != null) {
+                    ids.add(id);
+                }
+            }
+            ids.sort((a, b) -> names.name(a).compareTo(names.name(b)));
+            for (int id : ids) {
+                Aggregate a = row[id];
+                records += a.count();
+                rows.add(new String[]{TIME.format(Instant.ofEpochMilli(entry.getKey())), names.name(id),
+                        String.valueOf(a.count()), String.valueOf(a.failed()),
+                        ms(a.latency, 50), ms(a.latency, 95), ms(a.latency, 99),
+                        String.format("%.1f", a.latency.getMaxValue() / 1000.0),
+                        String.format("%.2f", a.bytes / 1048576.0)});
+            }
+        }
+        int width = Math.max(8, rows.stream().mapToInt(r -> r[1].length()).max().orElse(0));
+        StringBuilder sb = new StringBuilder(String.format("📈 History %s: %d records in range (%d in file, per %s)",
+                ring.file(), records, ring.size(), bucket));
+        String format = "%n   %-16s %-" + width + "s %8s %7s %9s %9s %9s %9s %8s";
+        sb.append(String.format(format, "BUCKET", "ENDPOINT", "COUNT", "FAILED", "p50 ms", "p95 ms", "p99 ms", "max ms", "MB"));
+        for (String[] r : rows) {
+            sb.append(String.format(format, (Object[]) r));
+        }
+        return sb.toString();
+    }
+
+    private static String ms(Histogram h, double percentile) {
+        return String.format("%.1f", h.getValueAtPercentile(percentile) / 1000.0);
+    }
+}
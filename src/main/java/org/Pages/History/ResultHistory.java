@@ -0,0 +1,106 @@
+package org.Pages.History;
+
+import org.Pages.Metrics.RunReport;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 🗃️ Run-to-run history of every request and probe outcome
+ * --------------------------------------------------------
+ * - HttpEngine appends each exchange (REQUEST, or REPLAY when the cache /
+ *   coalescer answered), the synthetic monitor each probe (PROBE) instead of
+ *   the engine's record for that call, so every call is counted once
+ * - Stored in a ResultRing at -Dinvoo.history.file (default
+ *   .invoo/history/results.ring, outside target/ so mvn clean keeps it;
+ *   "none" turns it off) with room for
+ *   -Dinvoo.history.capacity records (default 2,000,000 = 64 MB, sparse on disk)
+ * - If the file can't be opened (e.g. another process is writing it) history is
+ *   skipped with a warning; it never fails a run
+ *
+ * Read it back with HistoryReport.
+ */
+public final class ResultHistory {
+
+    /** What produced the record */
+    public enum Kind {
+        /** went to the network */
+        REQUEST,
+        /** served by the HttpCache or the RequestCoalescer */
+        REPLAY,
+        /** synthetic monitor check */
+        PROBE
+    }
+
+    private static final ResultHistory SHARED = fromProperties();
+
+    static {
+        RunReport.register("history", SHARED::report);
+    }
+
+    private final ResultRing ring;
+    private final EndpointDictionary endpoints;
+    private final LongAdder appended = new LongAdder();
+
+    private ResultHistory(ResultRing ring, EndpointDictionary endpoints) {
+        this.ring = ring;
+        this.endpoints = endpoints;
+    }
+
+    public static ResultHistory shared() {
+        return SHARED;
+    }
+
+    private static ResultHistory fromProperties() {
+        String file = System.getProperty("invoo.history.file", ".invoo/history/results.ring");
+        if (file.isBlank() || file.equals("none")) {
+            return new ResultHistory(null, null);
+        }
+        Path path = Paths.get(file);
+        try {
+            ResultRing ring = ResultRing.openForWriting(path, Long.getLong("invoo.history.capacity", 2_000_000));
+            EndpointDictionary endpoints = EndpointDictionary.load(EndpointDictionary.fileFor(path));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    ring.close();
+                } catch (IOException e) {
+                    System.err.println("⚠️ Could not close " + path + ": " + e.getMessage());
+                }
+            }, "history-close"));
+            return new ResultHistory(ring, endpoints);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("⚠️ Result history disabled: " + e.getMessage());
+            return new ResultHistory(null, null);
+        }
+    }
+
+    /** ➕ Appends one outcome; key is LatencyRecorder.key(method, uri), status -1 for I/O errors */
+    public void record(String key, int status, long latencyNanos, long bytes, Kind kind) {
+        if (ring == null) {
+            return;
+        }
+        try {
+            ring.appendNow(endpoints.id(key), status, kind.ordinal(),
+                    TimeUnit.NANOSECONDS.toMicros(latencyNanos), bytes);
+            appended.increment();
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not record history for " + key + ": " + e.getMessage());
+        }
+    }
+
+    public boolean enabled() {
+        return ring != null;
+    }
+
+    /** 📊 One line for the RunReport */
+    public String report() {
+        if (ring == null || appended.sum() == 0) {
+            return "";
+        }
+        return String.format("🗃️ History: %d records appended to %s (%d of %d slots used)",
+                appended.sum(), ring.file(), ring.size(), ring.capacity());
+    }
+}
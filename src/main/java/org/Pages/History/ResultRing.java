@@ -0,0 +1,289 @@
+package org.Pages.History;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 💽 Memory-mapped ring buffer of request / probe outcomes
+ * --------------------------------------------------------
+ * One file: a 64-byte header followed by `capacity` fixed 32-byte records.
+ * When full, the oldest records are overwritten.
+ *
+ *   0  long  timestamp (epoch ms)
+ *   8  int   endpoint id (see EndpointDictionary)
+ *   12 short HTTP status (-1 = I/O error)
+ *   14 byte  kind (ResultHistory.Kind)
+ *   16 int   latency (µs, saturating)
+ *   20 int   commit stamp ((int) (sequence + 1), written last; its complement
+ *            while the slot is being rewritten)
+ *   24 long  body bytes
+ *
+ * - append() claims a slot with one atomic increment and writes straight into
+ *   the mapping: no locks, no allocation, no syscalls. The header's record
+ *   count is only refreshed every 1024 appends (and on close), and only ever
+ *   moves forward (CAS), so a slow writer can't publish an older count over a
+ *   newer one; readers in other processes follow the commit stamps past it
+ * - The commit stamp is a seqlock: the writer invalidates it before touching
+ *   the fields and stamps the new sequence last; a reader copies the record
+ *   between two reads of the stamp and skips it unless both are the expected
+ *   one, so half-written slots and slots overwritten by a newer lap (even
+ *   while being read) never surface as records mixing two laps
+ * - Records are in append order and appendNow() reads the clock only after
+ *   claiming its slot, so timestamps follow the sequence up to a thread being
+ *   descheduled in between; time-range scans binary-search the start and
+ *   stream forward with REORDER_MILLIS of slack on both ends, nothing is
+ *   copied onto the heap
+ * - One writer process per file (an exclusive file lock); readers map it read-only
+ * - Up to ~67 M records per file (a single mapping is limited to 2 GB)
+ */
+public final class ResultRing implements AutoCloseable {
+
+    public static final int RECORD_BYTES = 32;
+    static final int HEADER_BYTES = 64;
+
+    private static final long MAGIC = 0x494E564F4F52494EL; // "INVOORIN"
+    private static final int VERSION = 1;
+    private static final int MAX_LATENCY_MICROS = Integer.MAX_VALUE;
+    /** The header's next-sequence field is refreshed every 1024 appends; readers walk the stamps past it */
+    private static final long HEADER_EVERY_MASK = 1023;
+    private static final int HEADER_NEXT = 24;
+    /** Atomic access to the header's next-sequence field (mappings are big-endian, like getLong) */
+    private static final VarHandle HEADER_LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    /** How far a record's timestamp may run ahead of a later sequence's (writer descheduled after claiming) */
+    static final long REORDER_MILLIS = 100;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final MappedByteBuffer map;
+    private final long capacity;
+    private final boolean writable;
+    private final AtomicLong next;
+
+    /** Receives one record at a time during a scan; arguments are only valid during the call */
+    @FunctionalInterface
+    public interface Visitor {
+        void accept(long timestampMillis, int endpointId, int status, int kind, int latencyMicros, long bytes);
+    }
+
+    private ResultRing(Path file, FileChannel channel, FileLock lock, MappedByteBuffer map, long capacity,
+                       boolean writable) {
+        this.file = file;
+        this.channel = channel;
+        this.lock = lock;
+        this.map = map;
+        this.capacity = capacity;
+        this.writable = writable;
+        // the header may lag by up to 1024 records after a crash; the stamps know better
+        this.next = new AtomicLong(committedFrom(map.getLong(HEADER_NEXT)));
+    }
+
+    /** ✍️ Opens (or creates) the file for appending; an existing file keeps its capacity and records */
+    public static ResultRing openForWriting(Path file, long capacity) throws IOException {
+        if (capacity < 1 || capacity > (Integer.MAX_VALUE - HEADER_BYTES) / RECORD_BYTES) {
+            throw new IllegalArgumentException("❌ Ring capacity must be 1.." + (Integer.MAX_VALUE - HEADER_BYTES) / RECORD_BYTES);
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                throw new IOException("❌ " + file + " is being written by another process");
+            }
+            boolean fresh = channel.size() == 0;
+            long ringCapacity = fresh ? capacity : readHeader(channel, file);
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_BYTES + ringCapacity * RECORD_BYTES);
+            if (fresh) {
+                map.putLong(0, MAGIC);
+                map.putInt(8, VERSION);
+                map.putInt(12, RECORD_BYTES);
+                map.putLong(16, ringCapacity);
+                map.putLong(HEADER_NEXT, 0);
+            }
+            return new ResultRing(file, channel, lock, map, ringCapacity, true);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** 📖 Maps an existing file read-only (safe while another process appends) */
+    public static ResultRing openForReading(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long ringCapacity = readHeader(channel, file);
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES + ringCapacity * RECORD_BYTES);
+            return new ResultRing(file, channel, null, map, ringCapacity, false);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static long readHeader(FileChannel channel, Path file) throws IOException {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), HEADER_BYTES));
+        if (header.limit() < HEADER_BYTES || header.getLong(0) != MAGIC) {
+            throw new IOException("❌ " + file + " is not a result ring");
+        }
+        if (header.getInt(8) != VERSION || header.getInt(12) != RECORD_BYTES) {
+            throw new IOException("❌ " + file + ": unsupported ring version " + header.getInt(8));
+        }
+        long capacity = header.getLong(16);
+        if (channel.size() < HEADER_BYTES + capacity * RECORD_BYTES) {
+            throw new IOException("❌ " + file + " is truncated");
+        }
+        return capacity;
+    }
+
+    /** ➕ Appends one record stamped with the current time, read after its slot is claimed */
+    public long appendNow(int endpointId, int status, int kind, long latencyMicros, long bytes) {
+        long seq = claim();
+        write(seq, System.currentTimeMillis(), endpointId, status, kind, latencyMicros, bytes);
+        return seq;
+    }
+
+    /** ➕ Appends one record and returns its sequence number */
+    public long append(long timestampMillis, int endpointId, int status, int kind, long latencyMicros, long bytes) {
+        long seq = claim();
+        write(seq, timestampMillis, endpointId, status, kind, latencyMicros, bytes);
+        return seq;
+    }
+
+    private long claim() {
+        if (!writable) {
+            throw new IllegalStateException("❌ " + file + " was opened read-only");
+        }
+        return next.getAndIncrement();
+    }
+
+    private void write(long seq, long timestampMillis, int endpointId, int status, int kind, long latencyMicros,
+                       long bytes) {
+        int at = offset(seq);
+        // never this sequence's stamp, so no reader takes the slot while the fields change
+        map.putInt(at + 20, ~(int) (seq + 1));
+        VarHandle.releaseFence();
+        map.putLong(at, timestampMillis);
+        map.putInt(at + 8, endpointId);
+        map.putShort(at + 12, (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, status)));
+        map.put(at + 14, (byte) kind);
+        map.putInt(at + 16, (int) Math.min(MAX_LATENCY_MICROS, Math.max(0, latencyMicros)));
+        map.putLong(at + 24, bytes);
+        VarHandle.releaseFence();
+        map.putInt(at + 20, (int) (seq + 1));
+        if ((seq & HEADER_EVERY_MASK) == 0) {
+            publish(seq + 1);
+        }
+    }
+
+    /** Moves the header's next sequence up to `head`, never back */
+    private void publish(long head) {
+        long current = (long) HEADER_LONG.getVolatile(map, HEADER_NEXT);
+        while (current < head && !HEADER_LONG.compareAndSet(map, HEADER_NEXT, current, head)) {
+            current = (long) HEADER_LONG.getVolatile(map, HEADER_NEXT);
+        }
+    }
+
+    /** 🔎 Visits committed records with from <= timestamp < to, oldest first */
+    public void scan(long fromMillis, long toMillis, Visitor visitor) {
+        long end = head();
+        long start = Math.max(0, end - capacity);
+        long seekMillis = fromMillis < Long.MIN_VALUE + REORDER_MILLIS ? Long.MIN_VALUE : fromMillis - REORDER_MILLIS;
+        long stopMillis = toMillis > Long.MAX_VALUE - REORDER_MILLIS ? Long.MAX_VALUE : toMillis + REORDER_MILLIS;
+        long lo = start;
+        long hi = end;
+        while (lo < hi) {
+            long mid = (lo + hi) >>> 1;
+            if (map.getLong(offset(mid)) < seekMillis) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        for (long seq = lo; seq < end; seq++) {
+            int at = offset(seq);
+            int stamp = map.getInt(at + 20);
+            VarHandle.acquireFence();
+            long timestamp = map.getLong(at);
+            int endpointId = map.getInt(at + 8);
+            short status = map.getShort(at + 12);
+            byte kind = map.get(at + 14);
+            int latencyMicros = map.getInt(at + 16);
+            long bytes = map.getLong(at + 24);
+            VarHandle.acquireFence();
+            // half-written, from another lap, or rewritten while it was copied
+            if (stamp != (int) (seq + 1) || map.getInt(at + 20) != stamp) {
+                continue;
+            }
+            if (timestamp >= stopMillis) {
+                break;
+            }
+            if (timestamp >= fromMillis && timestamp < toMillis) {
+                visitor.accept(timestamp, endpointId, status, kind, latencyMicros, bytes);
+            }
+        }
+    }
+
+    /** Records ever appended (the next sequence number) */
+    public long head() {
+        return writable ? next.get() : committedFrom(map.getLong(HEADER_NEXT));
+    }
+
+    /** First sequence after `seq` whose slot isn't committed */
+    private long committedFrom(long seq) {
+        long head = seq;
+        for (long limit = seq + capacity; head < limit && map.getInt(offset(head) + 20) == (int) (head + 1); head++) {
+            VarHandle.acquireFence();
+        }
+        return head;
+    }
+
+    /** Records still in the file */
+    public long size() {
+        return Math.min(head(), capacity);
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /** 💾 Flushes dirty pages to disk (the OS does it anyway; useful before copying the file) */
+    public void force() {
+        if (writable) {
+            publish(next.get());
+            map.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writable) {
+            publish(next.get());
+            map.force();
+        }
+        if (lock != null) {
+            lock.release();
+        }
+        channel.close();
+    }
+
+    private int offset(long seq) {
+        return HEADER_BYTES + (int) (seq % capacity) * RECORD_BYTES;
+    }
+}
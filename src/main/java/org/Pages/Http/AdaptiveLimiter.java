@@ -0,0 +1,401 @@
+package org.Pages.Http;
+
+import org.Pages.Metrics.Durations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 🎚️ Per-host in-flight limit (the host's bulkhead)
+ * -------------------------------------------------
+ * - Fixed by default: HostConfig.maxConcurrency() slots in a fair Semaphore, as
+ *   before (lock-free when a slot is free; samples are ignored)
+ * - -Dinvoo.http.adaptive=true turns it into an AIMD limiter that looks for the
+ *   host's real concurrency capacity:
+ *   - the limit starts at -Dinvoo.http.adaptive.initial (default 10) and
+ *     moves between .min (default 1) and .max (default 1000, never above the
+ *     host's maxConcurrency)
+ *   - samples are taken in windows of `limit` completions; a window whose
+ *     calls filled the limit and whose RTT stayed flat adds one slot
+ *   - every RTT is compared with its own endpoint's baseline (its lowest RTT),
+ *     so a mix of fast and slow endpoints doesn't look like queueing.
+ *     Flat = mean RTT / baseline within .tolerance (default 2.0) or mean
+ *     RTT - baseline within .slack (default 5ms, so sub-millisecond jitter of
+ *     a fast endpoint is not mistaken for queueing)
+ *   - re-probe: when not one of an endpoint's last 256 samples was flat, its
+ *     baseline is stale (the backend got slower for good, cuts didn't help)
+ *     and the lowest of those samples becomes the new baseline
+ *   - a 429, a 5xx or an I/O error (timeouts included, retried attempts too)
+ *     multiplies the limit by .backoff (default 0.9) at once, and so does a
+ *     window whose mean RTT went past the tolerance; at most one cut per window
+ * - RTT is the returned attempt's own send-to-headers time, so neither waiting
+ *   for a slot nor earlier retried attempts, their backoff or a hedge's wait
+ *   feed back into the limit (the retried attempts count as drops instead)
+ * - The settled limit (moving average over the last ~50 completions) is
+ *   reported per host and per endpoint in the RunReport
+ */
+public final class AdaptiveLimiter {
+
+    private static final int MIN_WINDOW = 10;
+    private static final double SETTLE_WEIGHT = 0.02;
+    private static final int BASELINE_EPOCH = 256;
+
+    private final String host;
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final long slackNanos;
+    private final double backoff;
+    private final Semaphore fixed;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition freed = lock.newCondition();
+    private final Map<String, EndpointLimit> endpoints = new HashMap<>();
+
+    private double limit;
+    private int inFlight;
+    private double settled;
+    private int lowest;
+    private int highest;
+
+    private int windowSamples;
+    private int windowOk;
+    private double windowRatio;
+    private long windowExcessNanos;
+    private boolean windowSaturated;
+    private boolean windowCut;
+
+    private long increases;
+    private long throttleCuts;
+    private long serverErrorCuts;
+    private long errorCuts;
+    private long latencyCuts;
+
+    /** adaptive = false keeps a fixed `initial` limit and ignores samples */
+    public AdaptiveLimiter(String host, boolean adaptive, int initial, int min, int max, double tolerance,
+                           Duration slack, double backoff) {
+        if (min < 1 || max < min) {
+            throw new IllegalArgumentException("❌ Adaptive limit range " + min + ".." + max + " for " + host);
+        }
+        if (tolerance <= 1 || backoff <= 0 || backoff >= 1) {
+            throw new IllegalArgumentException("❌ Adaptive limiter for " + host + " needs tolerance > 1 and 0 < backoff < 1");
+        }
+        this.host = host;
+        this.adaptive = adaptive;
+        this.minLimit = adaptive ? min : initial;
+        this.maxLimit = adaptive ? max : initial;
+        this.tolerance = tolerance;
+        this.slackNanos = slack.toNanos();
+        this.backoff = backoff;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initial));
+        this.fixed = adaptive ? null : new Semaphore((int) limit, true);
+        this.settled = limit;
+        this.lowest = (int) limit;
+        this.highest = (int) limit;
+    }
+
+    static AdaptiveLimiter forHost(String host, int maxConcurrency) {
+        boolean adaptive = Boolean.parseBoolean(System.getProperty("invoo.http.adaptive", "false"));
+        if (!adaptive) {
+            return new AdaptiveLimiter(host, false, maxConcurrency, 1, maxConcurrency, 2.0, Duration.ZERO, 0.9);
+        }
+        int max = Math.min(maxConcurrency, Integer.getInteger("invoo.http.adaptive.max", 1000));
+        int min = Math.min(max, Integer.getInteger("invoo.http.adaptive.min", 1));
+        return new AdaptiveLimiter(host, true,
+                Integer.getInteger("invoo.http.adaptive.initial", 10), min, max,
+                Double.parseDouble(System.getProperty("invoo.http.adaptive.tolerance", "2.0")),
+                Durations.parse(System.getProperty("invoo.http.adaptive.slack", "5ms")),
+                Double.parseDouble(System.getProperty("invoo.http.adaptive.backoff", "0.9")));
+    }
+
+    // ---- slots ------------------------------------------------------------
+
+    /** 🧱 Takes a slot, waiting at most `nanos`; false when the limit stayed full */
+    public boolean tryAcquire(long nanos) throws InterruptedException {
+        if (fixed != null) {
+            return fixed.tryAcquire(nanos, TimeUnit.NANOSECONDS);
+        }
+        long remaining = nanos;
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= (int) limit) {
+                windowSaturated = true;
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = freed.awaitNanos(remaining);
+            }
+            inFlight++;
+            if (inFlight >= (int) limit) {
+                windowSaturated = true;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 🧱 Takes a slot only if one is free right now (hedged attempts) */
+    public boolean tryAcquire() {
+        if (fixed != null) {
+            return fixed.tryAcquire();
+        }
+        lock.lock();
+        try {
+            if (inFlight >= (int) limit) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        if (fixed != null) {
+            fixed.release();
+            return;
+        }
+        lock.lock();
+        try {
+            inFlight--;
+            freed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ---- samples ----------------------------------------------------------
+
+    /** 📥 A response arrived `rttNanos` after its attempt was sent (-1 = unknown, no RTT sample); 429 / 5xx count as drops */
+    public void onResponse(String endpoint, int status, long rttNanos) {
+        if (!adaptive) {
+            return;
+        }
+        if (dropped(status)) {
+            onDropped(endpoint, status);
+            return;
+        }
+        lock.lock();
+        try {
+            EndpointLimit e = endpoint(endpoint);
+            e.calls++;
+            if (rttNanos >= 0) {
+                long baseline = e.observe(rttNanos, tolerance, slackNanos);
+                windowOk++;
+                windowRatio += (double) rttNanos / Math.max(1, baseline);
+                windowExcessNanos += rttNanos - baseline;
+            }
+            completed(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 📥 A 429 / 5xx (status) or I/O error (status -1), also for attempts that are retried */
+    public void onDropped(String endpoint, int status) {
+        if (!adaptive) {
+            return;
+        }
+        lock.lock();
+        try {
+            EndpointLimit e = endpoint(endpoint);
+            e.calls++;
+            if (status == 429) {
+                e.throttled++;
+            } else if (status >= 500) {
+                e.serverErrors++;
+            } else {
+                e.errors++;
+            }
+            if (!windowCut) {
+                if (status == 429) {
+                    throttleCuts++;
+                } else if (status >= 500) {
+                    serverErrorCuts++;
+                } else {
+                    errorCuts++;
+                }
+                cut();
+            }
+            completed(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean dropped(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    /** Called with the lock held for every sample: closes the window after `limit` of them */
+    private void completed(EndpointLimit e) {
+        settled += (limit - settled) * SETTLE_WEIGHT;
+        e.settled += (limit - e.settled) * SETTLE_WEIGHT;
+        if (++windowSamples >= Math.max(MIN_WINDOW, (int) limit)) {
+            closeWindow();
+        }
+    }
+
+    private void closeWindow() {
+        if (!windowCut && windowOk > 0) {
+            if (windowRatio / windowOk > tolerance && windowExcessNanos / windowOk > slackNanos) {
+                latencyCuts++;
+                cut();
+            } else if (windowSaturated && limit < maxLimit) {
+                limit = Math.min(maxLimit, limit + 1);
+                highest = Math.max(highest, (int) limit);
+                increases++;
+                freed.signal();
+            }
+        }
+        windowSamples = 0;
+        windowOk = 0;
+        windowRatio = 0;
+        windowExcessNanos = 0;
+        windowSaturated = false;
+        windowCut = false;
+    }
+
+    private void cut() {
+        limit = Math.max(minLimit, Math.floor(limit * backoff));
+        lowest = Math.min(lowest, (int) limit);
+        windowCut = true;
+    }
+
+    private EndpointLimit endpoint(String key) {
+        return endpoints.computeIfAbsent(key, k -> new EndpointLimit(k, limit));
+    }
+
+    // ---- reporting --------------------------------------------------------
+
+    public String host() {
+        return host;
+    }
+
+    public boolean adaptive() {
+        return adaptive;
+    }
+
+    /** 🎚️ Current limit (slots) */
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 🎚️ Moving average of the limit over the last ~50 completions */
+    public double settled() {
+        lock.lock();
+        try {
+            return settled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 🎚️ Settled limit seen by one endpoint's calls (LatencyRecorder key), NaN if it had none */
+    public double settled(String endpoint) {
+        lock.lock();
+        try {
+            EndpointLimit e = endpoints.get(endpoint);
+            return e == null ? Double.NaN : e.settled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 📉 Number of multiplicative cuts (429, 5xx, I/O error, rising RTT) */
+    public long cuts() {
+        lock.lock();
+        try {
+            return throttleCuts + serverErrorCuts + errorCuts + latencyCuts;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 🎚️ Limit line + per-endpoint table, "" when the limiter is fixed or saw no calls */
+    public String report() {
+        lock.lock();
+        try {
+            if (!adaptive || endpoints.isEmpty()) {
+                return "";
+            }
+            List<EndpointLimit> rows = new ArrayList<>(endpoints.values());
+            rows.sort(Comparator.comparing(e -> e.key));
+            int width = Math.max(8, rows.stream().mapToInt(e -> e.key.length()).max().orElse(0));
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("   %s → settled %.1f (now %d, range %d..%d of %d..%d), "
+                            + "+%d / -%d (429 %d, 5xx %d, errors %d, latency %d)",
+                    host, settled, (int) limit, lowest, highest, minLimit, maxLimit, increases, throttleCuts + serverErrorCuts + errorCuts + latencyCuts,
+                    throttleCuts, serverErrorCuts, errorCuts, latencyCuts));
+            sb.append(String.format("%n     %-" + width + "s %8s %8s %10s %6s %6s %7s", "ENDPOINT", "CALLS", "SETTLED",
+                    "BASE RTT", "429", "5XX", "ERRORS"));
+            for (EndpointLimit e : rows) {
+                long baseline = e.baseline();
+                sb.append(String.format("%n     %-" + width + "s %8d %8.1f %10s %6d %6d %7d", e.key, e.calls, e.settled,
+                        baseline == Long.MAX_VALUE ? "-" : Durations.format(Duration.ofNanos(baseline)),
+                        e.throttled, e.serverErrors, e.errors));
+            }
+            return sb.toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return adaptive ? host + " adaptive limit " + limit() : host + " fixed limit " + limit();
+    }
+
+    /** Counters and RTT baseline of one endpoint, guarded by the limiter's lock */
+    private static final class EndpointLimit {
+
+        private final String key;
+        private long calls;
+        private long throttled;
+        private long serverErrors;
+        private long errors;
+        private double settled;
+        private long baseline = Long.MAX_VALUE;
+        private long epochMin = Long.MAX_VALUE;
+        private int epochSamples;
+
+        EndpointLimit(String key, double limit) {
+            this.key = key;
+            this.settled = limit;
+        }
+
+        /** Adds an OK sample's RTT and returns the baseline it is judged against (this sample included) */
+        long observe(long rttNanos, double tolerance, long slackNanos) {
+            baseline = Math.min(baseline, rttNanos);
+            epochMin = Math.min(epochMin, rttNanos);
+            if (++epochSamples == BASELINE_EPOCH) {
+                if (epochMin > baseline * tolerance && epochMin - baseline > slackNanos) {
+                    baseline = epochMin;
+                }
+                epochMin = Long.MAX_VALUE;
+                epochSamples = 0;
+            }
+            return baseline;
+        }
+
+        long baseline() {
+            return baseline;
+        }
+    }
+}
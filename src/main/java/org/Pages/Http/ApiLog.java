@@ -0,0 +1,48 @@
+package org.Pages.Http;
+
+/**
+ * 🧾 Console logging shared by all suites
+ * ----------------------------------------
+ * - 2xx: "✅ Success: url → code" plus a short body preview
+ *   (and "⚠️ Body check failed" when the request's BodyCheck found problems)
+ * - otherwise: "❌ Request failed" with the (bounded) error body on stderr
+ *
+ * Each response is printed with a single println so parallel tests don't interleave lines.
+ */
+public final class ApiLog {
+
+    private static final int PREVIEW_CHARS = 150;
+
+    private ApiLog() {
+    }
+
+    public static void response(String url, ApiResponse response) {
+        int code = response.status();
+        if (code >= 200 && code < 300) {
+            StringBuilder out = new StringBuilder("✅ Success: ").append(url).append(" → ").append(code);
+            HttpCache.Outcome cached = response.cacheOutcome();
+            switch (cached) {
+                case HIT -> out.append(" (cache hit)");
+                case REVALIDATED -> out.append(" (304, served from cache)");
+                case COALESCED -> out.append(" (shared an identical in-flight call)");
+                case MEMOIZED -> out.append(" (memoized)");
+                default -> {
+                }
+            }
+            String preview = response.preview(PREVIEW_CHARS);
+            if (!preview.isEmpty())
+                out.append("\n🔹 Response preview: ").append(preview);
+            if (!response.valid())
+                out.append("\n⚠️ Body check failed: ").append(String.join("; ", response.violations()));
+            System.out.println(out);
+        } else {
+            StringBuilder err = new StringBuilder("❌ Request failed: ").append(url)
+                    .append("\nHTTP Status: ").append(code).append('\n');
+            String body = response.previewText();
+            err.append(body.isEmpty() ? "⚠️ No error body returned from server." : body);
+            if (response.truncated())
+                err.append("\n… (").append(response.bodyLength()).append(" bytes in total)");
+            System.err.println(err);
+        }
+    }
+}
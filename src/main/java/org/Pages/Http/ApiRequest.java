@@ -0,0 +1,154 @@
+package org.Pages.Http;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 📨 Request description handed to the HttpEngine
+ * ------------------------------------------------
+ * Fluent builder: ApiRequest.get(url).bearer(token)
+ *                 ApiRequest.post(url, json).bearer(token)
+ *                 ApiRequest.get(url).check(BodyCheck.json("content")).retainBody()
+ *                 ApiRequest.get(url).bearer(token).noCache()   (latency measurements)
+ *                 ApiRequest.get(url).noCache().noHistory()      (caller records its own outcome)
+ */
+public final class ApiRequest {
+
+    private final String method;
+    private final URI uri;
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private String body;
+    private long intendedNanos;
+    private BodyCheck check = BodyCheck.NONE;
+    private boolean retainBody;
+    private boolean noCache;
+    private boolean noHistory;
+
+    private ApiRequest(String method, String url) {
+        this.method = method;
+        this.uri = URI.create(url);
+        headers.put("Accept", "application/json");
+    }
+
+    /** 🌐 GET request */
+    public static ApiRequest get(String url) {
+        return new ApiRequest("GET", url);
+    }
+
+    /** 🌐 POST request with an optional JSON body */
+    public static ApiRequest post(String url, String jsonBody) {
+        return new ApiRequest("POST", url).body(jsonBody);
+    }
+
+    /** 🌐 Any other method (PUT, DELETE, ...) */
+    public static ApiRequest of(String method, String url) {
+        return new ApiRequest(method, url);
+    }
+
+    /** 🔐 Adds "Authorization: Bearer ..." when a token is present */
+    public ApiRequest bearer(String token) {
+        if (token != null) {
+            headers.put("Authorization", "Bearer " + token);
+        }
+        return this;
+    }
+
+    public ApiRequest header(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    public ApiRequest body(String jsonBody) {
+        this.body = jsonBody;
+        if (jsonBody != null) {
+            headers.put("Content-Type", "application/json");
+        }
+        return this;
+    }
+
+    /** ⏱️ System.nanoTime() the request was meant to go out (open-loop load); latency is measured from here */
+    public ApiRequest intendedAt(long nanoTime) {
+        this.intendedNanos = nanoTime;
+        return this;
+    }
+
+    /** ✅ Validators run while the body streams in (see BodyCheck) */
+    public ApiRequest check(BodyCheck check) {
+        this.check = check;
+        return this;
+    }
+
+    /** 📥 Keep the full body in the ApiResponse; by default only a bounded preview survives */
+    public ApiRequest retainBody() {
+        this.retainBody = true;
+        return this;
+    }
+
+    /** ⏱️ Always go to the network: no HttpCache, no coalescing, no memoized response */
+    public ApiRequest noCache() {
+        this.noCache = true;
+        return this;
+    }
+
+    /** 🗃️ Leave this call out of the ResultHistory; the caller records the outcome itself (e.g. as a PROBE) */
+    public ApiRequest noHistory() {
+        this.noHistory = true;
+        return this;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public URI uri() {
+        return uri;
+    }
+
+    public String body() {
+        return body;
+    }
+
+    public Map<String, String> headers() {
+        return headers;
+    }
+
+    public BodyCheck check() {
+        return check;
+    }
+
+    public boolean retainsBody() {
+        return retainBody;
+    }
+
+    public boolean bypassesCaches() {
+        return noCache;
+    }
+
+    public boolean recordsHistory() {
+        return !noHistory;
+    }
+
+    /** Intended send time, 0 when the request goes out as soon as it is sent */
+    public long intendedNanos() {
+        return intendedNanos;
+    }
+
+    HttpRequest toHttpRequest(Duration timeout) {
+        return toHttpRequest(timeout, Map.of());
+    }
+
+    /** extraHeaders: added on the wire only (e.g. cache validators), the request itself is not changed */
+    HttpRequest toHttpRequest(Duration timeout, Map<String, String> extraHeaders) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(timeout);
+        headers.forEach(builder::header);
+        extraHeaders.forEach(builder::header);
+        HttpRequest.BodyPublisher publisher = body == null || body.isEmpty()
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8);
+        return builder.method(method, publisher).build();
+    }
+}
@@ -0,0 +1,119 @@
+package org.Pages.Http;
+
+import org.Pages.Json.JsonFields;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 📬 Fully-read response returned by the HttpEngine
+ * --------------------------------------------------
+ * The body is always drained so the underlying connection goes back to the pool,
+ * but only a bounded preview (-Dinvoo.http.previewBytes, default 4096) is kept
+ * unless the request asked for ApiRequest.retainBody(). Results of the
+ * request's BodyCheck are in violations() / fields(); cacheOutcome() tells
+ * whether the HttpCache or the RequestCoalescer served it.
+ */
+public final class ApiResponse {
+
+    private final URI uri;
+    private final int status;
+    private final HttpHeaders headers;
+    private final BodyReader.Body body;
+    private final HttpClient.Version version;
+    private final long elapsedNanos;
+    private final HttpCache.Outcome cacheOutcome;
+
+    ApiResponse(URI uri, int status, HttpHeaders headers, BodyReader.Body body, HttpClient.Version version,
+                long elapsedNanos, HttpCache.Outcome cacheOutcome) {
+        this.uri = uri;
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+        this.version = version;
+        this.elapsedNanos = elapsedNanos;
+        this.cacheOutcome = cacheOutcome;
+    }
+
+    public URI uri() {
+        return uri;
+    }
+
+    public int status() {
+        return status;
+    }
+
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    /** 📥 Full body; only available when the request used retainBody() */
+    public byte[] body() {
+        if (body.full() == null) {
+            throw new IllegalStateException("❌ Body of " + uri + " was not retained (use ApiRequest.retainBody())");
+        }
+        return body.full();
+    }
+
+    public String text() {
+        return new String(body(), StandardCharsets.UTF_8);
+    }
+
+    /** 📏 Total body length in bytes, whether retained or not */
+    public long bodyLength() {
+        return body.length();
+    }
+
+    /** 🔹 The bounded head of the body kept for logging */
+    public String previewText() {
+        return new String(body.preview(), StandardCharsets.UTF_8);
+    }
+
+    public boolean truncated() {
+        return body.preview().length < body.length();
+    }
+
+    /** ✅ BodyCheck violations; empty when the body passed (or nothing was checked) */
+    public List<String> violations() {
+        return body.violations();
+    }
+
+    public boolean valid() {
+        return body.violations().isEmpty();
+    }
+
+    /** 🔎 JSON paths captured by the BodyCheck, or null when no JSON was read */
+    public JsonFields.Values fields() {
+        return body.fields();
+    }
+
+    public HttpClient.Version version() {
+        return version;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public HttpCache.Outcome cacheOutcome() {
+        return cacheOutcome;
+    }
+
+    /** Same response without the full body (kept only to share it with coalesced callers) */
+    ApiResponse withoutFullBody() {
+        return new ApiResponse(uri, status, headers,
+                new BodyReader.Body(body.preview(), null, body.length(), body.violations(), body.fields()),
+                version, elapsedNanos, cacheOutcome);
+    }
+
+    /** 🔹 First line of the body, cut to maxChars */
+    public String preview(int maxChars) {
+        String text = previewText();
+        int end = text.indexOf('\n');
+        String first = end < 0 ? text : text.substring(0, end);
+        return first.substring(0, Math.min(maxChars, first.length()));
+    }
+}
@@ -0,0 +1,129 @@
+package org.Pages.Http;
+
+import org.Pages.Json.JsonFields;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * ✅ Checks applied while a response body streams in
+ * ---------------------------------------------------
+ *   ApiRequest.get(url).check(BodyCheck.json("content", "totalElements"))
+ *   ApiRequest.get(url).check(BodyCheck.nonEmpty().bytes(1, 5_000_000))
+ *
+ * - nonEmpty: at least one byte
+ * - json: the whole body is well-formed JSON and has the given top-level keys
+ * - bytes: total length within [min, max]
+ * - extract: extra JSON paths captured on the same pass (ApiResponse.fields())
+ * - forEach: every element of one array streamed to a consumer as raw JSON
+ *
+ * Violations end up in ApiResponse.violations(); the body itself is never kept
+ * unless the request asks for it (ApiRequest.retainBody()).
+ */
+public final class BodyCheck {
+
+    /** Drain only, nothing checked */
+    public static final BodyCheck NONE = new BodyCheck(false, false, List.of(), List.of(), 0, Long.MAX_VALUE, null, null);
+
+    private final boolean nonEmpty;
+    private final boolean json;
+    private final List<String> keys;
+    private final List<String> extract;
+    private final long minBytes;
+    private final long maxBytes;
+    private final JsonFields fields;
+    private final String elementPath;
+    private final Consumer<byte[]> elementSink;
+
+    private BodyCheck(boolean nonEmpty, boolean json, List<String> keys, List<String> extract, long minBytes, long maxBytes,
+                      String elementPath, Consumer<byte[]> elementSink) {
+        this.nonEmpty = nonEmpty;
+        this.json = json;
+        this.keys = keys;
+        this.extract = extract;
+        this.minBytes = minBytes;
+        this.maxBytes = maxBytes;
+        this.elementPath = elementPath;
+        this.elementSink = elementSink;
+        List<String> paths = new ArrayList<>(keys);
+        paths.addAll(extract);
+        this.fields = json || !extract.isEmpty() ? JsonFields.of(paths.toArray(String[]::new)) : null;
+    }
+
+    /** 🔹 Body must not be empty */
+    public static BodyCheck nonEmpty() {
+        return new BodyCheck(true, false, List.of(), List.of(), 0, Long.MAX_VALUE, null, null);
+    }
+
+    /** 🧩 Non-empty, well-formed JSON carrying the given top-level keys */
+    public static BodyCheck json(String... topLevelKeys) {
+        return new BodyCheck(true, true, List.of(topLevelKeys), List.of(), 0, Long.MAX_VALUE, null, null);
+    }
+
+    /** 📏 Total body length must fall within [min, max] bytes */
+    public BodyCheck bytes(long min, long max) {
+        return new BodyCheck(nonEmpty, json, keys, extract, min, max, elementPath, elementSink);
+    }
+
+    /** 🔎 Also capture these JSON paths (e.g. "totalElements", "content") */
+    public BodyCheck extract(String... paths) {
+        List<String> all = new ArrayList<>(extract);
+        all.addAll(Arrays.asList(paths));
+        return new BodyCheck(nonEmpty, json, keys, List.copyOf(all), minBytes, maxBytes, elementPath, elementSink);
+    }
+
+    /**
+     * 📚 Streams each element of the array at arrayPath (e.g. "content") to the
+     * sink while the body arrives; implies a full JSON parse. The sink runs on
+     * the calling thread; build one check per request when it keeps state.
+     */
+    public BodyCheck forEach(String arrayPath, Consumer<byte[]> sink) {
+        List<String> all = new ArrayList<>(extract);
+        if (!all.contains(arrayPath)) {
+            all.add(arrayPath);
+        }
+        return new BodyCheck(nonEmpty, true, keys, List.copyOf(all), minBytes, maxBytes, arrayPath, sink);
+    }
+
+    String elementPath() {
+        return elementPath;
+    }
+
+    Consumer<byte[]> elementSink() {
+        return elementSink;
+    }
+
+    boolean json() {
+        return json;
+    }
+
+    JsonFields fields() {
+        return fields;
+    }
+
+    /** Length / key rules, evaluated once the body has been fully read */
+    void verify(long length, JsonFields.Values values, List<String> violations) {
+        if (nonEmpty && length == 0) {
+            violations.add("body is empty");
+        }
+        if (length < minBytes || length > maxBytes) {
+            violations.add("body is " + length + " bytes, expected " + minBytes + ".."
+                    + (maxBytes == Long.MAX_VALUE ? "∞" : maxBytes));
+        }
+        if (values != null) {
+            for (String key : keys) {
+                if (!values.has(key)) {
+                    violations.add("missing top-level key \"" + key + "\"");
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this == NONE ? "none" : (json ? "json" + keys : nonEmpty ? "nonEmpty" : "any")
+                + (minBytes > 0 || maxBytes < Long.MAX_VALUE ? " bytes[" + minBytes + ".." + maxBytes + "]" : "");
+    }
+}
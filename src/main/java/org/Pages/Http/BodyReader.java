@@ -0,0 +1,118 @@
+package org.Pages.Http;
+
+import org.Pages.Json.JsonFields;
+import org.Pages.Json.MalformedJsonException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 📥 Single-pass body consumption
+ * --------------------------------
+ * Streams the body through the request's BodyCheck, counts it, keeps the first
+ * previewLimit bytes for logs (and everything only when asked to), then drains
+ * whatever the checks did not read so the connection can be reused.
+ */
+final class BodyReader {
+
+    private BodyReader() {
+    }
+
+    static Body read(InputStream raw, BodyCheck check, boolean retain, int previewLimit) throws IOException {
+        List<String> violations = new ArrayList<>(0);
+        JsonFields.Values values = null;
+        try (Tee in = new Tee(raw, previewLimit, retain)) {
+            if (check.json()) {
+                try {
+                    values = check.elementSink() == null ? check.fields().validate(in)
+                            : check.fields().validate(in, check.elementPath(), check.elementSink());
+                } catch (MalformedJsonException e) {
+                    violations.add(e.getMessage().replace("❌ ", ""));
+                }
+            } else if (check.fields() != null) {
+                try {
+                    values = check.fields().extract(in);
+                } catch (MalformedJsonException e) {
+                    violations.add(e.getMessage().replace("❌ ", ""));
+                }
+            }
+            in.drain();
+            check.verify(in.count, values, violations);
+            return new Body(in.preview(), in.full == null ? null : in.full.toByteArray(), in.count,
+                    violations.isEmpty() ? List.of() : List.copyOf(violations), values);
+        }
+    }
+
+    /** What is left of a body after streaming it */
+    record Body(byte[] preview, byte[] full, long length, List<String> violations, JsonFields.Values fields) {
+    }
+
+    /** Counting pass-through that copies the head (and optionally all) of the stream */
+    private static final class Tee extends FilterInputStream {
+
+        private final byte[] head;
+        private final ByteArrayOutputStream full;
+        private int headLength;
+        private long count;
+
+        private Tee(InputStream in, int previewLimit, boolean retain) {
+            super(in);
+            this.head = new byte[previewLimit];
+            this.full = retain ? new ByteArrayOutputStream() : null;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                copy(new byte[]{(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                copy(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // route skips through read() so nothing escapes the count
+            byte[] sink = new byte[(int) Math.min(n, 8192)];
+            int read = read(sink, 0, sink.length);
+            return Math.max(read, 0);
+        }
+
+        private void drain() throws IOException {
+            byte[] sink = new byte[8192];
+            while (read(sink, 0, sink.length) >= 0) {
+                // counted and copied by read()
+            }
+        }
+
+        private void copy(byte[] b, int off, int n) {
+            count += n;
+            if (headLength < head.length) {
+                int take = Math.min(n, head.length - headLength);
+                System.arraycopy(b, off, head, headLength, take);
+                headLength += take;
+            }
+            if (full != null) {
+                full.write(b, off, n);
+            }
+        }
+
+        private byte[] preview() {
+            return Arrays.copyOf(head, headLength);
+        }
+    }
+}
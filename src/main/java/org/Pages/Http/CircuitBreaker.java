@@ -0,0 +1,163 @@
+package org.Pages.Http;
+
+import org.Pages.Metrics.Durations;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ⚡ Per-host circuit breaker
+ * --------------------------
+ * - CLOSED: calls go through; the outcome of the last -Dinvoo.http.breaker.window
+ *   calls (default 10) is kept. I/O errors and 502 / 503 / 504 count as failures
+ * - OPEN: once at least -Dinvoo.http.breaker.minCalls (default 3) are in the
+ *   window and the failure share reaches -Dinvoo.http.breaker.failureRate
+ *   (default 0.5), calls fail at once with HostUnavailableException
+ * - HALF_OPEN: after -Dinvoo.http.breaker.openFor (default 10s) a single probe
+ *   goes through; success closes the circuit, failure opens it again
+ * - -Dinvoo.http.breaker=false keeps every circuit closed
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String host;
+    private final boolean enabled;
+    private final boolean[] window;
+    private final int minCalls;
+    private final double failureRate;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int next;
+    private int calls;
+    private int failures;
+    private long openedAt;
+    private boolean probing;
+    private int trips;
+    private final LongAdder rejected = new LongAdder();
+
+    CircuitBreaker(String host, boolean enabled, int window, int minCalls, double failureRate, Duration openFor) {
+        this.host = host;
+        this.enabled = enabled;
+        this.window = new boolean[Math.max(1, window)];
+        this.minCalls = Math.max(1, Math.min(minCalls, this.window.length));
+        this.failureRate = failureRate;
+        this.openNanos = openFor.toNanos();
+    }
+
+    static CircuitBreaker forHost(String host) {
+        return new CircuitBreaker(host,
+                Boolean.parseBoolean(System.getProperty("invoo.http.breaker", "true")),
+                Integer.getInteger("invoo.http.breaker.window", 10),
+                Integer.getInteger("invoo.http.breaker.minCalls", 3),
+                Double.parseDouble(System.getProperty("invoo.http.breaker.failureRate", "0.5")),
+                Durations.parse(System.getProperty("invoo.http.breaker.openFor", "10s")));
+    }
+
+    /** 🚦 Lets the call through or throws; every admitted call must end in onResponse / onFailure / release */
+    synchronized void acquire() throws HostUnavailableException {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (state == State.OPEN && now - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            probing = false;
+        }
+        if (state == State.HALF_OPEN && !probing) {
+            probing = true;
+            return;
+        }
+        if (state != State.CLOSED) {
+            rejected.increment();
+            long waitNanos = Math.max(0, openNanos - (now - openedAt));
+            throw new HostUnavailableException(host, "❌ " + host + " is unavailable (circuit " + state
+                    + " after " + failures + " of " + calls + " recent calls failed); next probe in "
+                    + Durations.format(Duration.ofNanos(waitNanos)));
+        }
+    }
+
+    /** Response headers arrived; gateway errors still count as failures */
+    synchronized void onResponse(int status) {
+        if (status == 502 || status == 503 || status == 504) {
+            onFailure();
+        } else if (enabled) {
+            if (state == State.HALF_OPEN) {
+                close();
+            } else {
+                record(false);
+            }
+        }
+    }
+
+    synchronized void onFailure() {
+        if (!enabled) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (calls >= minCalls && failures >= failureRate * calls) {
+                open();
+            }
+        }
+    }
+
+    /** The call ended without a verdict (interrupted, bulkhead timeout): let someone else probe */
+    synchronized void release() {
+        probing = false;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized int trips() {
+        return trips;
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /** 🔹 "circuit OPEN (tripped 1×, 12 calls rejected)", empty while it never tripped */
+    @Override
+    public synchronized String toString() {
+        return trips == 0 && rejected.sum() == 0 ? ""
+                : "circuit " + state + " (tripped " + trips + "×, " + rejected.sum() + " calls rejected)";
+    }
+
+    private void record(boolean failed) {
+        if (calls == window.length && window[next]) {
+            failures--;
+        }
+        window[next] = failed;
+        next = (next + 1) % window.length;
+        calls = Math.min(calls + 1, window.length);
+        if (failed) {
+            failures++;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        probing = false;
+        trips++;
+        System.err.println("⚠️ Circuit opened for " + host + ": " + failures + " of " + calls
+                + " recent calls failed, failing fast for " + Durations.format(Duration.ofNanos(openNanos)));
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        probing = false;
+        next = 0;
+        calls = 0;
+        failures = 0;
+        System.out.println("✅ Circuit closed for " + host + ": probe succeeded");
+    }
+}
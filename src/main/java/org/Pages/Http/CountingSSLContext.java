@@ -0,0 +1,89 @@
+package org.Pages.Http;
+
+import javax.net.ssl.*;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * 🔐 SSLContext wrapper that counts new TLS connections
+ * -----------------------------------------------------
+ * java.net.http creates exactly one SSLEngine per physical connection, so every
+ * engine created here is one handshake; pooled requests never reach it.
+ * With phase timing on, engines are wrapped in a TimingSSLEngine.
+ */
+final class CountingSSLContext extends SSLContext {
+
+    /** setups: where TimingSSLEngine reports new connections, null = no phase timing */
+    CountingSSLContext(HostStats stats, PhaseTimings.Setups setups) throws NoSuchAlgorithmException {
+        this(SSLContext.getDefault(), stats, setups);
+    }
+
+    private CountingSSLContext(SSLContext delegate, HostStats stats, PhaseTimings.Setups setups) {
+        super(new CountingSpi(delegate, stats, setups), delegate.getProvider(), delegate.getProtocol());
+    }
+
+    private static final class CountingSpi extends SSLContextSpi {
+
+        private final SSLContext delegate;
+        private final HostStats stats;
+        private final PhaseTimings.Setups setups;
+
+        private CountingSpi(SSLContext delegate, HostStats stats, PhaseTimings.Setups setups) {
+            this.delegate = delegate;
+            this.stats = stats;
+            this.setups = setups;
+        }
+
+        private SSLEngine timed(SSLEngine engine) {
+            return setups == null ? engine : new TimingSSLEngine(engine, setups);
+        }
+
+        @Override
+        protected void engineInit(KeyManager[] km, TrustManager[] tm, SecureRandom random) throws KeyManagementException {
+            delegate.init(km, tm, random);
+        }
+
+        @Override
+        protected SSLSocketFactory engineGetSocketFactory() {
+            return delegate.getSocketFactory();
+        }
+
+        @Override
+        protected SSLServerSocketFactory engineGetServerSocketFactory() {
+            return delegate.getServerSocketFactory();
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine() {
+            stats.recordConnection();
+            return timed(delegate.createSSLEngine());
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine(String host, int port) {
+            stats.recordConnection();
+            return timed(delegate.createSSLEngine(host, port));
+        }
+
+        @Override
+        protected SSLSessionContext engineGetServerSessionContext() {
+            return delegate.getServerSessionContext();
+        }
+
+        @Override
+        protected SSLSessionContext engineGetClientSessionContext() {
+            return delegate.getClientSessionContext();
+        }
+
+        @Override
+        protected SSLParameters engineGetDefaultSSLParameters() {
+            return delegate.getDefaultSSLParameters();
+        }
+
+        @Override
+        protected SSLParameters engineGetSupportedSSLParameters() {
+            return delegate.getSupportedSSLParameters();
+        }
+    }
+}
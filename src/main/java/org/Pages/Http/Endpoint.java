@@ -0,0 +1,110 @@
+package org.Pages.Http;
+
+import java.net.URI;
+
+/**
+ * 📚 Catalogue of the endpoints the suites exercise
+ * --------------------------------------------------
+ * Same URLs / bodies as the constants in the test classes, in one place so the
+ * load generator, SLO checks and monitoring can drive them by name
+ * (e.g. STATUS_COUNTS, CURRENCIES_SUCCESS, DEPOSITS).
+ */
+public enum Endpoint {
+
+    // === 🔐 Auth ===
+    LOGIN("POST", Hosts.API, "/api/v1/auth/login", null, false),
+
+    // === 📊 Dashboard (OverviewAPITest / AnalyticsAPITest) ===
+    STATUS_COUNTS("GET", Hosts.API, "/api/v1/analytics/status-counts"
+            + "?type=all&startDate=2025-10-20T10:11:52.892Z&endDate=2025-10-27T10:11:52.892Z"),
+    CURRENCIES_SUCCESS("GET", Hosts.API, "/api/v1/analytics/currencies/successful-transactions"
+            + "?type=all&startDate=2025-10-20T10:11:52.892Z&endDate=2025-10-27T10:11:52.892Z"),
+    CUSTOMERS_UNIQUE("GET", Hosts.API, "/api/v1/analytics/customers/unique"
+            + "?type=all&startDate=2025-10-20T10:11:52.892Z&endDate=2025-10-27T10:11:52.892Z"),
+    SUMMARY("GET", Hosts.API, "/api/v1/analytics/summary"
+            + "?startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z"),
+    METRIC_VOLUME("GET", Hosts.API, "/api/v1/analytics/metrics/time-series"
+            + "?groupBy=day&metric=volume&type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z"),
+    METRIC_COUNT("GET", Hosts.API, "/api/v1/analytics/metrics/time-series"
+            + "?groupBy=day&metric=count&type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z"),
+    METRIC_SUCCESS_RATE("GET", Hosts.API, "/api/v1/analytics/metrics/time-series"
+            + "?groupBy=day&metric=success_rate&type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z"),
+    PROVIDERS("GET", Hosts.API, "/api/v1/analytics/providers"
+            + "?type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z"),
+
+    // === 👥 Customers ===
+    CUSTOMERS_ANALYTICS("GET", Hosts.API, "/api/v1/customers/analytics"),
+    CUSTOMERS("GET", Hosts.API, "/api/v1/customers?size=10&sortBy=totalRevenue&sortDirection=DESC"),
+    CUSTOMERS_LIST("GET", Hosts.API, "/api/v1/customers?page=0&size=20&sortBy=createdAt&sortDirection=DESC"),
+    HIGH_RISK_CUSTOMERS("GET", Hosts.API, "/api/v1/customers?riskLevel=HIGH&size=10&sortBy=riskScore&sortDirection=DESC"),
+    CRITICAL_RISK_CUSTOMERS("GET", Hosts.API, "/api/v1/customers?riskLevel=CRITICAL&size=10&sortBy=riskScore&sortDirection=DESC"),
+    CUSTOMERS_WS_INFO("GET", Hosts.API, "/api/ws/customers/info?t=1761564638424"),
+
+    // === 💳 Payments ===
+    DEPOSITS("POST", Hosts.API, "/api/v1/transaction/deposits",
+            "{\"page\":0,\"size\":20,\"sort\":\"createdAt\",\"direction\":\"desc\"}", true),
+    WITHDRAWALS("POST", Hosts.API, "/api/v1/transaction/withdrawals",
+            "{\"page\":0,\"size\":20,\"sort\":\"createdAt\",\"direction\":\"desc\"}", true),
+    FRAUD_ANALYSES("GET", Hosts.API, "/api/v1/fraud-analyses?page=0&size=20&sort=createdAt,desc"),
+    FRAUD_STATISTICS("GET", Hosts.API, "/api/v1/fraud-analyses/statistics"),
+    HIGH_RISK_VISITORS("GET", Hosts.API, "/api/v1/fraud-analyses/high-risk-visitors?minRiskScore=10&page=0&size=20"),
+
+    // === ⚙️ Configurator / developers / merchant settings ===
+    BRANDING_V2("GET", Hosts.API, "/api/v1/merchants/current/branding/v2"),
+    VALIDATE_COLORS("POST", Hosts.API, "/api/v1/merchants/branding/validate-colors",
+            "{\"primaryColor\":\"#1E90FF\",\"secondaryColor\":\"#FFFFFF\"}", true),
+    CASHIER_PSPS("GET", Hosts.API, "/api/v1/cashier-psps"),
+    PAYMENT_PROVIDERS("GET", Hosts.API, "/api/v1/payment-providers?active=true"),
+    TRANSLATION_KEYS("GET", Hosts.API, "/api/v1/translations/keys?page=0&size=20&sort=keyCode,asc"),
+    API_CLIENTS("GET", Hosts.API, "/api/v1/clients"),
+    MERCHANT_CURRENT("GET", Hosts.API, "/api/v1/merchants/current"),
+    MERCHANT_BRANDING("GET", Hosts.API, "/api/v1/merchants/1/branding"),
+
+    // === 🌍 Public assets / third party ===
+    LOCALE("GET", Hosts.WEB, "/assets/locale/en-US.json", null, false),
+    TRANSLATIONS("GET", Hosts.ASSETS, "/assets/translations/en.json", null, false),
+    FINGERPRINT("GET", Hosts.FINGERPRINT, "/DwmA/JNZ1Dz7/7?q=rAYkICVaA2hXcDRGO6Nm", null, false);
+
+    private final String method;
+    private final String url;
+    private final String body;
+    private final boolean authenticated;
+
+    Endpoint(String method, String host, String pathAndQuery) {
+        this(method, host, pathAndQuery, null, true);
+    }
+
+    Endpoint(String method, String host, String pathAndQuery, String body, boolean authenticated) {
+        this.method = method;
+        this.url = host + pathAndQuery;
+        this.body = body;
+        this.authenticated = authenticated;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public String body() {
+        return body;
+    }
+
+    public boolean authenticated() {
+        return authenticated;
+    }
+
+    /** Path without host and query, e.g. /api/v1/analytics/status-counts */
+    public String path() {
+        return URI.create(url).getPath();
+    }
+
+    /** 📨 Request for this endpoint; the token is ignored for public endpoints */
+    public ApiRequest request(String token) {
+        ApiRequest request = ApiRequest.of(method, url).body(body);
+        return authenticated ? request.bearer(token) : request;
+    }
+}
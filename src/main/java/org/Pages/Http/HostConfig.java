@@ -0,0 +1,110 @@
+package org.Pages.Http;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ⏱️ Per-host connection settings
+ * --------------------------------
+ * - Connect timeout (applied to the host's pooled client)
+ * - Request timeout (time until response headers arrive)
+ * - Preferred HTTP version (HTTP/2 is negotiated via ALPN and falls back to HTTP/1.1)
+ * - Max concurrent in-flight requests (the host's bulkhead: a slow host can't
+ *   tie up callers meant for the others)
+ * - Bulkhead wait: how long a call may queue for a free slot before it fails
+ *   with HostUnavailableException (defaults to the request timeout)
+ * - With -Dinvoo.http.adaptive=true maxConcurrency is only the ceiling of the
+ *   host's AdaptiveLimiter
+ *
+ * Defaults mirror the timeouts the suites used with HttpURLConnection and can be
+ * overridden with -Dinvoo.http.&lt;host&gt;.connectTimeoutMs / .requestTimeoutMs /
+ * .maxConcurrency / .bulkheadWaitMs; -Dinvoo.http.maxConcurrencyPerHost sets the
+ * cap for every host.
+ */
+public final class HostConfig {
+
+    private static final HostConfig DEFAULT =
+            new HostConfig(Duration.ofSeconds(15), Duration.ofSeconds(15), HttpClient.Version.HTTP_2);
+
+    private static final Map<String, HostConfig> CONFIGS = new ConcurrentHashMap<>();
+
+    static {
+        register("pay-app-oilbv.ondigitalocean.app",
+                new HostConfig(Duration.ofSeconds(10), Duration.ofSeconds(15), HttpClient.Version.HTTP_2));
+        register("pay-web-ntwda.ondigitalocean.app",
+                new HostConfig(Duration.ofSeconds(10), Duration.ofSeconds(10), HttpClient.Version.HTTP_2));
+        register("sea-lion-app-3vtnz.ondigitalocean.app",
+                new HostConfig(Duration.ofSeconds(15), Duration.ofSeconds(15), HttpClient.Version.HTTP_2));
+        // third-party fingerprint service: small bulkhead, short connect timeout
+        register("eu.api.fpjs.io",
+                new HostConfig(Duration.ofSeconds(5), Duration.ofSeconds(15), HttpClient.Version.HTTP_2, 4));
+    }
+
+    private final Duration connectTimeout;
+    private final Duration requestTimeout;
+    private final HttpClient.Version version;
+    private final int maxConcurrency;
+    private final Duration bulkheadWait;
+
+    public HostConfig(Duration connectTimeout, Duration requestTimeout, HttpClient.Version version) {
+        this(connectTimeout, requestTimeout, version, Integer.getInteger("invoo.http.maxConcurrencyPerHost", 64));
+    }
+
+    public HostConfig(Duration connectTimeout, Duration requestTimeout, HttpClient.Version version, int maxConcurrency) {
+        this(connectTimeout, requestTimeout, version, maxConcurrency, requestTimeout);
+    }
+
+    public HostConfig(Duration connectTimeout, Duration requestTimeout, HttpClient.Version version, int maxConcurrency,
+                      Duration bulkheadWait) {
+        this.connectTimeout = connectTimeout;
+        this.requestTimeout = requestTimeout;
+        this.version = version;
+        this.maxConcurrency = maxConcurrency;
+        this.bulkheadWait = bulkheadWait;
+    }
+
+    /** 📝 Registers (or replaces) the settings used for a host. */
+    public static void register(String host, HostConfig config) {
+        CONFIGS.put(host, config);
+    }
+
+    /** 🔎 Resolves the settings for a host, applying system property overrides. */
+    public static HostConfig forHost(String host) {
+        HostConfig base = CONFIGS.getOrDefault(host, DEFAULT);
+        Duration requestTimeout = millis("invoo.http." + host + ".requestTimeoutMs", base.requestTimeout);
+        return new HostConfig(
+                millis("invoo.http." + host + ".connectTimeoutMs", base.connectTimeout),
+                requestTimeout,
+                base.version,
+                Integer.getInteger("invoo.http." + host + ".maxConcurrency", base.maxConcurrency),
+                millis("invoo.http." + host + ".bulkheadWaitMs",
+                        base.bulkheadWait.equals(base.requestTimeout) ? requestTimeout : base.bulkheadWait));
+    }
+
+    private static Duration millis(String property, Duration fallback) {
+        String value = System.getProperty(property);
+        return value == null ? fallback : Duration.ofMillis(Long.parseLong(value.trim()));
+    }
+
+    public Duration connectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration requestTimeout() {
+        return requestTimeout;
+    }
+
+    public HttpClient.Version version() {
+        return version;
+    }
+
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public Duration bulkheadWait() {
+        return bulkheadWait;
+    }
+}
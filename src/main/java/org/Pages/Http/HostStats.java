@@ -0,0 +1,80 @@
+package org.Pages.Http;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 📊 Per-host connection counters
+ * --------------------------------
+ * - requests: every exchange sent to the host
+ * - connections: new TLS connections (one handshake each)
+ * - failures: exchanges that ended with an I/O error
+ * - bulkhead rejections: calls refused because the host's in-flight cap stayed full
+ *
+ * Everything that was not a new connection rode on a pooled one.
+ */
+public final class HostStats {
+
+    private final String host;
+    private final boolean secure;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong connections = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong bulkheadRejections = new AtomicLong();
+
+    HostStats(String host, boolean secure) {
+        this.host = host;
+        this.secure = secure;
+    }
+
+    void recordRequest() {
+        requests.incrementAndGet();
+    }
+
+    void recordConnection() {
+        connections.incrementAndGet();
+    }
+
+    void recordFailure() {
+        failures.incrementAndGet();
+    }
+
+    void recordBulkheadRejection() {
+        bulkheadRejections.incrementAndGet();
+    }
+
+    public String host() {
+        return host;
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long connections() {
+        return connections.get();
+    }
+
+    public long failures() {
+        return failures.get();
+    }
+
+    public long bulkheadRejections() {
+        return bulkheadRejections.get();
+    }
+
+    /** ♻️ Requests served over an already-open connection. */
+    public long reused() {
+        return Math.max(0, requests() - connections());
+    }
+
+    @Override
+    public String toString() {
+        String rejected = bulkheadRejections() == 0 ? "" : ", " + bulkheadRejections() + " bulkhead rejections";
+        if (!secure) {
+            return String.format("%s → %d requests, %d failures%s (plain HTTP, connections not observable)",
+                    host, requests(), failures(), rejected);
+        }
+        return String.format("%s → %d requests over %d connections (%d handshakes saved by reuse), %d failures%s",
+                host, requests(), connections(), reused(), failures(), rejected);
+    }
+}
@@ -0,0 +1,26 @@
+package org.Pages.Http;
+
+import java.io.IOException;
+
+/**
+ * ⛔ Request refused without touching the network
+ * -----------------------------------------------
+ * Thrown when the host's circuit breaker is open or its bulkhead stayed full
+ * for longer than the host's bulkhead wait. Kept apart from plain IOExceptions
+ * so callers can tell "host known to be down" from a failed call.
+ */
+public final class HostUnavailableException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String host;
+
+    public HostUnavailableException(String host, String message) {
+        super(message);
+        this.host = host;
+    }
+
+    public String host() {
+        return host;
+    }
+}
@@ -0,0 +1,121 @@
+package org.Pages.Http;
+
+import org.Pages.Stub.StubServer;
+import org.Pages.Stub.WebSocketStub;
+
+import java.io.IOException;
+import java.net.BindException;
+
+/**
+ * 🗺️ Base URLs of the four hosts the suites talk to
+ * --------------------------------------------------
+ * Profile is picked with -Dinvoo.profile (or the INVOO_PROFILE env variable):
+ * - live (default): the real DigitalOcean apps + FingerprintJS
+ * - stub: every host points at the local StubServer
+ *   (-Dinvoo.stub.port, default 18080; started in-process unless
+ *   -Dinvoo.stub.autostart=false or something already listens there), and the
+ *   WebSocket base at the WebSocketStub (-Dinvoo.stub.wsPort, default 18081;
+ *   started on demand by startWebSocketStub())
+ *
+ * A single host can still be redirected with -Dinvoo.host.api / .web / .assets / .fingerprint / .ws.
+ */
+public final class Hosts {
+
+    public static final String PROFILE = profile();
+
+    /** pay-app-oilbv: REST API (/api/v1/..., /api/ws/...) */
+    public static final String API;
+    /** pay-web-ntwda: dashboard web app (/assets/locale/...) */
+    public static final String WEB;
+    /** sea-lion-app-3vtnz: cashier / branding assets (/assets/translations/...) */
+    public static final String ASSETS;
+    /** eu.api.fpjs.io: third-party fingerprint service */
+    public static final String FINGERPRINT;
+    /** pay-app-oilbv over WebSocket: real-time channels (/api/ws/...) */
+    public static final String WS;
+
+    private static StubServer stub;
+    private static WebSocketStub webSocketStub;
+
+    static {
+        if ("stub".equals(PROFILE)) {
+            String stub = startStub();
+            API = override("api", stub);
+            WEB = override("web", stub);
+            ASSETS = override("assets", stub);
+            FINGERPRINT = override("fingerprint", stub);
+            WS = override("ws", "ws://127.0.0.1:" + Integer.getInteger("invoo.stub.wsPort", WebSocketStub.DEFAULT_PORT));
+        } else {
+            API = override("api", "https://pay-app-oilbv.ondigitalocean.app");
+            WEB = override("web", "https://pay-web-ntwda.ondigitalocean.app");
+            ASSETS = override("assets", "https://sea-lion-app-3vtnz.ondigitalocean.app");
+            FINGERPRINT = override("fingerprint", "https://eu.api.fpjs.io");
+            WS = override("ws", "wss://pay-app-oilbv.ondigitalocean.app");
+        }
+    }
+
+    private Hosts() {
+    }
+
+    private static String profile() {
+        String value = System.getProperty("invoo.profile");
+        if (value == null || value.isBlank()) {
+            value = System.getenv("INVOO_PROFILE");
+        }
+        return value == null || value.isBlank() ? "live" : value.trim().toLowerCase();
+    }
+
+    private static String override(String name, String fallback) {
+        return System.getProperty("invoo.host." + name, fallback);
+    }
+
+    /** 📡 Starts the WebSocket stand-in once under the stub profile (no-op otherwise, or if one already runs) */
+    public static synchronized void startWebSocketStub() {
+        if (!"stub".equals(PROFILE) || webSocketStub != null
+                || !Boolean.parseBoolean(System.getProperty("invoo.stub.autostart", "true"))) {
+            return;
+        }
+        int port = Integer.getInteger("invoo.stub.wsPort", WebSocketStub.DEFAULT_PORT);
+        try {
+            webSocketStub = WebSocketStub.start(port);
+            Runtime.getRuntime().addShutdownHook(new Thread(Hosts::stopStubs, "ws-stub-shutdown"));
+        } catch (BindException e) {
+            System.out.println("🧪 Port " + port + " is busy, using the WebSocket stand-in already running there");
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Could not start the WebSocket stand-in on port " + port, e);
+        }
+    }
+
+    /**
+     * 🧹 Stops the stubs this JVM started (no-op otherwise). Entry points that return or throw instead of
+     * calling System.exit call it last: the stub's HTTP dispatcher thread would keep the JVM, or exec:java, waiting
+     */
+    public static synchronized void stopStubs() {
+        if (stub != null) {
+            stub.close();
+            stub = null;
+        }
+        if (webSocketStub != null) {
+            webSocketStub.close();
+            webSocketStub = null;
+        }
+    }
+
+    private static String startStub() {
+        int port = Integer.getInteger("invoo.stub.port", StubServer.DEFAULT_PORT);
+        String baseUrl = "http://127.0.0.1:" + port;
+        if (!Boolean.parseBoolean(System.getProperty("invoo.stub.autostart", "true"))) {
+            return baseUrl;
+        }
+        try {
+            stub = StubServer.start(port);
+            Runtime.getRuntime().addShutdownHook(new Thread(Hosts::stopStubs, "stub-shutdown"));
+            return stub.baseUrl();
+        } catch (BindException e) {
+            System.out.println("🧪 Port " + port + " is busy, using the stub already running there");
+            return baseUrl;
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Could not start the stub backend on port " + port, e);
+        }
+    }
+}
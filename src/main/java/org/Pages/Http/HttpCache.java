@@ -0,0 +1,444 @@
+package org.Pages.Http;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 🗄️ Conditional-GET cache for public assets
+ * -------------------------------------------
+ * - Only unauthenticated GETs are cached (locale / translation files, ...)
+ * - Honours Cache-Control (no-store, no-cache, max-age) and Expires; without
+ *   explicit freshness an entry is always revalidated
+ * - Revalidates with If-None-Match / If-Modified-Since; a 304 serves the stored body
+ * - LRU bounded by total body bytes (-Dinvoo.http.cache.maxBytes, default 32 MB);
+ *   bodies above a quarter of that are never stored
+ * - Optional persistence across runs in -Dinvoo.http.cache.dir
+ * - -Dinvoo.http.cache=false turns it off
+ */
+public final class HttpCache {
+
+    /** How a response was produced, see ApiResponse.cacheOutcome() */
+    public enum Outcome {
+        /** not cacheable, went to the network */
+        BYPASS,
+        /** cacheable, fetched in full */
+        MISS,
+        /** served from the cache without a request */
+        HIT,
+        /** server answered 304, body served from the cache */
+        REVALIDATED,
+        /** joined an identical request already in flight (RequestCoalescer) */
+        COALESCED,
+        /** reused an identical response from earlier in the run (RequestCoalescer) */
+        MEMOIZED
+    }
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final Path dir;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long storedBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    HttpCache(boolean enabled, long maxBytes, Path dir) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.dir = dir;
+    }
+
+    static HttpCache fromProperties() {
+        String dir = System.getProperty("invoo.http.cache.dir");
+        return new HttpCache(
+                Boolean.parseBoolean(System.getProperty("invoo.http.cache", "true")),
+                Long.getLong("invoo.http.cache.maxBytes", 32L << 20),
+                dir == null || dir.isBlank() ? null : Paths.get(dir));
+    }
+
+    /** GET without credentials, and the caller didn't ask to bypass caches */
+    boolean cacheable(ApiRequest request) {
+        return enabled && "GET".equals(request.method()) && !request.headers().containsKey("Authorization")
+                && !request.bypassesCaches();
+    }
+
+    /** 🔎 Stored entry for the request (memory first, then disk), or null */
+    Entry lookup(ApiRequest request) {
+        if (!cacheable(request)) {
+            return null;
+        }
+        String key = request.uri().toString();
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null && dir != null) {
+            entry = readFromDisk(key);
+            if (entry != null) {
+                put(entry);
+            }
+        }
+        return entry != null && entry.matches(request) ? entry : null;
+    }
+
+    /** Entry may be served without contacting the server */
+    boolean fresh(Entry entry, ApiRequest request) {
+        String requestCc = request.headers().getOrDefault("Cache-Control", "");
+        return !entry.noCache && !requestCc.contains("no-cache") && System.currentTimeMillis() < entry.freshUntil;
+    }
+
+    void recordHit(Entry entry) {
+        hits.increment();
+        bytesSaved.add(entry.body.length);
+    }
+
+    /** Response can be stored: 200, no no-store, has a validator or freshness, body not too large, Vary usable */
+    boolean storable(ApiRequest request, HttpResponse<?> response) {
+        if (!cacheable(request) || response.statusCode() != 200) {
+            return false;
+        }
+        HttpHeaders h = response.headers();
+        String cc = h.firstValue("Cache-Control").orElse("").toLowerCase(Locale.ROOT);
+        if (cc.contains("no-store") || h.firstValue("Vary").orElse("").contains("*")) {
+            return false;
+        }
+        boolean reusable = h.firstValue("ETag").isPresent() || h.firstValue("Last-Modified").isPresent()
+                || maxAgeSeconds(cc) > 0 || h.firstValue("Expires").isPresent();
+        if (!reusable) {
+            return false;
+        }
+        long length = h.firstValueAsLong("Content-Length").orElse(0);
+        return length <= maxBytes / 4;
+    }
+
+    /** 💾 Stores a fetched 200 (ignored when the body turns out too large) */
+    Entry store(ApiRequest request, HttpResponse<?> response, byte[] body) {
+        if (body.length > maxBytes / 4) {
+            return null;
+        }
+        Entry entry = new Entry(request.uri().toString(), response.statusCode(), headerMap(response.headers()),
+                response.version(), body, varyValues(request, response.headers()));
+        entry.refresh(response.headers());
+        put(entry);
+        writeToDisk(entry);
+        return entry;
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    /** ♻️ 304 received: refresh freshness / validators and serve the stored body */
+    Entry revalidated(Entry entry, HttpHeaders notModified) {
+        revalidations.increment();
+        bytesSaved.add(entry.body.length);
+        entry.refresh(notModified);
+        writeToDisk(entry);
+        return entry;
+    }
+
+    /** 📊 Counters for the RunReport */
+    public String report() {
+        long requests = hits.sum() + revalidations.sum() + misses.sum();
+        if (!enabled || requests == 0) {
+            return "";
+        }
+        synchronized (this) {
+            return String.format("🗄️ HTTP cache: %d hits, %d revalidated (304), %d misses, %s saved; %d entries, %s stored%s",
+                    hits.sum(), revalidations.sum(), misses.sum(), bytes(bytesSaved.sum()),
+                    entries.size(), bytes(storedBytes), dir == null ? "" : " (persisted in " + dir + ")");
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long revalidations() {
+        return revalidations.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long bytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    // ---- LRU ------------------------------------------------------------
+
+    private synchronized void put(Entry entry) {
+        Entry old = entries.put(entry.key, entry);
+        if (old != null) {
+            storedBytes -= old.body.length;
+        }
+        storedBytes += entry.body.length;
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (storedBytes > maxBytes && eldest.hasNext()) {
+            Entry evicted = eldest.next();
+            eldest.remove();
+            storedBytes -= evicted.body.length;
+        }
+    }
+
+    // ---- disk -----------------------------------------------------------
+
+    private Entry readFromDisk(String key) {
+        Path file = dir.resolve(fileName(key));
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            Entry entry = Entry.read(in);
+            return key.equals(entry.key) ? entry : null;
+        } catch (IOException e) {
+            System.err.println("⚠️ Ignoring unreadable cache entry " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(Entry entry) {
+        if (dir == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(dir);
+            Path target = dir.resolve(fileName(entry.key));
+            Path tmp = Files.createTempFile(dir, "entry", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmp))) {
+                entry.write(out);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not persist cache entry for " + entry.key + ": " + e.getMessage());
+        }
+    }
+
+    private static String fileName(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16) + ".cache";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ---- helpers --------------------------------------------------------
+
+    private static Map<String, List<String>> headerMap(HttpHeaders headers) {
+        Map<String, List<String>> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.map().forEach((name, values) -> map.put(name, List.copyOf(values)));
+        return map;
+    }
+
+    private static Map<String, String> varyValues(ApiRequest request, HttpHeaders headers) {
+        Map<String, String> values = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String vary : headers.allValues("Vary")) {
+            for (String name : vary.split(",")) {
+                String header = name.trim();
+                if (!header.isEmpty()) {
+                    values.put(header, headerValue(request, header));
+                }
+            }
+        }
+        return values;
+    }
+
+    private static String headerValue(ApiRequest request, String name) {
+        for (Map.Entry<String, String> h : request.headers().entrySet()) {
+            if (h.getKey().equalsIgnoreCase(name)) {
+                return h.getValue();
+            }
+        }
+        return "";
+    }
+
+    private static String bytes(long n) {
+        return n < 1024 ? n + " B" : n < 1 << 20 ? String.format("%.1f KB", n / 1024.0) : String.format("%.1f MB", n / 1048576.0);
+    }
+
+    /** One stored response */
+    static final class Entry {
+
+        final String key;
+        final int status;
+        final Map<String, List<String>> headers;
+        final HttpClient.Version version;
+        final byte[] body;
+        final Map<String, String> vary;
+        volatile String etag;
+        volatile String lastModified;
+        volatile long freshUntil;
+        volatile boolean noCache;
+
+        private Entry(String key, int status, Map<String, List<String>> headers, HttpClient.Version version,
+                      byte[] body, Map<String, String> vary) {
+            this.key = key;
+            this.status = status;
+            this.headers = headers;
+            this.version = version;
+            this.body = body;
+            this.vary = vary;
+        }
+
+        boolean matches(ApiRequest request) {
+            for (Map.Entry<String, String> v : vary.entrySet()) {
+                if (!v.getValue().equals(headerValue(request, v.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Validators to send with the revalidation request */
+        Map<String, String> conditionalHeaders() {
+            Map<String, String> conditional = new LinkedHashMap<>();
+            if (etag != null) {
+                conditional.put("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                conditional.put("If-Modified-Since", lastModified);
+            }
+            return conditional;
+        }
+
+        HttpHeaders httpHeaders() {
+            return HttpHeaders.of(headers, (name, value) -> true);
+        }
+
+        URI uri() {
+            return URI.create(key);
+        }
+
+        /** Applies validators / freshness from a 200 or 304 */
+        void refresh(HttpHeaders h) {
+            h.firstValue("ETag").ifPresent(v -> etag = v);
+            h.firstValue("Last-Modified").ifPresent(v -> lastModified = v);
+            String cc = h.firstValue("Cache-Control").orElse("").toLowerCase(Locale.ROOT);
+            noCache = cc.contains("no-cache");
+            long now = System.currentTimeMillis();
+            long maxAge = maxAgeSeconds(cc);
+            if (maxAge >= 0) {
+                freshUntil = now + maxAge * 1000;
+            } else {
+                freshUntil = h.firstValue("Expires").map(HttpCache::epochMillis).orElse(now);
+            }
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeUTF(key);
+            out.writeInt(status);
+            out.writeUTF(version.name());
+            out.writeUTF(etag == null ? "" : etag);
+            out.writeUTF(lastModified == null ? "" : lastModified);
+            out.writeLong(freshUntil);
+            out.writeBoolean(noCache);
+            writeMap(out, vary);
+            out.writeInt(headers.size());
+            for (Map.Entry<String, List<String>> h : headers.entrySet()) {
+                out.writeUTF(h.getKey());
+                out.writeInt(h.getValue().size());
+                for (String v : h.getValue()) {
+                    out.writeUTF(v);
+                }
+            }
+            out.writeInt(body.length);
+            out.write(body);
+        }
+
+        static Entry read(DataInputStream in) throws IOException {
+            String key = in.readUTF();
+            int status = in.readInt();
+            HttpClient.Version version = HttpClient.Version.valueOf(in.readUTF());
+            String etag = in.readUTF();
+            String lastModified = in.readUTF();
+            long freshUntil = in.readLong();
+            boolean noCache = in.readBoolean();
+            Map<String, String> vary = readMap(in);
+            Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                int n = in.readInt();
+                List<String> values = new ArrayList<>(n);
+                for (int j = 0; j < n; j++) {
+                    values.add(in.readUTF());
+                }
+                headers.put(name, values);
+            }
+            byte[] body = in.readNBytes(in.readInt());
+            Entry entry = new Entry(key, status, headers, version, body, vary);
+            entry.etag = etag.isEmpty() ? null : etag;
+            entry.lastModified = lastModified.isEmpty() ? null : lastModified;
+            entry.freshUntil = freshUntil;
+            entry.noCache = noCache;
+            return entry;
+        }
+
+        private static void writeMap(DataOutputStream out, Map<String, String> map) throws IOException {
+            out.writeInt(map.size());
+            for (Map.Entry<String, String> e : map.entrySet()) {
+                out.writeUTF(e.getKey());
+                out.writeUTF(e.getValue());
+            }
+        }
+
+        private static Map<String, String> readMap(DataInputStream in) throws IOException {
+            Map<String, String> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            int n = in.readInt();
+            for (int i = 0; i < n; i++) {
+                map.put(in.readUTF(), in.readUTF());
+            }
+            return map;
+        }
+    }
+
+    private static long maxAgeSeconds(String cacheControl) {
+        for (String directive : cacheControl.split(",")) {
+            String d = directive.trim();
+            if (d.startsWith("max-age=")) {
+                try {
+                    return Long.parseLong(d.substring(8).replace("\"", ""));
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static long epochMillis(String httpDate) {
+        try {
+            return ZonedDateTime.parse(httpDate, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.Pages.Http;
+
+import org.Pages.Metrics.LatencyRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 🎥 JFR event for one exchange sent through the HttpEngine
+ * ---------------------------------------------------------
+ * The event spans the engine's own work (cache lookup, network, body
+ * streaming); latency is measured from the intended send time like
+ * LatencyRecorder. Phase fields are 0 when the phase was not paid (pooled
+ * connection, no body) or not observable (plain HTTP), and for cache / memo
+ * replays. Costs one allocation and no recording work while no JFR recording
+ * is running.
+ */
+@Name(HttpCallEvent.NAME)
+@Label("HTTP Call")
+@Category({"Invoo", "HTTP"})
+@Description("One request sent through the harness HttpEngine")
+@StackTrace(false)
+public final class HttpCallEvent extends Event {
+
+    public static final String NAME = "org.Pages.HttpCall";
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Method")
+    String method;
+
+    @Label("Host")
+    String host;
+
+    @Label("Status")
+    @Description("HTTP status, -1 for an I/O error")
+    int status;
+
+    @Label("Body Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Outcome")
+    @Description("MISS / BYPASS went to the network, HIT / REVALIDATED / COALESCED / MEMOIZED were served locally")
+    String outcome;
+
+    @Label("Latency")
+    @Description("From the intended send time to the end of the body")
+    @Timespan
+    long latency;
+
+    @Label("New Connection")
+    boolean newConnection;
+
+    @Label("DNS")
+    @Timespan
+    long dns;
+
+    @Label("Connect")
+    @Timespan
+    long connect;
+
+    @Label("TLS Handshake")
+    @Timespan
+    long tls;
+
+    @Label("Request Write")
+    @Timespan
+    long write;
+
+    @Label("Time To First Byte")
+    @Timespan
+    long ttfb;
+
+    @Label("Download")
+    @Timespan
+    long download;
+
+    /** 🎥 Starts timing an exchange */
+    static HttpCallEvent started() {
+        HttpCallEvent event = new HttpCallEvent();
+        event.begin();
+        return event;
+    }
+
+    /** ✅ Fills in the outcome and commits, if a recording wants this event */
+    void finish(ApiRequest request, int status, long bytes, String outcome, long latencyNanos,
+                PhaseTimings.Split phases) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.endpoint = LatencyRecorder.key(request.method(), request.uri());
+        this.method = request.method();
+        this.host = request.uri().getAuthority();
+        this.status = status;
+        this.bytes = bytes;
+        this.outcome = outcome;
+        this.latency = latencyNanos;
+        if (phases != null) {
+            this.newConnection = phases.newConnection();
+            this.dns = Math.max(0, phases.dns());
+            this.connect = Math.max(0, phases.connect());
+            this.tls = Math.max(0, phases.tls());
+            this.write = Math.max(0, phases.write());
+            this.ttfb = Math.max(0, phases.ttfb());
+            this.download = Math.max(0, phases.download());
+        }
+        commit();
+    }
+}
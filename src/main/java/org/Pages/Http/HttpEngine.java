@@ -0,0 +1,353 @@
+package org.Pages.Http;
+
+import org.Pages.History.ResultHistory;
+import org.Pages.Metrics.Durations;
+import org.Pages.Metrics.LatencyRecorder;
+import org.Pages.Metrics.RunReport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 🌐 Shared HTTP engine for every suite
+ * --------------------------------------
+ * - One pooled java.net.http.HttpClient per host, so keep-alive connections and
+ *   TLS sessions survive across requests and test classes
+ * - HTTP/2 negotiated via ALPN where the host supports it
+ * - Per-host connect / request timeouts and in-flight cap (see HostConfig); with
+ *   -Dinvoo.http.adaptive=true the cap is an AIMD limit driven by RTT and 429 / 5xx
+ *   (AdaptiveLimiter)
+ * - Per-host circuit breaker: a host that keeps failing is refused at once
+ *   with HostUnavailableException instead of waiting out its timeouts
+ * - Per-host request vs. connection counts, printed in the RunReport
+ * - Per-endpoint DNS / connect / TLS / write / TTFB / download split (PhaseTimings),
+ *   and one HttpCallEvent per exchange for JFR recordings
+ * - Per-endpoint latency from the intended send time (LatencyRecorder), and
+ *   every outcome appended to the run-to-run ResultHistory
+ * - Bodies are streamed once through the request's BodyCheck; only a bounded
+ *   preview is kept unless the request retains the body
+ * - Public GETs go through the HttpCache (fresh hits skip the network,
+ *   stale entries are revalidated with If-None-Match / If-Modified-Since)
+ * - Opt-in coalescing / memoization of identical GETs (RequestCoalescer)
+ * - Budgeted retries and opt-in hedging of slow GETs (RetryPolicy)
+ */
+public final class HttpEngine {
+
+    private static final HttpEngine SHARED = new HttpEngine();
+    private static final int PREVIEW_BYTES = Integer.getInteger("invoo.http.previewBytes", 4096);
+
+    static {
+        RunReport.register("http", SHARED::report);
+        RunReport.register("cache", SHARED.cache::report);
+        RunReport.register("coalescing", SHARED.coalescer::report);
+        RunReport.register("retries", SHARED.retries::report);
+        RunReport.register("phases", SHARED.phases::report);
+        RunReport.register("adaptive", SHARED::limitReport);
+    }
+
+    private final ConcurrentMap<String, HostClient> hosts = new ConcurrentHashMap<>();
+    private final HttpCache cache = HttpCache.fromProperties();
+    private final RequestCoalescer coalescer = RequestCoalescer.fromProperties();
+    private final RetryPolicy retries = RetryPolicy.fromProperties();
+    private final PhaseTimings phases = PhaseTimings.fromProperties();
+
+    private HttpEngine() {
+    }
+
+    public static HttpEngine shared() {
+        return SHARED;
+    }
+
+    /** 🌐 GET, with auth when token != null */
+    public ApiResponse get(String url, String token) throws IOException {
+        return send(ApiRequest.get(url).bearer(token));
+    }
+
+    /** 🌐 POST with JSON body, with auth when token != null */
+    public ApiResponse post(String url, String token, String jsonBody) throws IOException {
+        return send(ApiRequest.post(url, jsonBody).bearer(token));
+    }
+
+    /** 📨 Sends the request on the host's pooled client and streams the body through its BodyCheck. */
+    public ApiResponse send(ApiRequest request) throws IOException {
+        if (!coalescer.applies(request)) {
+            return exchange(request, false);
+        }
+        long intended = request.intendedNanos() != 0 ? request.intendedNanos() : System.nanoTime();
+        String key = coalescer.key(request);
+        RequestCoalescer.Shared memo = coalescer.memoized(key);
+        if (memo != null) {
+            return replay(request, memo.status(), memo.headers(), memo.version(), memo.body(), intended,
+                    HttpCache.Outcome.MEMOIZED, request.retainsBody());
+        }
+        CompletableFuture<RequestCoalescer.Shared> mine = new CompletableFuture<>();
+        CompletableFuture<RequestCoalescer.Shared> leader = coalescer.join(key, mine);
+        if (leader != null) {
+            RequestCoalescer.Shared shared = coalescer.await(leader, request.uri());
+            return replay(request, shared.status(), shared.headers(), shared.version(), shared.body(), intended,
+                    HttpCache.Outcome.COALESCED, request.retainsBody());
+        }
+        try {
+            ApiResponse response = exchange(request, true);
+            coalescer.completed(key, mine, new RequestCoalescer.Shared(response.status(), response.headers(),
+                    response.version(), response.body()));
+            return request.retainsBody() ? response : response.withoutFullBody();
+        } catch (Throwable e) {
+            // Errors too (an AssertionError from a BodyCheck consumer): followers must never wait forever
+            coalescer.failed(key, mine, e);
+            throw e;
+        }
+    }
+
+    /** One trip through the cache / network; share = keep the full body for coalesced callers */
+    private ApiResponse exchange(ApiRequest request, boolean share) throws IOException {
+        URI uri = request.uri();
+        long intended = request.intendedNanos() != 0 ? request.intendedNanos() : System.nanoTime();
+        HttpCache.Entry cached = cache.lookup(request);
+        if (cached != null && cache.fresh(cached, request)) {
+            cache.recordHit(cached);
+            return fromCache(request, cached, intended, HttpCache.Outcome.HIT, share);
+        }
+
+        HostClient host = host(uri);
+        host.breaker.acquire();
+        acquireBulkhead(host, uri);
+        HttpCallEvent event = HttpCallEvent.started();
+        long start = System.nanoTime();
+        boolean judged = false;
+        PhaseTimings.Trace trace = phases.trace(request, host.setups);
+        try {
+            HttpResponse<InputStream> response = retries.send(host.client, host.limiter, request,
+                    request.toHttpRequest(host.config.requestTimeout(), cached == null ? Map.of() : cached.conditionalHeaders()),
+                    trace);
+            host.breaker.onResponse(response.statusCode());
+            host.limiter.onResponse(LatencyRecorder.key(request.method(), uri), response.statusCode(),
+                    trace.rttNanos());
+            judged = true;
+
+            if (cached != null && response.statusCode() == 304) {
+                try (InputStream empty = response.body()) {
+                    empty.transferTo(OutputStream.nullOutputStream());
+                }
+                PhaseTimings.Split split = trace.finish(System.nanoTime());
+                ApiResponse revalidated = fromCache(request, cache.revalidated(cached, response.headers()), intended,
+                        HttpCache.Outcome.REVALIDATED, share);
+                event.finish(request, 304, revalidated.bodyLength(), HttpCache.Outcome.REVALIDATED.name(),
+                        System.nanoTime() - intended, split);
+                return revalidated;
+            }
+
+            boolean cacheable = cache.cacheable(request);
+            boolean store = cache.storable(request, response);
+            BodyReader.Body body = BodyReader.read(response.body(), request.check(),
+                    request.retainsBody() || store || share, PREVIEW_BYTES);
+            if (cacheable) {
+                cache.recordMiss();
+            }
+            if (store) {
+                cache.store(request, response, body.full());
+            }
+            long end = System.nanoTime();
+            PhaseTimings.Split split = trace.finish(end);
+            HttpCache.Outcome outcome = cacheable ? HttpCache.Outcome.MISS : HttpCache.Outcome.BYPASS;
+            record(request, intended, end, response.statusCode(), body.length(), ResultHistory.Kind.REQUEST, true);
+            event.finish(request, response.statusCode(), body.length(), outcome.name(), end - intended, split);
+            return new ApiResponse(uri, response.statusCode(), response.headers(), body,
+                    response.version(), end - start, outcome);
+        } catch (IOException e) {
+            if (!judged && !(e instanceof InterruptedIOException)) {
+                host.breaker.onFailure();
+                host.limiter.onDropped(LatencyRecorder.key(request.method(), uri), -1);
+                judged = true;
+            }
+            host.stats.recordFailure();
+            long end = System.nanoTime();
+            record(request, intended, end, -1, 0, ResultHistory.Kind.REQUEST, true);
+            event.finish(request, -1, 0, "ERROR", end - intended, null);
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("❌ Interrupted while calling " + uri);
+        } finally {
+            if (!judged) {
+                host.breaker.release();
+            }
+            host.stats.recordRequest();
+            host.limiter.release();
+        }
+    }
+
+    /** 🧱 Waits for a slot in the host's bulkhead, at most HostConfig.bulkheadWait() */
+    private static void acquireBulkhead(HostClient host, URI uri) throws IOException {
+        try {
+            if (!host.limiter.tryAcquire(host.config.bulkheadWait().toNanos())) {
+                host.breaker.release();
+                host.stats.recordBulkheadRejection();
+                throw new HostUnavailableException(uri.getHost(), "❌ Bulkhead for " + uri.getHost() + " stayed full ("
+                        + host.limiter.limit() + " in flight) for " + Durations.format(host.config.bulkheadWait()));
+            }
+        } catch (InterruptedException e) {
+            host.breaker.release();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("❌ Interrupted while waiting for a connection slot to " + uri.getHost());
+        }
+    }
+
+    /** 🗄️ Cache statistics (hits, revalidations, misses, bytes saved) */
+    public HttpCache cache() {
+        return cache;
+    }
+
+    /** 🔁 Hedge / retry statistics */
+    public RetryPolicy retries() {
+        return retries;
+    }
+
+    /** ⏳ Per-endpoint phase histograms */
+    public PhaseTimings phases() {
+        return phases;
+    }
+
+    /** 🔗 Coalescing / memo statistics */
+    public RequestCoalescer coalescer() {
+        return coalescer;
+    }
+
+    /** 🎚️ Per-host in-flight limiters (fixed unless -Dinvoo.http.adaptive=true) */
+    public List<AdaptiveLimiter> limiters() {
+        List<AdaptiveLimiter> result = new ArrayList<>();
+        hosts.values().forEach(h -> result.add(h.limiter));
+        result.sort(Comparator.comparing(AdaptiveLimiter::host));
+        return result;
+    }
+
+    /** 📊 Snapshot of the per-host counters */
+    public List<HostStats> stats() {
+        List<HostStats> result = new ArrayList<>();
+        hosts.values().forEach(h -> result.add(h.stats));
+        result.sort(Comparator.comparing(HostStats::host));
+        return result;
+    }
+
+    /** 🔌 Human-readable connection reuse summary */
+    public String report() {
+        StringBuilder sb = new StringBuilder("🔌 HTTP connection reuse per host");
+        if (hosts.isEmpty()) {
+            sb.append("\n   (no requests sent)");
+        }
+        for (HostClient h : hosts.values().stream().sorted(Comparator.comparing(c -> c.stats.host())).toList()) {
+            sb.append("\n   ").append(h.stats);
+            String breaker = h.breaker.toString();
+            if (!breaker.isEmpty()) {
+                sb.append(" ⚡ ").append(breaker);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 🎚️ Settled adaptive limits per host and endpoint, "" when every limit is fixed */
+    public String limitReport() {
+        StringBuilder sb = new StringBuilder();
+        for (AdaptiveLimiter limiter : limiters()) {
+            String section = limiter.report();
+            if (!section.isEmpty()) {
+                sb.append(sb.length() == 0 ? "🎚️ Adaptive concurrency limits" : "").append('\n').append(section);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** Replays a stored body through the request's BodyCheck, as if it had just arrived */
+    private ApiResponse fromCache(ApiRequest request, HttpCache.Entry entry, long intended, HttpCache.Outcome outcome,
+                                  boolean share) throws IOException {
+        return replay(request, entry.status, entry.httpHeaders(), entry.version, entry.body, intended, outcome,
+                request.retainsBody() || share);
+    }
+
+    private ApiResponse replay(ApiRequest request, int status, HttpHeaders headers, HttpClient.Version version,
+                               byte[] stored, long intended, HttpCache.Outcome outcome, boolean retain)
+            throws IOException {
+        // a revalidation's event is emitted by exchange(), which also saw its network part
+        HttpCallEvent event = outcome == HttpCache.Outcome.REVALIDATED ? null : HttpCallEvent.started();
+        long start = System.nanoTime();
+        BodyReader.Body body = BodyReader.read(new ByteArrayInputStream(stored), request.check(), retain, PREVIEW_BYTES);
+        long end = System.nanoTime();
+        record(request, intended, end, status, body.length(),
+                outcome == HttpCache.Outcome.REVALIDATED ? ResultHistory.Kind.REQUEST : ResultHistory.Kind.REPLAY,
+                outcome == HttpCache.Outcome.REVALIDATED);
+        if (event != null) {
+            event.finish(request, status, body.length(), outcome.name(), end - intended, null);
+        }
+        return new ApiResponse(request.uri(), status, headers, body, version, end - start, outcome);
+    }
+
+    /**
+     * ⏱️ Latency histogram + result history for one finished exchange (status -1 = I/O error);
+     * network = false keeps the answer out of the endpoint's network histogram
+     */
+    private static void record(ApiRequest request, long intended, long end, int status, long bytes,
+                               ResultHistory.Kind kind, boolean network) {
+        if (network) {
+            LatencyRecorder.shared().record(request.method(), request.uri(), intended, end);
+        } else {
+            LatencyRecorder.shared().recordCached(request.method(), request.uri(), intended, end);
+        }
+        ResultHistory history = ResultHistory.shared();
+        if (history.enabled() && request.recordsHistory()) {
+            history.record(LatencyRecorder.key(request.method(), request.uri()), status, end - intended, bytes, kind);
+        }
+    }
+
+    private HostClient host(URI uri) {
+        String key = uri.getScheme() + "://" + uri.getAuthority();
+        return hosts.computeIfAbsent(key, k -> new HostClient(uri, phases.enabled()));
+    }
+
+    /** One pooled client + counters + in-flight limiter per scheme://host:port */
+    private static final class HostClient {
+
+        private final HostConfig config;
+        private final HostStats stats;
+        private final HttpClient client;
+        private final AdaptiveLimiter limiter;
+        private final CircuitBreaker breaker;
+        private final PhaseTimings.Setups setups = new PhaseTimings.Setups();
+
+        private HostClient(URI uri, boolean timePhases) {
+            boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+            this.config = HostConfig.forHost(uri.getHost());
+            this.stats = new HostStats(uri.getAuthority(), secure);
+            this.limiter = AdaptiveLimiter.forHost(uri.getAuthority(), config.maxConcurrency());
+            this.breaker = CircuitBreaker.forHost(uri.getAuthority());
+
+            HttpClient.Builder builder = HttpClient.newBuilder()
+                    .connectTimeout(config.connectTimeout())
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    // h2c upgrade on plain HTTP only adds headers; ALPN does the real negotiation on TLS
+                    .version(secure ? config.version() : HttpClient.Version.HTTP_1_1);
+            if (secure) {
+                try {
+                    builder.sslContext(new CountingSSLContext(stats, timePhases ? setups : null));
+                } catch (NoSuchAlgorithmException e) {
+                    throw new IllegalStateException("❌ No default SSLContext available", e);
+                }
+            }
+            this.client = builder.build();
+        }
+    }
+}
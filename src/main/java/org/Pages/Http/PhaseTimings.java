@@ -0,0 +1,279 @@
+package org.Pages.Http;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.Pages.Metrics.LatencyRecorder;
+
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ⏳ Where the time of each network exchange goes
+ * -----------------------------------------------
+ * - DNS: real resolver lookups (TimingResolverProvider; cached answers cost nothing)
+ * - CONNECT: TCP connect of a new TLS connection (SSLEngine created → first handshake write)
+ * - TLS: handshake of a new connection (first write → FINISHED, see TimingSSLEngine)
+ * - WRITE: request body handed to the client (requests with a body only)
+ * - TTFB: the rest up to the response headers, i.e. server think time plus one round trip
+ * - DOWNLOAD: headers → body fully streamed through the BodyCheck
+ *
+ * A new connection is charged to the request that was waiting for it; pooled
+ * requests pay no DNS / CONNECT / TLS. On plain HTTP the connection is not
+ * observable and its setup stays inside TTFB. Only the attempt whose response
+ * was used counts (not retried or losing hedged attempts).
+ * -Dinvoo.http.phases=false switches the instrumentation off.
+ */
+public final class PhaseTimings {
+
+    public enum Phase { DNS, CONNECT, TLS, WRITE, TTFB, DOWNLOAD }
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    /** Unclaimed connection setups / lookups older than this are dropped */
+    private static final long STALE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final boolean enabled;
+    private final ConcurrentMap<String, Series> series = new ConcurrentHashMap<>();
+
+    PhaseTimings(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    static PhaseTimings fromProperties() {
+        return new PhaseTimings(Boolean.parseBoolean(System.getProperty("invoo.http.phases", "true")));
+    }
+
+    boolean enabled() {
+        return enabled;
+    }
+
+    /** 🧵 Starts tracing one exchange with the host (its new connections land in `setups`) */
+    Trace trace(ApiRequest request, Setups setups) {
+        return new Trace(LatencyRecorder.key(request.method(), request.uri()), request.uri().getHost(), setups);
+    }
+
+    /** 📊 Per-phase histogram (µs) of one endpoint, empty when the phase was never paid */
+    public Histogram histogram(String key, Phase phase) {
+        Series s = series.get(key);
+        return s == null ? new Histogram(1, MAX_MICROS, 2) : s.phases.get(phase).copy();
+    }
+
+    /** ⏳ p50 / p95 per phase and endpoint for the RunReport */
+    public String report() {
+        if (series.isEmpty()) {
+            return "";
+        }
+        List<Series> rows = new ArrayList<>(series.values());
+        rows.sort((a, b) -> a.key.compareTo(b.key));
+        int width = Math.max(8, rows.stream().mapToInt(s -> s.key.length()).max().orElse(0));
+        StringBuilder sb = new StringBuilder("⏳ Request phases per endpoint (ms, p50/p95 of the requests that paid the phase)");
+        sb.append(String.format("%n   %-" + width + "s %6s %8s", "ENDPOINT", "COUNT", "NEW CONN"));
+        for (Phase phase : Phase.values()) {
+            sb.append(String.format(" %13s", phase));
+        }
+        for (Series s : rows) {
+            sb.append(String.format("%n   %-" + width + "s %6d %8d", s.key, s.count.sum(), s.connections.sum()));
+            for (Phase phase : Phase.values()) {
+                Histogram h = s.phases.get(phase);
+                sb.append(String.format(" %13s", h.getTotalCount() == 0 ? "-" : String.format("%.1f/%.1f",
+                        h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(95) / 1000.0)));
+            }
+        }
+        return sb.toString();
+    }
+
+    private void record(String key, Split split) {
+        Series s = series.computeIfAbsent(key, Series::new);
+        s.count.increment();
+        if (split.newConnection()) {
+            s.connections.increment();
+        }
+        s.record(Phase.DNS, split.dns());
+        s.record(Phase.CONNECT, split.connect());
+        s.record(Phase.TLS, split.tls());
+        s.record(Phase.WRITE, split.write());
+        s.record(Phase.TTFB, split.ttfb());
+        s.record(Phase.DOWNLOAD, split.download());
+    }
+
+    /** One exchange: its attempts, the one whose response was used, and the final tally */
+    final class Trace {
+
+        private final String key;
+        private final String hostName;
+        private final Setups setups;
+        private volatile Attempt winner;
+
+        private Trace(String key, String hostName, Setups setups) {
+            this.key = key;
+            this.hostName = hostName;
+            this.setups = setups;
+        }
+
+        /** ▶️ A new attempt starts now */
+        Attempt attempt() {
+            return new Attempt();
+        }
+
+        /** 🏁 This attempt's response is the one being returned */
+        void won(Attempt attempt) {
+            winner = attempt;
+        }
+
+        /** ⏱️ Send-to-headers time of the winning attempt alone (no retries, backoff or hedge wait), -1 if none */
+        long rttNanos() {
+            Attempt a = winner;
+            return a == null || a.headers == 0 ? -1 : a.headers - a.start;
+        }
+
+        /** ✅ Body fully read at `end`: splits the winning attempt into phases and records them (null if off) */
+        Split finish(long end) {
+            Attempt a = winner;
+            if (!enabled || a == null || a.headers == 0) {
+                return null;
+            }
+            long dns = TimingResolverProvider.claim(hostName, a.start, a.headers);
+            Setup setup = setups.claim(a.start, a.headers);
+            long connect = setup == null ? -1 : setup.handshakeStart - setup.created;
+            long tls = setup == null ? -1 : setup.finished - setup.handshakeStart;
+            long write = a.writeEnd == 0 ? -1 : a.writeEnd - a.writeStart;
+            long ttfb = a.headers - a.start - Math.max(0, dns) - Math.max(0, connect) - Math.max(0, tls)
+                    - Math.max(0, write);
+            Split split = new Split(dns, connect, tls, write, Math.max(0, ttfb), end - a.headers, setup != null);
+            record(key, split);
+            return split;
+        }
+    }
+
+    /** Phases of one exchange in nanoseconds; -1 = not paid or not observable */
+    record Split(long dns, long connect, long tls, long write, long ttfb, long download, boolean newConnection) {
+    }
+
+    /** One send on the wire: start, body write and response headers (System.nanoTime) */
+    final class Attempt {
+
+        private final long start = System.nanoTime();
+        private volatile long writeStart;
+        private volatile long writeEnd;
+        private volatile long headers;
+
+        /** The request to send for this attempt: same request, body publisher timed */
+        HttpRequest wrap(HttpRequest http) {
+            if (!enabled || http.bodyPublisher().map(p -> p.contentLength() == 0).orElse(true)) {
+                return http;
+            }
+            HttpRequest.BodyPublisher body = http.bodyPublisher().get();
+            return HttpRequest.newBuilder(http, (name, value) -> true)
+                    .method(http.method(), new TimedPublisher(body))
+                    .build();
+        }
+
+        /** 📨 Response headers are in */
+        void headersArrived() {
+            headers = System.nanoTime();
+        }
+
+        /** Body publisher that notes when the client starts and finishes pulling the body */
+        private final class TimedPublisher implements HttpRequest.BodyPublisher {
+
+            private final HttpRequest.BodyPublisher delegate;
+
+            private TimedPublisher(HttpRequest.BodyPublisher delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public long contentLength() {
+                return delegate.contentLength();
+            }
+
+            @Override
+            public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+                writeStart = System.nanoTime();
+                delegate.subscribe(new Flow.Subscriber<ByteBuffer>() {
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                        subscriber.onSubscribe(subscription);
+                    }
+
+                    @Override
+                    public void onNext(ByteBuffer item) {
+                        subscriber.onNext(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        subscriber.onError(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        writeEnd = System.nanoTime();
+                        subscriber.onComplete();
+                    }
+                });
+            }
+        }
+    }
+
+    /** 🔐 New connections of one host, waiting to be charged to the request that opened them */
+    static final class Setups {
+
+        private final ConcurrentLinkedQueue<Setup> pending = new ConcurrentLinkedQueue<>();
+
+        void add(long created, long handshakeStart, long finished) {
+            pending.add(new Setup(created, handshakeStart, finished));
+        }
+
+        /** First setup that started after `from` and finished before `to`, removed from the queue */
+        private Setup claim(long from, long to) {
+            for (Iterator<Setup> it = pending.iterator(); it.hasNext(); ) {
+                Setup s = it.next();
+                if (to - s.finished > STALE_NANOS) {
+                    it.remove();
+                } else if (s.created >= from && s.finished <= to && pending.remove(s)) {
+                    return s;
+                }
+            }
+            return null;
+        }
+    }
+
+    private record Setup(long created, long handshakeStart, long finished) {
+    }
+
+    /** Phase histograms of one endpoint, in µs */
+    private static final class Series {
+
+        private final String key;
+        private final Map<Phase, Histogram> phases = new EnumMap<>(Phase.class);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder connections = new LongAdder();
+
+        private Series(String key) {
+            this.key = key;
+            for (Phase phase : Phase.values()) {
+                phases.put(phase, new ConcurrentHistogram(MAX_MICROS, 2));
+            }
+        }
+
+        /** Negative = not observable / not paid, skipped */
+        private void record(Phase phase, long nanos) {
+            if (nanos >= 0) {
+                Histogram h = phases.get(phase);
+                h.recordValue(Math.min(h.getHighestTrackableValue(), Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos))));
+            }
+        }
+    }
+}
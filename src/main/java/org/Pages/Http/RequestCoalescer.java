@@ -0,0 +1,177 @@
+package org.Pages.Http;
+
+import org.Pages.Metrics.Durations;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 🔗 Request coalescing and in-run memoization for identical GETs
+ * ---------------------------------------------------------------
+ * - -Dinvoo.http.coalesce=true: identical GETs in flight at the same time
+ *   (same URL and same headers, so the same bearer token) share one network call
+ * - -Dinvoo.http.memo.ttl=30s: a 2xx is also reused by identical GETs for that long
+ *   (LRU bounded by -Dinvoo.http.memo.maxBytes, default 16 MB)
+ * - Both are off by default; ApiRequest.noCache() always bypasses them
+ *
+ * Every caller gets its own ApiResponse: the shared body is replayed through the
+ * caller's BodyCheck, and cacheOutcome() says COALESCED / MEMOIZED.
+ */
+public final class RequestCoalescer {
+
+    private final boolean coalesce;
+    private final long ttlNanos;
+    private final long maxBytes;
+    private final ConcurrentMap<String, CompletableFuture<Shared>> inFlight = new ConcurrentHashMap<>();
+    private final LinkedHashMap<String, Memo> memo = new LinkedHashMap<>(64, 0.75f, true);
+    private long memoBytes;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder memoHits = new LongAdder();
+
+    RequestCoalescer(boolean coalesce, Duration ttl, long maxBytes) {
+        this.coalesce = coalesce;
+        this.ttlNanos = ttl.toNanos();
+        this.maxBytes = maxBytes;
+    }
+
+    static RequestCoalescer fromProperties() {
+        return new RequestCoalescer(
+                Boolean.parseBoolean(System.getProperty("invoo.http.coalesce", "false")),
+                Durations.parse(System.getProperty("invoo.http.memo.ttl", "0")),
+                Long.getLong("invoo.http.memo.maxBytes", 16L << 20));
+    }
+
+    /** GET, layer switched on, and the caller didn't ask for noCache() */
+    boolean applies(ApiRequest request) {
+        return (coalesce || ttlNanos > 0) && "GET".equals(request.method()) && !request.bypassesCaches();
+    }
+
+    /** Requests with the same key get the same answer: URL plus every header (Authorization included) */
+    String key(ApiRequest request) {
+        return request.uri() + " " + request.headers();
+    }
+
+    /** 🔎 Memoized response still within the TTL, or null */
+    Shared memoized(String key) {
+        if (ttlNanos <= 0) {
+            return null;
+        }
+        synchronized (this) {
+            Memo m = memo.get(key);
+            if (m == null) {
+                return null;
+            }
+            if (System.nanoTime() - m.storedAt > ttlNanos) {
+                memo.remove(key);
+                memoBytes -= m.shared.body.length;
+                return null;
+            }
+            memoHits.increment();
+            return m.shared;
+        }
+    }
+
+    /**
+     * 🔗 Registers `mine` as the call for this key and returns null (the caller must send it),
+     * or returns the identical call already in flight.
+     */
+    CompletableFuture<Shared> join(String key, CompletableFuture<Shared> mine) {
+        if (!coalesce) {
+            calls.increment();
+            return null;
+        }
+        CompletableFuture<Shared> leader = inFlight.putIfAbsent(key, mine);
+        if (leader == null) {
+            calls.increment();
+        } else {
+            joined.increment();
+        }
+        return leader;
+    }
+
+    /** ⏳ Waits for the leader's response; its IOException is rethrown to every follower */
+    Shared await(CompletableFuture<Shared> leader, URI uri) throws IOException {
+        try {
+            return leader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("❌ Interrupted while waiting for the shared call to " + uri);
+        } catch (ExecutionException e) {
+            throw new IOException("❌ Shared call to " + uri + " failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /** ✅ The leader's call finished: memoize a 2xx and release the followers */
+    void completed(String key, CompletableFuture<Shared> mine, Shared shared) {
+        if (ttlNanos > 0 && shared.status >= 200 && shared.status < 300 && shared.body.length <= maxBytes / 4) {
+            remember(key, shared);
+        }
+        inFlight.remove(key, mine);
+        mine.complete(shared);
+    }
+
+    /** ❌ The leader's call threw: nothing is memoized, followers get the same failure */
+    void failed(String key, CompletableFuture<Shared> mine, Throwable error) {
+        inFlight.remove(key, mine);
+        mine.completeExceptionally(error);
+    }
+
+    /** 📊 Counters for the RunReport */
+    public String report() {
+        if (!coalesce && ttlNanos <= 0 || calls.sum() == 0) {
+            return "";
+        }
+        synchronized (this) {
+            return String.format("🔗 Request coalescing: %d network calls, %d joined an identical call in flight, "
+                            + "%d memo hits%s",
+                    calls.sum(), joined.sum(), memoHits.sum(),
+                    ttlNanos > 0 ? String.format(" (ttl %s, %d entries)", Durations.format(Duration.ofNanos(ttlNanos)),
+                            memo.size()) : "");
+        }
+    }
+
+    public long calls() {
+        return calls.sum();
+    }
+
+    public long joined() {
+        return joined.sum();
+    }
+
+    public long memoHits() {
+        return memoHits.sum();
+    }
+
+    private synchronized void remember(String key, Shared shared) {
+        Memo old = memo.put(key, new Memo(shared, System.nanoTime()));
+        if (old != null) {
+            memoBytes -= old.shared.body.length;
+        }
+        memoBytes += shared.body.length;
+        Iterator<Memo> eldest = memo.values().iterator();
+        while (memoBytes > maxBytes && eldest.hasNext()) {
+            memoBytes -= eldest.next().shared.body.length;
+            eldest.remove();
+        }
+    }
+
+    /** What followers need to rebuild the response on their side */
+    record Shared(int status, HttpHeaders headers, HttpClient.Version version, byte[] body) {
+    }
+
+    private record Memo(Shared shared, long storedAt) {
+    }
+}
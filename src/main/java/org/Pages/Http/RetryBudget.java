@@ -0,0 +1,66 @@
+package org.Pages.Http;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 🪣 Per-run retry budget (token bucket)
+ * --------------------------------------
+ * - Every request deposits `ratio` of a token, every retry or hedge spends one,
+ *   so extra attempts stay below ratio × traffic (+ `burst` at the start)
+ * - The bucket never holds more than `burst` tokens: a quiet period does not
+ *   save up for a retry storm later
+ * - -Dinvoo.http.retry.budget (default 0.1 = 10 %), -Dinvoo.http.retry.burst (default 10)
+ */
+public final class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositMilli;
+    private final long capacityMilli;
+    private final AtomicLong balanceMilli;
+    private final LongAdder spent = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    public RetryBudget(double ratio, int burst) {
+        this.depositMilli = Math.round(ratio * SCALE);
+        this.capacityMilli = Math.max(1, burst) * SCALE;
+        this.balanceMilli = new AtomicLong(capacityMilli);
+    }
+
+    static RetryBudget fromProperties() {
+        return new RetryBudget(
+                Double.parseDouble(System.getProperty("invoo.http.retry.budget", "0.1")),
+                Integer.getInteger("invoo.http.retry.burst", 10));
+    }
+
+    /** ➕ One request went out */
+    void deposit() {
+        balanceMilli.getAndUpdate(b -> Math.min(capacityMilli, b + depositMilli));
+    }
+
+    /** ➖ Takes one token for a retry / hedge; false when the budget is used up */
+    boolean tryWithdraw() {
+        long before = balanceMilli.getAndUpdate(b -> b >= SCALE ? b - SCALE : b);
+        if (before >= SCALE) {
+            spent.increment();
+            return true;
+        }
+        denied.increment();
+        return false;
+    }
+
+    public long spent() {
+        return spent.sum();
+    }
+
+    public long denied() {
+        return denied.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("budget %.0f%% of requests + %d burst: %d used, %d denied",
+                depositMilli * 100.0 / SCALE, capacityMilli / SCALE, spent(), denied());
+    }
+}
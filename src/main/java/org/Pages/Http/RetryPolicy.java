@@ -0,0 +1,359 @@
+package org.Pages.Http;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.Pages.Metrics.Durations;
+import org.Pages.Metrics.LatencyRecorder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 🔁 Hedged requests and budgeted retries
+ * ---------------------------------------
+ * - Hedging (-Dinvoo.http.hedge=true): when a GET has no response headers after
+ *   the endpoint's p95 (-Dinvoo.http.hedge.percentile), a second identical
+ *   request goes out and the first usable response wins (not a 502 / 503 / 504
+ *   or an I/O error); the other is discarded. When neither is usable the
+ *   primary's outcome is returned, so the retry rules below still apply.
+ *   Needs -Dinvoo.http.hedge.minSamples (default 20) responses first, and never
+ *   hedges sooner than -Dinvoo.http.hedge.minDelay (default 10ms)
+ * - Retries (-Dinvoo.http.retries, default 0 so suites and monitors see every
+ *   failure; load runs default to 1): GET / HEAD only, on I/O errors
+ *   and 502 / 503 / 504, with jittered exponential backoff from
+ *   -Dinvoo.http.retry.backoff (default 50ms)
+ * - Hedges and retries both spend the run-wide RetryBudget, so a struggling
+ *   server sees at most ~10 % extra traffic
+ * - A hedge also needs a free in-flight permit on the host
+ */
+public final class RetryPolicy {
+
+    private static final Set<Integer> RETRYABLE_STATUS = Set.of(502, 503, 504);
+    private static final int REFRESH_EVERY = 16;
+
+    private final boolean hedge;
+    private final double percentile;
+    private final long minSamples;
+    private final long minDelayNanos;
+    private final int retries;
+    private final long backoffNanos;
+    private final RetryBudget budget;
+    private final ConcurrentMap<String, EndpointTail> endpoints = new ConcurrentHashMap<>();
+
+    RetryPolicy(boolean hedge, double percentile, long minSamples, Duration minDelay, int retries, Duration backoff,
+                RetryBudget budget) {
+        this.hedge = hedge;
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.minDelayNanos = minDelay.toNanos();
+        this.retries = retries;
+        this.backoffNanos = Math.max(1, backoff.toNanos());
+        this.budget = budget;
+    }
+
+    static RetryPolicy fromProperties() {
+        return new RetryPolicy(
+                Boolean.parseBoolean(System.getProperty("invoo.http.hedge", "false")),
+                Double.parseDouble(System.getProperty("invoo.http.hedge.percentile", "95")),
+                Long.getLong("invoo.http.hedge.minSamples", 20),
+                Durations.parse(System.getProperty("invoo.http.hedge.minDelay", "10ms")),
+                Integer.getInteger("invoo.http.retries", 0),
+                Durations.parse(System.getProperty("invoo.http.retry.backoff", "50ms")),
+                RetryBudget.fromProperties());
+    }
+
+    /** 📨 Sends until a response worth returning arrives (hedging / retrying where allowed) */
+    HttpResponse<InputStream> send(HttpClient client, AdaptiveLimiter limiter, ApiRequest request, HttpRequest http,
+                                   PhaseTimings.Trace trace) throws IOException, InterruptedException {
+        EndpointTail tail = endpoints.computeIfAbsent(LatencyRecorder.key(request.method(), request.uri()),
+                EndpointTail::new);
+        boolean idempotent = "GET".equals(request.method()) || "HEAD".equals(request.method());
+        tail.requests.increment();
+        budget.deposit();
+
+        for (int attempt = 0; ; attempt++) {
+            boolean mayRetry = idempotent && attempt < retries;
+            HttpResponse<InputStream> response;
+            try {
+                response = idempotent && hedge ? hedged(client, limiter, http, tail, trace)
+                        : timed(client, http, tail, trace);
+            } catch (IOException e) {
+                if (!mayRetry || e instanceof InterruptedIOException || !retry(tail)) {
+                    throw e;
+                }
+                limiter.onDropped(tail.key, -1);
+                backoff(attempt);
+                continue;
+            }
+            if (mayRetry && RETRYABLE_STATUS.contains(response.statusCode()) && retry(tail)) {
+                limiter.onDropped(tail.key, response.statusCode());
+                discard(response);
+                backoff(attempt);
+                continue;
+            }
+            return response;
+        }
+    }
+
+    /** 📊 Per-endpoint hedge / retry counts for the RunReport */
+    public String report() {
+        List<EndpointTail> active = new ArrayList<>();
+        for (EndpointTail tail : endpoints.values()) {
+            if (tail.hedges.sum() + tail.retries.sum() + tail.denied.sum() > 0) {
+                active.add(tail);
+            }
+        }
+        if (active.isEmpty()) {
+            return "";
+        }
+        active.sort((a, b) -> a.key.compareTo(b.key));
+        int width = Math.max(8, active.stream().mapToInt(t -> t.key.length()).max().orElse(0));
+        StringBuilder sb = new StringBuilder("🔁 Hedging / retries (" + budget + ")");
+        sb.append(String.format("%n   %-" + width + "s %8s %7s %9s %8s %7s %10s",
+                "ENDPOINT", "REQUESTS", "HEDGED", "HEDGE WON", "RETRIED", "DENIED", "HEDGE AT"));
+        for (EndpointTail t : active) {
+            long delay = t.delayNanos;
+            sb.append(String.format("%n   %-" + width + "s %8d %7d %9d %8d %7d %10s", t.key, t.requests.sum(),
+                    t.hedges.sum(), t.hedgeWins.sum(), t.retries.sum(), t.denied.sum(),
+                    delay > 0 ? Durations.format(Duration.ofNanos(delay)) : "-"));
+        }
+        return sb.toString();
+    }
+
+    public RetryBudget budget() {
+        return budget;
+    }
+
+    /** Hedged requests over all endpoints */
+    long hedges() {
+        return endpoints.values().stream().mapToLong(t -> t.hedges.sum()).sum();
+    }
+
+    /** Hedges whose (usable) response was the one returned */
+    long hedgeWins() {
+        return endpoints.values().stream().mapToLong(t -> t.hedgeWins.sum()).sum();
+    }
+
+    // ---- attempts -------------------------------------------------------
+
+    private HttpResponse<InputStream> timed(HttpClient client, HttpRequest http, EndpointTail tail,
+                                            PhaseTimings.Trace trace) throws IOException, InterruptedException {
+        PhaseTimings.Attempt attempt = trace.attempt();
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = client.send(attempt.wrap(http), HttpResponse.BodyHandlers.ofInputStream());
+        attempt.headersArrived();
+        tail.record(System.nanoTime() - start);
+        trace.won(attempt);
+        return response;
+    }
+
+    private HttpResponse<InputStream> hedged(HttpClient client, AdaptiveLimiter limiter, HttpRequest http,
+                                             EndpointTail tail, PhaseTimings.Trace trace) throws IOException, InterruptedException {
+        PhaseTimings.Attempt first = trace.attempt();
+        CompletableFuture<HttpResponse<InputStream>> primary = timedAsync(client, http, tail, first);
+        long delay = tail.delayNanos;
+        if (delay <= 0) {
+            return won(trace, first, await(primary));
+        }
+        try {
+            return won(trace, first, primary.get(delay, TimeUnit.NANOSECONDS));
+        } catch (TimeoutException slow) {
+            // fall through and hedge
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+        if (!limiter.tryAcquire()) {
+            return won(trace, first, await(primary));
+        }
+        if (!budget.tryWithdraw()) {
+            limiter.release();
+            tail.denied.increment();
+            return won(trace, first, await(primary));
+        }
+        tail.hedges.increment();
+        PhaseTimings.Attempt hedgeAttempt = trace.attempt();
+        CompletableFuture<HttpResponse<InputStream>> second = timedAsync(client, http, tail, hedgeAttempt);
+        CompletableFuture.allOf(primary, second).whenComplete((ignored, e) -> limiter.release());
+
+        Race race = new Race();
+        primary.whenComplete((r, e) -> race.complete(false, r, e));
+        second.whenComplete((r, e) -> race.complete(true, r, e));
+        Race.Won winner = await(race.winner);
+        if (winner.hedge() && usable(winner.response())) {
+            tail.hedgeWins.increment();
+        }
+        return won(trace, winner.hedge() ? hedgeAttempt : first, winner.response());
+    }
+
+    private static boolean usable(HttpResponse<InputStream> response) {
+        return !RETRYABLE_STATUS.contains(response.statusCode());
+    }
+
+    private static CompletableFuture<HttpResponse<InputStream>> timedAsync(HttpClient client, HttpRequest http,
+                                                                           EndpointTail tail,
+                                                                           PhaseTimings.Attempt attempt) {
+        long start = System.nanoTime();
+        return client.sendAsync(attempt.wrap(http), HttpResponse.BodyHandlers.ofInputStream())
+                .whenComplete((r, e) -> {
+                    if (e == null) {
+                        attempt.headersArrived();
+                        tail.record(System.nanoTime() - start);
+                    }
+                });
+    }
+
+    private static HttpResponse<InputStream> won(PhaseTimings.Trace trace, PhaseTimings.Attempt attempt,
+                                                 HttpResponse<InputStream> response) {
+        trace.won(attempt);
+        return response;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static IOException unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof IOException io) {
+            return io;
+        }
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        return new IOException("❌ Request failed: " + cause, cause);
+    }
+
+    private boolean retry(EndpointTail tail) {
+        if (!budget.tryWithdraw()) {
+            tail.denied.increment();
+            return false;
+        }
+        tail.retries.increment();
+        return true;
+    }
+
+    /** Full jitter: uniformly in [backoff × 2^attempt / 2, backoff × 2^attempt] */
+    private void backoff(int attempt) throws InterruptedException {
+        long cap = backoffNanos << Math.min(attempt, 10);
+        Thread.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(cap / 2, cap + 1)));
+    }
+
+    private static void discard(HttpResponse<InputStream> response) {
+        try {
+            // closing an unread body gives the connection back (or drops it)
+            response.body().close();
+        } catch (IOException ignored) {
+            // nothing to recover
+        }
+    }
+
+    /**
+     * Primary vs hedge: the first usable response completes `winner` at once.
+     * A 502 / 503 / 504 or an error waits for the other attempt; when both
+     * missed, the primary's response (else the hedge's, else the primary's
+     * error) completes it. Misses are parked in plain fields before the
+     * `completed` increment, which publishes them to whichever callback
+     * comes second.
+     */
+    static final class Race {
+
+        /** The returned response and whether the hedge sent it */
+        record Won(HttpResponse<InputStream> response, boolean hedge) {
+        }
+
+        final CompletableFuture<Won> winner = new CompletableFuture<>();
+        private final AtomicInteger completed = new AtomicInteger();
+        private HttpResponse<InputStream> primaryMiss;
+        private HttpResponse<InputStream> hedgeMiss;
+        private Throwable primaryError;
+        private Throwable hedgeError;
+
+        void complete(boolean hedge, HttpResponse<InputStream> response, Throwable error) {
+            if (error == null && usable(response)) {
+                if (!winner.complete(new Won(response, hedge))) {
+                    discard(response);
+                }
+            } else if (hedge) {
+                hedgeMiss = response;
+                hedgeError = error;
+            } else {
+                primaryMiss = response;
+                primaryError = error;
+            }
+            if (completed.incrementAndGet() == 2) {
+                settle();
+            }
+        }
+
+        /** Both attempts are in: hand back the best miss unless a usable response already won */
+        private void settle() {
+            if (winner.isDone()) {
+                discardIfPresent(primaryMiss);
+                discardIfPresent(hedgeMiss);
+            } else if (primaryMiss != null) {
+                discardIfPresent(hedgeMiss);
+                winner.complete(new Won(primaryMiss, false));
+            } else if (hedgeMiss != null) {
+                winner.complete(new Won(hedgeMiss, true));
+            } else {
+                winner.completeExceptionally(primaryError != null ? primaryError : hedgeError);
+            }
+        }
+
+        private static void discardIfPresent(HttpResponse<InputStream> response) {
+            if (response != null) {
+                discard(response);
+            }
+        }
+    }
+
+    /** Latency to response headers per endpoint, and the hedge delay derived from it */
+    private final class EndpointTail {
+
+        private final String key;
+        private final Histogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(10), 2);
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder hedges = new LongAdder();
+        private final LongAdder hedgeWins = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder denied = new LongAdder();
+        private volatile long delayNanos;
+
+        private EndpointTail(String key) {
+            this.key = key;
+        }
+
+        private void record(long nanos) {
+            latency.recordValue(Math.min(Math.max(1, nanos), latency.getHighestTrackableValue()));
+            long count = latency.getTotalCount();
+            if (count >= minSamples && count % REFRESH_EVERY == 0 || count == minSamples) {
+                delayNanos = Math.max(minDelayNanos, latency.getValueAtPercentile(percentile));
+            }
+        }
+    }
+}
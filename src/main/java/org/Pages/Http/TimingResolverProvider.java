@@ -0,0 +1,75 @@
+package org.Pages.Http;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.net.spi.InetAddressResolver;
+import java.net.spi.InetAddressResolverProvider;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 🧭 Times every real DNS lookup of the JVM
+ * -----------------------------------------
+ * Registered through META-INF/services (JDK 18+ resolver SPI) and delegating to
+ * the built-in resolver, so name resolution itself is unchanged. InetAddress
+ * caches answers (networkaddress.cache.ttl), so only lookups that actually went
+ * to the resolver are timed. PhaseTimings claims them per host name.
+ */
+public final class TimingResolverProvider extends InetAddressResolverProvider {
+
+    private static final long STALE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final ConcurrentMap<String, ConcurrentLinkedQueue<long[]>> LOOKUPS = new ConcurrentHashMap<>();
+
+    @Override
+    public InetAddressResolver get(Configuration configuration) {
+        InetAddressResolver builtin = configuration.builtinResolver();
+        return new InetAddressResolver() {
+            @Override
+            public Stream<InetAddress> lookupByName(String host, LookupPolicy policy) throws UnknownHostException {
+                long start = System.nanoTime();
+                try {
+                    // the stream may be lazy: resolve now so the time is really spent here
+                    List<InetAddress> addresses = builtin.lookupByName(host, policy).toList();
+                    return addresses.stream();
+                } finally {
+                    LOOKUPS.computeIfAbsent(host.toLowerCase(Locale.ROOT), h -> new ConcurrentLinkedQueue<>())
+                            .add(new long[]{start, System.nanoTime() - start});
+                }
+            }
+
+            @Override
+            public String lookupByAddress(byte[] addr) throws UnknownHostException {
+                return builtin.lookupByAddress(addr);
+            }
+        };
+    }
+
+    @Override
+    public String name() {
+        return "invoo-timing";
+    }
+
+    /** 🧭 Total time of the lookups of `host` that started within [from, to], removed once claimed; -1 if none */
+    static long claim(String host, long from, long to) {
+        ConcurrentLinkedQueue<long[]> lookups = host == null ? null : LOOKUPS.get(host.toLowerCase(Locale.ROOT));
+        if (lookups == null) {
+            return -1;
+        }
+        long total = -1;
+        for (Iterator<long[]> it = lookups.iterator(); it.hasNext(); ) {
+            long[] lookup = it.next();
+            if (to - lookup[0] > STALE_NANOS) {
+                it.remove();
+            } else if (lookup[0] >= from && lookup[0] <= to && lookups.remove(lookup)) {
+                total = Math.max(0, total) + lookup[1];
+            }
+        }
+        return total;
+    }
+}
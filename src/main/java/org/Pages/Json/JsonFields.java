@@ -0,0 +1,219 @@
+package org.Pages.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 🔎 Streaming JSON field extractor
+ * ---------------------------------
+ * Pulls a few named fields out of a JSON response without building the whole
+ * body as a String or a tree:
+ *
+ *   JsonFields LOGIN = JsonFields.of("token", "data.token");
+ *   String token = LOGIN.extract(response.body()).string("token");
+ *
+ * - Paths are dotted object keys from the root ("totalElements", "user.id");
+ *   "$" is the root value itself
+ * - Scalars come back as text, arrays as their element count (arrayLength),
+ *   objects only as present (has)
+ * - Unrequested values are skipped byte by byte; only matched strings are decoded
+ * - Parsing stops as soon as every requested path has been seen, unless
+ *   validate() is used, which reads and checks the whole document
+ * - Bad input raises MalformedJsonException (an IOException)
+ * - Compile once, reuse from any thread: a JsonFields holds no parse state
+ */
+public final class JsonFields {
+
+    private final Node root = new Node("$");
+    private final int requested;
+
+    private JsonFields(String... paths) {
+        int count = 0;
+        for (String path : paths) {
+            Node node = root;
+            if (!"$".equals(path)) {
+                for (String segment : path.split("\\.")) {
+                    node = node.childNamed(segment);
+                }
+            }
+            if (node.path == null) {
+                node.path = path;
+                count++;
+            }
+        }
+        this.requested = count;
+    }
+
+    /** 🧩 Compiles the set of paths to extract */
+    public static JsonFields of(String... paths) {
+        return new JsonFields(paths);
+    }
+
+    public Values extract(byte[] json) throws IOException {
+        return extract(json, 0, json.length);
+    }
+
+    public Values extract(byte[] json, int offset, int length) throws IOException {
+        return new JsonReader(json, offset, length, null).read(root, requested);
+    }
+
+    /** 🔎 Reads from the buffer's position to its limit; the buffer itself is not consumed */
+    public Values extract(ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return extract(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return extract(new ByteBufferInputStream(buffer.duplicate()));
+    }
+
+    /** 🔎 Reads only as far into the stream as needed; closing it stays with the caller */
+    public Values extract(InputStream in) throws IOException {
+        return new JsonReader(new byte[8192], 0, 0, in).read(root, requested);
+    }
+
+    /** ✅ Reads the entire document, failing on malformed JSON or trailing content */
+    public Values validate(InputStream in) throws IOException {
+        return new JsonReader(new byte[8192], 0, 0, in).readFully(root);
+    }
+
+    /**
+     * ✅ Like validate(in), and hands every element of the array at arrayPath
+     * (one of the compiled paths) to the sink as raw JSON bytes while parsing
+     */
+    public Values validate(InputStream in, String arrayPath, Consumer<byte[]> elements) throws IOException {
+        Node node = root;
+        if (!"$".equals(arrayPath)) {
+            for (String segment : arrayPath.split("\\.")) {
+                byte[] bytes = segment.getBytes(StandardCharsets.UTF_8);
+                node = node == null ? null : node.child(bytes, 0, bytes.length);
+            }
+        }
+        if (node == null || node.path == null) {
+            throw new IllegalArgumentException("❌ " + arrayPath + " is not one of the extracted paths");
+        }
+        return new JsonReader(new byte[8192], 0, 0, in).readFully(root, node, elements);
+    }
+
+    /** 📦 Extracted values, keyed by the requested path */
+    public static final class Values {
+
+        static final Object OBJECT = new Object();
+        static final Object NULL = new Object();
+
+        private final Map<String, Object> values;
+
+        Values(Map<String, Object> values) {
+            this.values = values;
+        }
+
+        /** Path was present (any type, including null) */
+        public boolean has(String path) {
+            return values.containsKey(path);
+        }
+
+        /** String value, or the literal text of a number / boolean; null otherwise */
+        public String string(String path) {
+            Object value = values.get(path);
+            return value instanceof String s ? s : null;
+        }
+
+        public long longValue(String path, long fallback) {
+            String text = string(path);
+            if (text == null) {
+                return fallback;
+            }
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return fallback;
+            }
+        }
+
+        /** Element count when the value is an array, else -1 */
+        public int arrayLength(String path) {
+            Object value = values.get(path);
+            return value instanceof Integer n ? n : -1;
+        }
+
+        /** First of the paths that holds a string / scalar */
+        public String firstString(String... paths) {
+            for (String path : paths) {
+                String value = string(path);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("{");
+            values.forEach((k, v) -> sb.append(sb.length() == 1 ? "" : ", ").append(k).append('=')
+                    .append(v == OBJECT ? "{...}" : v == NULL ? "null" : v instanceof Integer n ? "[" + n + "]" : v));
+            return sb.append('}').toString();
+        }
+    }
+
+    /** One key in the requested-path trie */
+    static final class Node {
+
+        final byte[] name;
+        final List<Node> children = new ArrayList<>(2);
+        String path;
+
+        Node(String name) {
+            this.name = name.getBytes(StandardCharsets.UTF_8);
+        }
+
+        Node childNamed(String segment) {
+            byte[] bytes = segment.getBytes(StandardCharsets.UTF_8);
+            Node child = child(bytes, 0, bytes.length);
+            if (child == null) {
+                child = new Node(segment);
+                children.add(child);
+            }
+            return child;
+        }
+
+        Node child(byte[] key, int offset, int length) {
+            for (Node child : children) {
+                if (Arrays.equals(child.name, 0, child.name.length, key, offset, offset + length)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+    }
+
+    /** Direct-buffer adapter, so off-heap bodies stream without a copy of the whole payload */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+    }
+}
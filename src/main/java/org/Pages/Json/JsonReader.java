@@ -0,0 +1,484 @@
+package org.Pages.Json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * ⚙️ Single-use pull parser behind JsonFields
+ * -------------------------------------------
+ * Walks the document once over a byte window (refilled from the stream when
+ * there is one), matching object keys against the requested-path trie.
+ * Returns as soon as the last requested path has been recorded.
+ */
+final class JsonReader {
+
+    private static final int MAX_DEPTH = 512;
+
+    private final InputStream in;
+    private byte[] buf;
+    private int pos;
+    private int limit;
+    private long consumedBefore;
+
+    private byte[] scratch = new byte[64];
+    private int scratchLength;
+
+    /** Last string read: bytes [textOffset, textOffset + textLength) of textArray (buf or scratch) */
+    private byte[] textArray;
+    private int textOffset;
+    private int textLength;
+
+    private Map<String, Object> found;
+    private int remaining;
+
+    /** Array whose elements are handed to elementSink as raw JSON, one by one */
+    private JsonFields.Node elementNode;
+    private Consumer<byte[]> elementSink;
+    private ByteArrayOutputStream capture;
+
+    JsonReader(byte[] buf, int offset, int length, InputStream in) {
+        this.buf = buf;
+        this.pos = offset;
+        this.limit = offset + length;
+        this.in = in;
+        this.consumedBefore = -offset;
+    }
+
+    JsonFields.Values read(JsonFields.Node root, int requested) throws IOException {
+        found = new HashMap<>(4);
+        remaining = requested;
+        if (requested > 0) {
+            value(root, 0);
+        }
+        return new JsonFields.Values(found);
+    }
+
+    /** Whole-document pass that also streams each element of one array to the sink */
+    JsonFields.Values readFully(JsonFields.Node root, JsonFields.Node elements, Consumer<byte[]> sink) throws IOException {
+        this.elementNode = elements;
+        this.elementSink = sink;
+        return readFully(root);
+    }
+
+    /** Whole-document pass: every byte is checked, trailing content is an error */
+    JsonFields.Values readFully(JsonFields.Node root) throws IOException {
+        found = new HashMap<>(4);
+        remaining = -1;
+        value(root, 0);
+        int c = nextNonWhitespace();
+        if (c >= 0) {
+            throw error("trailing content after the JSON value");
+        }
+        return new JsonFields.Values(found);
+    }
+
+    // ---- structure ------------------------------------------------------
+
+    /** Parses one value for the given trie node; true when every requested path is found */
+    private boolean value(JsonFields.Node node, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw error("nesting deeper than " + MAX_DEPTH);
+        }
+        int c = nextNonWhitespace();
+        if (node == null) {
+            skip(c, depth);
+            return false;
+        }
+        switch (c) {
+            case '{' -> {
+                if (record(node, JsonFields.Values.OBJECT)) {
+                    return true;
+                }
+                return node.children.isEmpty() ? skipObject(depth) : object(node, depth);
+            }
+            case '[' -> {
+                return record(node, node == elementNode ? streamElements(depth) : array(depth));
+            }
+            case '"' -> {
+                readString();
+                return record(node, node.path == null ? null : new String(textArray, textOffset, textLength, StandardCharsets.UTF_8));
+            }
+            default -> {
+                String literal = literal(c);
+                return record(node, "null".equals(literal) ? JsonFields.Values.NULL : literal);
+            }
+        }
+    }
+
+    private boolean object(JsonFields.Node node, int depth) throws IOException {
+        int c = nextNonWhitespace();
+        if (c == '}') {
+            return false;
+        }
+        while (true) {
+            expect(c, '"');
+            readString();
+            // resolve before reading on: an in-place key is overwritten when the next read refills buf
+            JsonFields.Node child = node.child(textArray, textOffset, textLength);
+            expect(nextNonWhitespace(), ':');
+            if (value(child, depth + 1)) {
+                return true;
+            }
+            c = nextNonWhitespace();
+            if (c == '}') {
+                return false;
+            }
+            expect(c, ',');
+            c = nextNonWhitespace();
+        }
+    }
+
+    /** Skips the elements and returns how many there were */
+    private int array(int depth) throws IOException {
+        int c = nextNonWhitespace();
+        if (c == ']') {
+            return 0;
+        }
+        int count = 0;
+        while (true) {
+            skip(c, depth + 1);
+            count++;
+            c = nextNonWhitespace();
+            if (c == ']') {
+                return count;
+            }
+            expect(c, ',');
+            c = nextNonWhitespace();
+        }
+    }
+
+    /** Like array(), but each element's bytes go to the sink as soon as the element is complete */
+    private int streamElements(int depth) throws IOException {
+        int c = nextNonWhitespace();
+        if (c == ']') {
+            return 0;
+        }
+        int count = 0;
+        capture = new ByteArrayOutputStream(256);
+        try {
+            while (true) {
+                capture.reset();
+                capture.write(c);
+                skip(c, depth + 1);
+                elementSink.accept(capture.toByteArray());
+                count++;
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    return count;
+                }
+                expect(c, ',');
+                c = nextNonWhitespace();
+            }
+        } finally {
+            capture = null;
+        }
+    }
+
+    private boolean record(JsonFields.Node node, Object value) {
+        if (node.path == null || found.containsKey(node.path)) {
+            return false;
+        }
+        found.put(node.path, value);
+        return --remaining == 0;
+    }
+
+    // ---- skipping -------------------------------------------------------
+
+    private void skip(int c, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw error("nesting deeper than " + MAX_DEPTH);
+        }
+        switch (c) {
+            case '{' -> skipObject(depth);
+            case '[' -> array(depth);
+            case '"' -> skipString();
+            default -> scanLiteral(c);
+        }
+    }
+
+    private boolean skipObject(int depth) throws IOException {
+        int c = nextNonWhitespace();
+        if (c == '}') {
+            return false;
+        }
+        while (true) {
+            expect(c, '"');
+            skipString();
+            expect(nextNonWhitespace(), ':');
+            skip(nextNonWhitespace(), depth + 1);
+            c = nextNonWhitespace();
+            if (c == '}') {
+                return false;
+            }
+            expect(c, ',');
+            c = nextNonWhitespace();
+        }
+    }
+
+    private void skipString() throws IOException {
+        while (true) {
+            int c = next();
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                int e = next();
+                switch (e) {
+                    case '"', '\\', '/', 'b', 'f', 'n', 'r', 't' -> { }
+                    case 'u' -> hex4();
+                    default -> throw error("bad escape");
+                }
+            } else if (c < 0) {
+                throw error("unterminated string");
+            } else if (c < 0x20) {
+                throw error("unescaped control character in string");
+            }
+        }
+    }
+
+    // ---- tokens ---------------------------------------------------------
+
+    /** Number / true / false / null, returned as text (only ever short) */
+    private String literal(int first) throws IOException {
+        scanLiteral(first);
+        return new String(scratch, 0, scratchLength, StandardCharsets.US_ASCII);
+    }
+
+    /** Reads one scalar token into scratch and checks it is true / false / null or an RFC 8259 number */
+    private void scanLiteral(int first) throws IOException {
+        if (!isLiteralByte(first)) {
+            throw error(first < 0 ? "unexpected end of input" : "unexpected '" + (char) first + "'");
+        }
+        scratchLength = 0;
+        append(first);
+        while (pos < limit || fill()) {
+            int c = buf[pos];
+            if (!isLiteralByte(c)) {
+                break;
+            }
+            pos++;
+            append(c);
+            if (capture != null) {
+                capture.write(c);
+            }
+        }
+        if (!isKeyword(scratch, scratchLength) && !isNumber(scratch, scratchLength)) {
+            throw error("invalid literal '" + new String(scratch, 0, Math.min(scratchLength, 32), StandardCharsets.US_ASCII) + "'");
+        }
+    }
+
+    private static boolean isKeyword(byte[] b, int length) {
+        return length == 4 && b[0] == 't' && b[1] == 'r' && b[2] == 'u' && b[3] == 'e'
+                || length == 5 && b[0] == 'f' && b[1] == 'a' && b[2] == 'l' && b[3] == 's' && b[4] == 'e'
+                || length == 4 && b[0] == 'n' && b[1] == 'u' && b[2] == 'l' && b[3] == 'l';
+    }
+
+    /** -? (0 | [1-9][0-9]*) (. [0-9]+)? ([eE] [+-]? [0-9]+)? */
+    private static boolean isNumber(byte[] b, int length) {
+        int i = 0;
+        if (i < length && b[i] == '-') {
+            i++;
+        }
+        if (i < length && b[i] == '0') {
+            i++;
+        } else if (i < length && b[i] >= '1' && b[i] <= '9') {
+            i = digits(b, i, length);
+        } else {
+            return false;
+        }
+        if (i < length && b[i] == '.') {
+            int start = ++i;
+            i = digits(b, i, length);
+            if (i == start) {
+                return false;
+            }
+        }
+        if (i < length && (b[i] == 'e' || b[i] == 'E')) {
+            i++;
+            if (i < length && (b[i] == '+' || b[i] == '-')) {
+                i++;
+            }
+            int start = i;
+            i = digits(b, i, length);
+            if (i == start) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    private static int digits(byte[] b, int i, int length) {
+        while (i < length && b[i] >= '0' && b[i] <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Reads the string after an opening quote. Escape-free strings that sit
+     * inside the current window are referenced in place; anything else is
+     * decoded into scratch as UTF-8.
+     */
+    private void readString() throws IOException {
+        for (int i = pos; i < limit; i++) {
+            byte b = buf[i];
+            if (b == '"') {
+                textArray = buf;
+                textOffset = pos;
+                textLength = i - pos;
+                pos = i + 1;
+                return;
+            }
+            if (b == '\\') {
+                break;
+            }
+            if (b >= 0 && b < 0x20) {
+                pos = i;
+                throw error("unescaped control character in string");
+            }
+        }
+        scratchLength = 0;
+        textArray = scratch;
+        textOffset = 0;
+        while (true) {
+            int c = next();
+            if (c == '"') {
+                textArray = scratch;
+                textLength = scratchLength;
+                return;
+            }
+            if (c < 0) {
+                throw error("unterminated string");
+            }
+            if (c < 0x20) {
+                throw error("unescaped control character in string");
+            }
+            if (c != '\\') {
+                append(c);
+                continue;
+            }
+            int e = next();
+            switch (e) {
+                case '"', '\\', '/' -> append(e);
+                case 'b' -> append('\b');
+                case 'f' -> append('\f');
+                case 'n' -> append('\n');
+                case 'r' -> append('\r');
+                case 't' -> append('\t');
+                case 'u' -> appendCodePoint(unicodeEscape());
+                default -> throw error("bad escape");
+            }
+        }
+    }
+
+    private int unicodeEscape() throws IOException {
+        char unit = hex4();
+        if (Character.isHighSurrogate(unit) && peek() == '\\') {
+            next();
+            if (next() != 'u') {
+                throw error("bad escape");
+            }
+            char low = hex4();
+            return Character.isLowSurrogate(low) ? Character.toCodePoint(unit, low) : '\uFFFD';
+        }
+        return Character.isSurrogate(unit) ? '\uFFFD' : unit;
+    }
+
+    private char hex4() throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(next(), 16);
+            if (digit < 0) {
+                throw error("bad \\u escape");
+            }
+            value = value << 4 | digit;
+        }
+        return (char) value;
+    }
+
+    private void appendCodePoint(int cp) {
+        if (cp < 0x80) {
+            append(cp);
+        } else if (cp < 0x800) {
+            append(0xC0 | cp >> 6);
+            append(0x80 | cp & 0x3F);
+        } else if (cp < 0x10000) {
+            append(0xE0 | cp >> 12);
+            append(0x80 | cp >> 6 & 0x3F);
+            append(0x80 | cp & 0x3F);
+        } else {
+            append(0xF0 | cp >> 18);
+            append(0x80 | cp >> 12 & 0x3F);
+            append(0x80 | cp >> 6 & 0x3F);
+            append(0x80 | cp & 0x3F);
+        }
+    }
+
+    private void append(int b) {
+        if (scratchLength == scratch.length) {
+            scratch = Arrays.copyOf(scratch, scratch.length * 2);
+        }
+        scratch[scratchLength++] = (byte) b;
+    }
+
+    private static boolean isLiteralByte(int c) {
+        return c >= '0' && c <= '9' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '-' || c == '+' || c == '.';
+    }
+
+    // ---- input ----------------------------------------------------------
+
+    private void expect(int actual, char wanted) throws IOException {
+        if (actual != wanted) {
+            throw error(actual < 0 ? "unexpected end of input, expected '" + wanted + "'"
+                    : "expected '" + wanted + "' but found '" + (char) actual + "'");
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            int c = next();
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    private int next() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        int b = buf[pos++] & 0xFF;
+        if (capture != null) {
+            capture.write(b);
+        }
+        return b;
+    }
+
+    private int peek() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buf[pos] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        if (in == null) {
+            return false;
+        }
+        consumedBefore += limit;
+        int n = in.read(buf, 0, buf.length);
+        pos = 0;
+        limit = Math.max(n, 0);
+        return n > 0;
+    }
+
+    private MalformedJsonException error(String message) {
+        return new MalformedJsonException("❌ Malformed JSON at byte " + (consumedBefore + pos) + ": " + message);
+    }
+}
@@ -0,0 +1,18 @@
+package org.Pages.Json;
+
+import java.io.IOException;
+
+/**
+ * ❌ The body is not well-formed JSON
+ * ------------------------------------
+ * Kept apart from plain IOExceptions so callers can tell a bad payload from a
+ * broken connection while streaming.
+ */
+public final class MalformedJsonException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public MalformedJsonException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,92 @@
+package org.Pages.Load;
+
+import org.Pages.Http.Endpoint;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🎲 Weighted endpoint mix
+ * ------------------------
+ * Spec format: "STATUS_COUNTS:5,CURRENCIES_SUCCESS:3,DEPOSITS:2" (names from Endpoint).
+ * pick() is a binary search over cumulative weights, so it is cheap at any rate.
+ */
+public final class EndpointMix {
+
+    /** Dashboard-heavy default: what an operator's landing page fires, plus list views */
+    public static final String DEFAULT_SPEC = "STATUS_COUNTS:5,CURRENCIES_SUCCESS:3,CUSTOMERS_UNIQUE:3,SUMMARY:3,"
+            + "METRIC_VOLUME:2,METRIC_COUNT:2,METRIC_SUCCESS_RATE:2,PROVIDERS:2,CUSTOMERS_ANALYTICS:2,"
+            + "CUSTOMERS_LIST:2,DEPOSITS:2,WITHDRAWALS:1,FRAUD_ANALYSES:1,FRAUD_STATISTICS:1,CASHIER_PSPS:1";
+
+    private final Endpoint[] endpoints;
+    private final double[] cumulative;
+    private final Map<Endpoint, Double> weights;
+
+    private EndpointMix(Map<Endpoint, Double> weights) {
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("❌ Endpoint mix is empty");
+        }
+        this.weights = weights;
+        this.endpoints = weights.keySet().toArray(new Endpoint[0]);
+        this.cumulative = new double[endpoints.length];
+        double sum = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            sum += weights.get(endpoints[i]);
+            cumulative[i] = sum;
+        }
+    }
+
+    public static EndpointMix parse(String spec) {
+        Map<Endpoint, Double> weights = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int colon = trimmed.indexOf(':');
+            String name = colon < 0 ? trimmed : trimmed.substring(0, colon).trim();
+            double weight = colon < 0 ? 1.0 : Double.parseDouble(trimmed.substring(colon + 1).trim());
+            if (weight > 0) {
+                weights.merge(Endpoint.valueOf(name.toUpperCase()), weight, Double::sum);
+            }
+        }
+        return new EndpointMix(weights);
+    }
+
+    public static EndpointMix fromProperties() {
+        return parse(System.getProperty("invoo.load.mix", DEFAULT_SPEC));
+    }
+
+    /** 🎯 Endpoint for a uniform random number in [0, 1) */
+    public Endpoint pick(double uniform) {
+        double target = uniform * cumulative[cumulative.length - 1];
+        int lo = 0;
+        int hi = cumulative.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cumulative[mid] > target) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return endpoints[lo];
+    }
+
+    public List<Endpoint> endpoints() {
+        return new ArrayList<>(weights.keySet());
+    }
+
+    public double share(Endpoint endpoint) {
+        return weights.getOrDefault(endpoint, 0.0) / cumulative[cumulative.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        weights.forEach((e, w) -> sb.append(sb.length() == 0 ? "" : ",").append(e.name()).append(':').append(w));
+        return sb.toString();
+    }
+}
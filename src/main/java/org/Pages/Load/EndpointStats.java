@@ -0,0 +1,56 @@
+package org.Pages.Load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 📊 Outcomes of one endpoint during a load run
+ * ----------------------------------------------
+ * - latency histogram in microseconds, measured from the *intended* send time
+ * - steady-state histogram / successful count (ramps excluded) for throughput figures
+ * - status code counts, I/O errors (-1) and dropped arrivals (-2)
+ */
+final class EndpointStats {
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    final Histogram all = new ConcurrentHistogram(MAX_MICROS, 3);
+    final Histogram steady = new ConcurrentHistogram(MAX_MICROS, 3);
+    final LongAdder steadyOk = new LongAdder();
+    final LongAdder ok = new LongAdder();
+    final LongAdder errors = new LongAdder();
+    final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    void record(int status, long latencyNanos, boolean inSteadyState) {
+        long micros = Math.min(MAX_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        all.recordValue(micros);
+        if (inSteadyState) {
+            steady.recordValue(micros);
+        }
+        if (status >= 200 && status < 300) {
+            ok.increment();
+            if (inSteadyState) {
+                steadyOk.increment();
+            }
+        } else {
+            errors.increment();
+        }
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    /** I/O failure; status -1 in the status table */
+    void recordError(long latencyNanos, boolean inSteadyState) {
+        record(-1, latencyNanos, inSteadyState);
+    }
+
+    /** Arrival dropped at the maxInFlight bound; never sent, so no latency sample */
+    void recordDrop() {
+        errors.increment();
+        statuses.computeIfAbsent(-2, s -> new LongAdder()).increment();
+    }
+}
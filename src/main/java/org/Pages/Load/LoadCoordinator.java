@@ -0,0 +1,258 @@
+package org.Pages.Load;
+
+import org.HdrHistogram.Histogram;
+import org.Pages.Http.Endpoint;
+import org.Pages.Http.Hosts;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🧭 Distributed load coordinator
+ * -------------------------------
+ * Splits one LoadPlan over several LoadWorker JVMs and merges their results
+ * into a single LoadReport:
+ *
+ *   mvn compile exec:java -Dexec.mainClass=org.Pages.Load.LoadCoordinator \
+ *       -Dinvoo.dist.workers=4 -Dinvoo.load.rps=20000 -Dinvoo.load.mix=STATUS_COUNTS:1,SUMMARY:1
+ *
+ * - -Dinvoo.dist.workers=4 starts that many local worker JVMs (same classpath,
+ *   every -Dinvoo.* property passed on, extra JVM flags via -Dinvoo.dist.jvmArgs);
+ *   -Dinvoo.dist.workers=host1:7070,host2:7070 uses workers that are already running
+ * - Every worker gets rps, maxInFlight and virtualUsers divided by the worker
+ *   count, the same phases and the same mix, and all start at one GO time;
+ *   its index and the count pick a disjoint slice of the credential file
+ * - Latency histograms come back losslessly (LoadWire) and are added bucket by
+ *   bucket, so merged percentiles are exact; a per-worker line shows sent /
+ *   errors / scheduler lag, so a saturated worker is easy to spot
+ * - Exits 1 when the merged run has errors
+ */
+public final class LoadCoordinator {
+
+    private static final long START_DELAY_MILLIS = 500;
+
+    private final List<InetSocketAddress> workers;
+
+    public LoadCoordinator(List<InetSocketAddress> workers) {
+        if (workers.isEmpty()) {
+            throw new IllegalArgumentException("❌ A distributed run needs at least one worker");
+        }
+        this.workers = List.copyOf(workers);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTest.prepareJvm("load");
+        System.out.println("🗺️ Profile " + Hosts.PROFILE + " (the stub, if any, is started before the workers)");
+        LoadPlan plan = LoadPlan.fromProperties();
+        EndpointMix mix = EndpointMix.fromProperties();
+
+        String spec = System.getProperty("invoo.dist.workers", "2");
+        List<Process> local = new ArrayList<>();
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        LoadReport report;
+        try {
+            if (spec.contains(":")) {
+                for (String address : spec.split(",")) {
+                    int colon = address.lastIndexOf(':');
+                    addresses.add(new InetSocketAddress(address.substring(0, colon).trim(),
+                            Integer.parseInt(address.substring(colon + 1).trim())));
+                }
+            } else {
+                for (int i = 0; i < Integer.parseInt(spec.trim()); i++) {
+                    addresses.add(spawn(i + 1, local));
+                }
+            }
+            report = new LoadCoordinator(addresses).run(plan, mix);
+            System.out.println(report);
+        } finally {
+            for (Process p : local) {
+                if (!p.waitFor(5, TimeUnit.SECONDS)) {
+                    p.destroy();
+                }
+            }
+        }
+        System.exit(report.errors() > 0 ? 1 : 0);
+    }
+
+    /** ▶️ Hands every worker its slice, starts them together and merges what they send back */
+    public LoadReport run(LoadPlan plan, EndpointMix mix) throws IOException {
+        int n = workers.size();
+        LoadPlan slice = new LoadPlan(plan.targetRps() / n, plan.rampUp(), plan.steady(), plan.rampDown(),
+                ceilDiv(plan.maxInFlight(), n), plan.poisson(), ceilDiv(plan.virtualUsers(), n));
+        System.out.printf("🧭 %d workers × %.1f rps (%s)%n", n, slice.targetRps(), mix);
+
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < n; i++) {
+                Connection c = new Connection(workers.get(i));
+                connections.add(c);
+                LoadWire.writeBlock(c.out, "RUN", LoadWire.run(slice, mix, i, n));
+            }
+            for (Connection c : connections) {
+                c.expect("READY");
+            }
+            String go = "GO " + (System.currentTimeMillis() + START_DELAY_MILLIS) + "\n";
+            for (Connection c : connections) {
+                c.out.write(go);
+                c.out.flush();
+            }
+
+            Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+            for (Endpoint endpoint : mix.endpoints()) {
+                stats.put(endpoint, new EndpointStats());
+            }
+            Histogram schedulerLag = new Histogram(TimeUnit.MINUTES.toMicros(10), 3);
+            long sent = 0;
+            long dropped = 0;
+            long elapsed = 0;
+            for (Connection c : connections) {
+                c.expect("RESULT");
+                Map<String, String> result = LoadWire.readBlock(c.in);
+                LoadWire.merge(result, stats, schedulerLag);
+                sent += Long.parseLong(result.get("sent"));
+                dropped += Long.parseLong(result.get("dropped"));
+                elapsed = Math.max(elapsed, Long.parseLong(result.get("elapsedNanos")));
+                System.out.println(workerLine(c.address, result));
+            }
+            return new LoadReport(plan, mix, stats, sent, dropped, schedulerLag, elapsed);
+        } finally {
+            for (Connection c : connections) {
+                c.close();
+            }
+        }
+    }
+
+    private static String workerLine(InetSocketAddress address, Map<String, String> result) throws IOException {
+        long errors = result.entrySet().stream().filter(e -> e.getKey().endsWith(".errors"))
+                .mapToLong(e -> Long.parseLong(e.getValue())).sum();
+        Histogram lag = LoadWire.decode(result.get("schedulerLag"));
+        return String.format("   🛠️ %s: sent %s in %.1fs, %d errors, %s dropped, scheduler lag p99 %.2f ms",
+                address.getHostString() + ":" + address.getPort(), result.get("sent"),
+                Long.parseLong(result.get("elapsedNanos")) / 1e9, errors, result.get("dropped"),
+                lag.getValueAtPercentile(99) / 1000.0);
+    }
+
+    private static int ceilDiv(int value, int parts) {
+        return Math.max(1, (value + parts - 1) / parts);
+    }
+
+    /** 🚀 Starts a local worker JVM and returns the address it listens on */
+    private static InetSocketAddress spawn(int number, List<Process> started) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        String jvmArgs = System.getProperty("invoo.dist.jvmArgs", "").trim();
+        if (!jvmArgs.isEmpty()) {
+            command.addAll(List.of(jvmArgs.split("\\s+")));
+        }
+        command.add("-cp");
+        command.add(classpath());
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith("invoo.") && !name.startsWith("invoo.dist.")) {
+                command.add("-D" + name + "=" + System.getProperty(name));
+            }
+        }
+        command.add("-Dinvoo.dist.once=true");
+        command.add(LoadWorker.class.getName());
+        command.add("0");
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        started.add(process);
+        BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        for (String line = out.readLine(); line != null; line = out.readLine()) {
+            if (line.startsWith(LoadWorker.LISTENING)) {
+                int port = Integer.parseInt(line.substring(LoadWorker.LISTENING.length()).trim());
+                Thread.ofVirtual().name("worker-" + number + "-out").start(() -> pump(out, number));
+                return new InetSocketAddress("127.0.0.1", port);
+            }
+            System.out.println("   [worker " + number + "] " + line);
+        }
+        throw new IOException("❌ Worker " + number + " exited before listening (exit code "
+                + process.onExit().join().exitValue() + ")");
+    }
+
+    private static void pump(BufferedReader out, int number) {
+        try {
+            for (String line = out.readLine(); line != null; line = out.readLine()) {
+                System.out.println("   [worker " + number + "] " + line);
+            }
+        } catch (IOException e) {
+            // worker gone
+        }
+    }
+
+    /** Classpath of this JVM, or of the class loader exec:java runs us in */
+    private static String classpath() {
+        if (LoadWorker.class.getClassLoader() instanceof URLClassLoader loader && loader.getURLs().length > 0) {
+            List<String> entries = new ArrayList<>();
+            for (URL url : loader.getURLs()) {
+                try {
+                    entries.add(Path.of(url.toURI()).toString());
+                } catch (URISyntaxException | IllegalArgumentException e) {
+                    entries.add(url.getPath());
+                }
+            }
+            return String.join(File.pathSeparator, entries);
+        }
+        return System.getProperty("java.class.path");
+    }
+
+    /** One worker socket */
+    private static final class Connection implements AutoCloseable {
+
+        private final InetSocketAddress address;
+        private final Socket socket;
+        private final BufferedReader in;
+        private final Writer out;
+
+        Connection(InetSocketAddress address) throws IOException {
+            this.address = address;
+            this.socket = new Socket();
+            try {
+                socket.connect(address, 10_000);
+            } catch (IOException e) {
+                throw new IOException("❌ Load worker " + address + " unreachable: " + e.getMessage(), e);
+            }
+            this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            this.out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+        }
+
+        void expect(String header) throws IOException {
+            String line = in.readLine();
+            if (!header.equals(line)) {
+                throw new IOException("❌ Load worker " + address + " answered '" + line + "' instead of " + header);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                out.write("BYE\n");
+                out.flush();
+            } catch (IOException e) {
+                // already gone
+            }
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // nothing left to do
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.Pages.Load;
+
+import org.HdrHistogram.Histogram;
+import org.Pages.Auth.CredentialPool;
+import org.Pages.Auth.Credentials;
+import org.Pages.Http.ApiResponse;
+import org.Pages.Http.Endpoint;
+import org.Pages.Http.HttpEngine;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 🚀 Open-loop load generator
+ * ---------------------------
+ * - One scheduler thread computes the intended send time of every request from
+ *   the LoadPlan (constant or Poisson spacing) and never waits for responses
+ * - Each request runs on its own virtual thread through the shared HttpEngine
+ * - Latency is measured from the intended send time, so a slow server (or a
+ *   late scheduler) shows up in the percentiles instead of silently lowering the rate;
+ *   the intended time also travels with the request into the run-wide LatencyRecorder
+ * - If more than maxInFlight requests are outstanding, new arrivals are dropped
+ *   and counted rather than queued, which would turn the test closed-loop
+ * - Every arrival belongs to a random virtual user; its calls go out as the
+ *   CredentialPool user assigned to it, and the outcome is booked on that user
+ */
+public final class LoadGenerator {
+
+    private final LoadPlan plan;
+    private final EndpointMix mix;
+    private final CredentialPool users;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final Histogram schedulerLag = new Histogram(TimeUnit.MINUTES.toMicros(10), 3);
+
+    public LoadGenerator(LoadPlan plan, EndpointMix mix, CredentialPool users) {
+        this.plan = plan;
+        this.mix = mix;
+        this.users = users;
+        for (Endpoint endpoint : mix.endpoints()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    /** ▶️ Runs the whole plan (ramp-up, steady, ramp-down) and waits for stragglers */
+    public LoadReport run() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long total = plan.totalNanos();
+        long sent = 0;
+        long start = System.nanoTime();
+        long offset = 0;
+
+        try (ExecutorService workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("load-", 0).factory())) {
+            while (offset < total) {
+                long intended = start + offset;
+                long now = System.nanoTime();
+                while (now < intended) {
+                    LockSupport.parkNanos(intended - now);
+                    now = System.nanoTime();
+                }
+                schedulerLag.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(now - intended)));
+
+                Endpoint endpoint = mix.pick(random.nextDouble());
+                int virtualUser = random.nextInt(plan.virtualUsers());
+                boolean steady = plan.phaseAt(offset) == LoadPlan.Phase.STEADY;
+                if (inFlight.incrementAndGet() > plan.maxInFlight()) {
+                    inFlight.decrementAndGet();
+                    dropped.increment();
+                    stats.get(endpoint).recordDrop();
+                } else {
+                    workers.execute(() -> call(endpoint, virtualUser, intended, steady));
+                }
+                sent++;
+
+                double rate = plan.rateAt(offset);
+                double gapSeconds = plan.poisson() ? -Math.log(1 - random.nextDouble()) / rate : 1 / rate;
+                offset += (long) (gapSeconds * 1_000_000_000L);
+            }
+        }
+        return new LoadReport(plan, mix, stats, sent, dropped.sum(), schedulerLag, System.nanoTime() - start);
+    }
+
+    private void call(Endpoint endpoint, int virtualUser, long intendedNanos, boolean steady) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        Credentials user = endpoint.authenticated() ? users.assign(virtualUser) : null;
+        try {
+            String token = user == null ? null : users.token(user);
+            ApiResponse response = HttpEngine.shared().send(endpoint.request(token).intendedAt(intendedNanos).noCache());
+            endpointStats.record(response.status(), System.nanoTime() - intendedNanos, steady);
+            if (user != null) {
+                users.record(user, response.status());
+            }
+        } catch (Exception e) {
+            endpointStats.recordError(System.nanoTime() - intendedNanos, steady);
+            if (user != null) {
+                users.record(user, -1);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.Pages.Load;
+
+import org.Pages.Metrics.Durations;
+
+import java.time.Duration;
+
+/**
+ * 📈 Target arrival rate over time
+ * --------------------------------
+ * ramp-up (0 → rps) → steady state (rps) → ramp-down (rps → 0)
+ *
+ * Read from system properties by fromProperties():
+ *   -Dinvoo.load.rps=500 -Dinvoo.load.rampUp=10s -Dinvoo.load.steady=60s -Dinvoo.load.rampDown=10s
+ *   -Dinvoo.load.maxInFlight=20000 -Dinvoo.load.poisson=true
+ *   -Dinvoo.load.virtualUsers=1000   each arrival belongs to a random one of them
+ *                                    (what sticky CredentialPool assignment keys on)
+ */
+public record LoadPlan(double targetRps, Duration rampUp, Duration steady, Duration rampDown,
+                       int maxInFlight, boolean poisson, int virtualUsers) {
+
+    /** Never schedule slower than this, so a ramp starting at 0 rps still gets going */
+    private static final double MIN_RPS = 1.0;
+
+    public static LoadPlan fromProperties() {
+        return new LoadPlan(
+                Double.parseDouble(System.getProperty("invoo.load.rps", "100")),
+                duration("invoo.load.rampUp", "10s"),
+                duration("invoo.load.steady", "60s"),
+                duration("invoo.load.rampDown", "5s"),
+                Integer.getInteger("invoo.load.maxInFlight", 20_000),
+                Boolean.parseBoolean(System.getProperty("invoo.load.poisson", "false")),
+                Math.max(1, Integer.getInteger("invoo.load.virtualUsers", 1000)));
+    }
+
+    public long totalNanos() {
+        return rampUp.toNanos() + steady.toNanos() + rampDown.toNanos();
+    }
+
+    /** 🎯 Arrival rate (requests / second) at the given offset from the start */
+    public double rateAt(long offsetNanos) {
+        long up = rampUp.toNanos();
+        long flat = steady.toNanos();
+        long down = rampDown.toNanos();
+        double rate;
+        if (offsetNanos < up) {
+            rate = targetRps * offsetNanos / up;
+        } else if (offsetNanos < up + flat) {
+            rate = targetRps;
+        } else if (offsetNanos < up + flat + down) {
+            rate = targetRps * (up + flat + down - offsetNanos) / down;
+        } else {
+            rate = 0;
+        }
+        return Math.max(MIN_RPS, rate);
+    }
+
+    public Phase phaseAt(long offsetNanos) {
+        if (offsetNanos < rampUp.toNanos()) {
+            return Phase.RAMP_UP;
+        }
+        return offsetNanos < rampUp.toNanos() + steady.toNanos() ? Phase.STEADY : Phase.RAMP_DOWN;
+    }
+
+    public enum Phase {
+        RAMP_UP, STEADY, RAMP_DOWN
+    }
+
+    /** Parses "500ms", "30s", "5m" or plain seconds */
+    static Duration duration(String property, String fallback) {
+        return Durations.parse(System.getProperty(property, fallback));
+    }
+}
@@ -0,0 +1,125 @@
+package org.Pages.Load;
+
+import org.HdrHistogram.Histogram;
+import org.Pages.Http.Endpoint;
+import org.Pages.Metrics.LatencyBudget;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 🧾 Result of one load run
+ * -------------------------
+ * Per endpoint: requests, steady-state throughput, ok / error counts and
+ * latency percentiles (p50 / p90 / p99 / p99.9 / max, from the intended send time).
+ * Harness health: requests sent, dropped arrivals and scheduler lag.
+ */
+public final class LoadReport {
+
+    private final LoadPlan plan;
+    private final EndpointMix mix;
+    private final Map<Endpoint, EndpointStats> stats;
+    private final long sent;
+    private final long dropped;
+    private final Histogram schedulerLag;
+    private final long elapsedNanos;
+
+    LoadReport(LoadPlan plan, EndpointMix mix, Map<Endpoint, EndpointStats> stats, long sent, long dropped,
+               Histogram schedulerLag, long elapsedNanos) {
+        this.plan = plan;
+        this.mix = mix;
+        this.stats = stats;
+        this.sent = sent;
+        this.dropped = dropped;
+        this.schedulerLag = schedulerLag;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long sent() {
+        return sent;
+    }
+
+    public long dropped() {
+        return dropped;
+    }
+
+    public long errors() {
+        return stats.values().stream().mapToLong(s -> s.errors.sum()).sum();
+    }
+
+    /** 🎯 Budgets from latency-slo.properties this run missed (steady state when there was one), plus errors */
+    public List<String> breaches(List<LatencyBudget> budgets) {
+        List<String> breaches = new ArrayList<>();
+        for (LatencyBudget budget : budgets) {
+            EndpointStats s = stats.get(budget.endpoint());
+            if (s == null || s.all.getTotalCount() == 0) {
+                continue;
+            }
+            Histogram h = s.steady.getTotalCount() > 0 ? s.steady : s.all;
+            double millis = h.getValueAtPercentile(budget.percentile()) / 1000.0;
+            if (millis > budget.budget().toNanos() / 1e6) {
+                breaches.add(String.format("%s (was %.1f ms)", budget, millis));
+            }
+        }
+        stats.forEach((endpoint, s) -> {
+            if (s.errors.sum() > 0) {
+                breaches.add(endpoint.name() + " " + s.errors.sum() + " errors");
+            }
+        });
+        return breaches;
+    }
+
+    Map<Endpoint, EndpointStats> stats() {
+        return stats;
+    }
+
+    Histogram schedulerLag() {
+        return schedulerLag;
+    }
+
+    long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /** 📈 Successful steady-state throughput across all endpoints (requests / second) */
+    public double steadyThroughput() {
+        double seconds = plan.steady().toNanos() / 1e9;
+        return seconds == 0 ? 0 : stats.values().stream().mapToLong(s -> s.steadyOk.sum()).sum() / seconds;
+    }
+
+    @Override
+    public String toString() {
+        double steadySeconds = Math.max(1e-9, plan.steady().toNanos() / 1e9);
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("📈 Load run: target %.0f rps, ramp-up %ds / steady %ds / ramp-down %ds, %s arrivals%n",
+                plan.targetRps(), plan.rampUp().toSeconds(), plan.steady().toSeconds(), plan.rampDown().toSeconds(),
+                plan.poisson() ? "Poisson" : "evenly spaced"));
+        sb.append(String.format("   sent %d in %.1fs, steady-state throughput %.1f rps, %d errors, %d dropped (maxInFlight %d)%n",
+                sent, elapsedNanos / 1e9, steadyThroughput(), errors(), dropped, plan.maxInFlight()));
+        sb.append(String.format("   scheduler lag p99 %.2f ms, max %.2f ms%n",
+                schedulerLag.getValueAtPercentile(99) / 1000.0, schedulerLag.getMaxValue() / 1000.0));
+        sb.append(String.format("   %-24s %5s %8s %9s %8s %7s %9s %9s %9s %9s %9s %s%n",
+                "ENDPOINT", "MIX", "COUNT", "OK RPS", "OK", "ERR", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "STATUS"));
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats s = entry.getValue();
+            Histogram h = s.steady.getTotalCount() > 0 ? s.steady : s.all;
+            sb.append(String.format("   %-24s %4.0f%% %8d %9.1f %8d %7d %9.2f %9.2f %9.2f %9.2f %9.2f %s%n",
+                    entry.getKey().name(), mix.share(entry.getKey()) * 100, s.all.getTotalCount(),
+                    s.steadyOk.sum() / steadySeconds, s.ok.sum(), s.errors.sum(),
+                    h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(90) / 1000.0,
+                    h.getValueAtPercentile(99) / 1000.0, h.getValueAtPercentile(99.9) / 1000.0,
+                    h.getMaxValue() / 1000.0, statuses(s.statuses)));
+        }
+        return sb.toString();
+    }
+
+    private static String statuses(Map<Integer, LongAdder> statuses) {
+        StringBuilder sb = new StringBuilder();
+        new TreeMap<>(statuses).forEach((code, n) ->
+                sb.append(sb.length() == 0 ? "" : " ").append(code == -1 ? "io-error" : code == -2 ? "dropped" : code).append('×').append(n.sum()));
+        return sb.toString();
+    }
+}
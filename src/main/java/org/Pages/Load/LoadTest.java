@@ -0,0 +1,106 @@
+package org.Pages.Load;
+
+import org.Pages.Auth.CredentialPool;
+import org.Pages.Auth.Credentials;
+import org.Pages.Http.Endpoint;
+import org.Pages.Http.Hosts;
+import org.Pages.Metrics.ContinuousRecording;
+import org.Pages.Metrics.LatencyBudget;
+import org.Pages.Metrics.RunReport;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 🚀 Load mode entry point
+ * ------------------------
+ * Drives the catalogued endpoints at a target rate with an open-loop schedule:
+ *
+ *   mvn compile exec:java -Dexec.mainClass=org.Pages.Load.LoadTest \
+ *       -Dinvoo.profile=stub -Dinvoo.load.rps=2000 -Dinvoo.load.steady=60s \
+ *       -Dinvoo.load.mix=STATUS_COUNTS:5,CURRENCIES_SUCCESS:3,DEPOSITS:2
+ *
+ * See LoadPlan (rate / phases) and EndpointMix (weights) for all options.
+ * When one JVM can't reach the rate, LoadCoordinator splits the same plan over worker JVMs.
+ * Credentials: -Dinvoo.credentials.file spreads the calls over a CredentialPool of
+ * users, otherwise every call runs as -Dinvoo.load.username / -Dinvoo.load.password
+ * (default sa / 123456).
+ * -Dinvoo.http.adaptive=true caps each host with an AIMD AdaptiveLimiter instead of
+ * letting every arrival through; the limit it settles on is printed per endpoint.
+ * Load runs retry a failed GET once (-Dinvoo.http.retries=1 unless set); the
+ * functional suites don't retry at all.
+ * -Dinvoo.jfr=true keeps a JFR ring (ContinuousRecording) and dumps it when the run
+ * breaches a budget of -Dinvoo.slo.file or has errors.
+ * A run with errors ends in an IllegalStateException (a BUILD FAILURE under
+ * exec:java) rather than System.exit, which would take Maven's JVM down with it.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        prepareJvm("load");
+        LoadReport report;
+        try {
+            report = run();
+        } finally {
+            Hosts.stopStubs();
+        }
+        if (report.errors() > 0) {
+            throw new IllegalStateException("❌ Load run ended with " + report.errors() + " error(s)");
+        }
+    }
+
+    private static LoadReport run() throws Exception {
+        LoadPlan plan = LoadPlan.fromProperties();
+        EndpointMix mix = EndpointMix.fromProperties();
+        CredentialPool users = CredentialPool.fromProperties(new Credentials(Endpoint.LOGIN.url(),
+                System.getProperty("invoo.load.username", "sa"),
+                System.getProperty("invoo.load.password", "123456")));
+
+        // log in before the clock starts so the first arrivals don't pay for it
+        users.loginAll();
+        RunReport.register("credentials", users::report);
+        System.out.println("🚀 Load mix: " + mix);
+
+        try (ContinuousRecording jfr = ContinuousRecording.start("load")) {
+            LoadReport report = new LoadGenerator(plan, mix, users).run();
+            System.out.println(report);
+            if (jfr.enabled()) {
+                List<String> breaches = report.breaches(budgets());
+                if (!breaches.isEmpty()) {
+                    System.out.println("⚠️ SLO breached: " + String.join(", ", breaches));
+                    jfr.dump("slo");
+                }
+            }
+            return report;
+        }
+    }
+
+    /** ⚙️ Load-mode defaults; call before the HttpEngine / LatencyRecorder are first touched */
+    static void prepareJvm(String runKind) {
+        // the suites' per-host cap would queue open-loop arrivals; load mode only bounds via maxInFlight
+        if (System.getProperty("invoo.http.maxConcurrencyPerHost") == null) {
+            System.setProperty("invoo.http.maxConcurrencyPerHost", String.valueOf(Integer.MAX_VALUE));
+        }
+        // a transient 503 under load is worth one budgeted retry; functional suites keep retries off
+        if (System.getProperty("invoo.http.retries") == null) {
+            System.setProperty("invoo.http.retries", "1");
+        }
+        // latency under load is not a baseline for the functional suites
+        if (System.getProperty("invoo.latency.runName") == null) {
+            System.setProperty("invoo.latency.runName",
+                    runKind + "-" + System.getProperty("invoo.profile", System.getenv().getOrDefault("INVOO_PROFILE", "live")));
+        }
+    }
+
+    /** Budgets of -Dinvoo.slo.file (latency-slo.properties is a test resource), none when unset */
+    private static List<LatencyBudget> budgets() {
+        try {
+            return LatencyBudget.load();
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package org.Pages.Load;
+
+import org.HdrHistogram.Histogram;
+import org.Pages.Http.Endpoint;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+
+/**
+ * 🔌 Coordinator ⇄ worker wire format
+ * -----------------------------------
+ * Plain UTF-8 lines over a TCP socket, so a worker can be driven with nc:
+ *
+ *   coordinator → worker   RUN, key=value lines (LoadPlan slice + mix + worker
+ *                          index / count), END
+ *   worker → coordinator   READY (users logged in) or ERROR message
+ *   coordinator → worker   GO epochMillis (common start time)
+ *   worker → coordinator   RESULT, key=value lines, END
+ *   coordinator → worker   BYE
+ *
+ * Histograms travel HdrHistogram-compressed and base64 encoded, so the
+ * coordinator adds up the exact bucket counts and merged percentiles are as
+ * accurate as a single JVM's.
+ */
+final class LoadWire {
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private LoadWire() {
+    }
+
+    /** 📤 header, key=value lines, END */
+    static void writeBlock(Writer out, String header, Map<String, String> values) throws IOException {
+        StringBuilder sb = new StringBuilder(header).append('\n');
+        values.forEach((k, v) -> sb.append(k).append('=').append(v).append('\n'));
+        out.write(sb.append("END\n").toString());
+        out.flush();
+    }
+
+    /** 📥 key=value lines up to END (the header has already been read) */
+    static Map<String, String> readBlock(BufferedReader in) throws IOException {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String line = in.readLine(); ; line = in.readLine()) {
+            if (line == null) {
+                throw new IOException("❌ Connection closed in the middle of a block");
+            }
+            if (line.equals("END")) {
+                return values;
+            }
+            int eq = line.indexOf('=');
+            if (eq <= 0) {
+                throw new IOException("❌ Unreadable line '" + line + "'");
+            }
+            values.put(line.substring(0, eq), line.substring(eq + 1));
+        }
+    }
+
+    // === RUN ===
+
+    static Map<String, String> run(LoadPlan plan, EndpointMix mix, int worker, int workers) {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("worker", String.valueOf(worker));
+        values.put("workers", String.valueOf(workers));
+        values.put("rps", String.valueOf(plan.targetRps()));
+        values.put("rampUpNanos", String.valueOf(plan.rampUp().toNanos()));
+        values.put("steadyNanos", String.valueOf(plan.steady().toNanos()));
+        values.put("rampDownNanos", String.valueOf(plan.rampDown().toNanos()));
+        values.put("maxInFlight", String.valueOf(plan.maxInFlight()));
+        values.put("poisson", String.valueOf(plan.poisson()));
+        values.put("virtualUsers", String.valueOf(plan.virtualUsers()));
+        values.put("mix", mix.toString());
+        return values;
+    }
+
+    static LoadPlan plan(Map<String, String> run) throws IOException {
+        try {
+            return new LoadPlan(Double.parseDouble(run.get("rps")),
+                    Duration.ofNanos(Long.parseLong(run.get("rampUpNanos"))),
+                    Duration.ofNanos(Long.parseLong(run.get("steadyNanos"))),
+                    Duration.ofNanos(Long.parseLong(run.get("rampDownNanos"))),
+                    Integer.parseInt(run.get("maxInFlight")),
+                    Boolean.parseBoolean(run.get("poisson")),
+                    Integer.parseInt(run.get("virtualUsers")));
+        } catch (RuntimeException e) {
+            throw new IOException("❌ Incomplete RUN block " + run.keySet() + ": " + e, e);
+        }
+    }
+
+    /** Worker index and count of a RUN block; 0 of 1 when absent (a hand-driven worker) */
+    static int[] worker(Map<String, String> run) throws IOException {
+        try {
+            return new int[]{Integer.parseInt(run.getOrDefault("worker", "0")),
+                    Integer.parseInt(run.getOrDefault("workers", "1"))};
+        } catch (NumberFormatException e) {
+            throw new IOException("❌ Bad worker index in RUN block: " + e.getMessage(), e);
+        }
+    }
+
+    // === RESULT ===
+
+    static Map<String, String> result(LoadReport report) {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("sent", String.valueOf(report.sent()));
+        values.put("dropped", String.valueOf(report.dropped()));
+        values.put("elapsedNanos", String.valueOf(report.elapsedNanos()));
+        values.put("schedulerLag", encode(report.schedulerLag()));
+        report.stats().forEach((endpoint, s) -> {
+            String p = endpoint.name() + ".";
+            values.put(p + "all", encode(s.all));
+            values.put(p + "steady", encode(s.steady));
+            values.put(p + "ok", String.valueOf(s.ok.sum()));
+            values.put(p + "steadyOk", String.valueOf(s.steadyOk.sum()));
+            values.put(p + "errors", String.valueOf(s.errors.sum()));
+            s.statuses.forEach((code, n) -> values.put(p + "status." + code, String.valueOf(n.sum())));
+        });
+        return values;
+    }
+
+    /** ➕ Adds one worker's RESULT histograms and counters to the merged stats */
+    static void merge(Map<String, String> result, Map<Endpoint, EndpointStats> stats, Histogram schedulerLag)
+            throws IOException {
+        schedulerLag.add(decode(result.get("schedulerLag")));
+        for (Map.Entry<String, String> e : result.entrySet()) {
+            String key = e.getKey();
+            int dot = key.indexOf('.');
+            if (dot < 0) {
+                continue;
+            }
+            Endpoint endpoint;
+            try {
+                endpoint = Endpoint.valueOf(key.substring(0, dot));
+            } catch (IllegalArgumentException ex) {
+                throw new IOException("❌ Unknown endpoint in '" + key + "'");
+            }
+            EndpointStats s = stats.computeIfAbsent(endpoint, x -> new EndpointStats());
+            String field = key.substring(dot + 1);
+            switch (field) {
+                case "all" -> s.all.add(decode(e.getValue()));
+                case "steady" -> s.steady.add(decode(e.getValue()));
+                case "ok" -> s.ok.add(Long.parseLong(e.getValue()));
+                case "steadyOk" -> s.steadyOk.add(Long.parseLong(e.getValue()));
+                case "errors" -> s.errors.add(Long.parseLong(e.getValue()));
+                default -> {
+                    if (field.startsWith("status.")) {
+                        s.statuses.computeIfAbsent(Integer.parseInt(field.substring(7)), c -> new LongAdder())
+                                .add(Long.parseLong(e.getValue()));
+                    }
+                }
+            }
+        }
+    }
+
+    static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    static Histogram decode(String base64) throws IOException {
+        if (base64 == null) {
+            throw new IOException("❌ Missing histogram");
+        }
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(base64)), MAX_MICROS);
+        } catch (DataFormatException | IllegalArgumentException e) {
+            throw new IOException("❌ Unreadable histogram: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.Pages.Load;
+
+import org.Pages.Auth.CredentialPool;
+import org.Pages.Auth.Credentials;
+import org.Pages.Http.Endpoint;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 🛠️ Load worker for distributed runs
+ * -----------------------------------
+ * Waits for a LoadCoordinator on a plain TCP port (see LoadWire for the
+ * protocol), runs its slice of the plan with a local LoadGenerator and sends
+ * back the raw histograms and counters:
+ *
+ *   java -cp ... org.Pages.Load.LoadWorker 7070      # remote machine
+ *
+ * - -Dinvoo.dist.bind=0.0.0.0 to accept remote coordinators (default 127.0.0.1)
+ * - -Dinvoo.dist.once=true exits after the first coordinator disconnects
+ *   (how the coordinator starts local workers)
+ * - Users come from the worker's own CredentialPool settings (-Dinvoo.credentials.file /
+ *   -Dinvoo.load.username), logged in before READY so the start is not skewed;
+ *   with a file the worker keeps only its slice (worker index / count from RUN)
+ * - Exits 1 when a session failed (bad RUN block, no user could log in, lost
+ *   coordinator), so a script or the spawning coordinator can tell
+ */
+public final class LoadWorker implements AutoCloseable {
+
+    /** First stdout line of a worker; the coordinator reads the port from it */
+    static final String LISTENING = "LOAD-WORKER LISTENING ";
+
+    private final ServerSocket server;
+
+    private LoadWorker(ServerSocket server) {
+        this.server = server;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTest.prepareJvm("load-worker");
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Integer.getInteger("invoo.dist.port", 0);
+        boolean ok;
+        try (LoadWorker worker = start(port)) {
+            System.out.println(LISTENING + worker.port());
+            ok = worker.serve(Boolean.parseBoolean(System.getProperty("invoo.dist.once", "false")));
+        }
+        System.exit(ok ? 0 : 1);
+    }
+
+    /** ▶️ Binds the port (0 = any free one); serve() answers coordinators */
+    public static LoadWorker start(int port) throws IOException {
+        ServerSocket server = new ServerSocket();
+        server.bind(new InetSocketAddress(InetAddress.getByName(System.getProperty("invoo.dist.bind", "127.0.0.1")), port));
+        return new LoadWorker(server);
+    }
+
+    public int port() {
+        return server.getLocalPort();
+    }
+
+    /** 🔁 Serves one coordinator at a time until closed (or after the first one when `once`); false if a session failed */
+    public boolean serve(boolean once) {
+        boolean ok = true;
+        while (!server.isClosed()) {
+            try (Socket socket = server.accept()) {
+                ok &= session(socket);
+            } catch (SocketException e) {
+                if (server.isClosed()) {
+                    return ok;
+                }
+                System.err.println("⚠️ Coordinator connection lost: " + e.getMessage());
+                ok = false;
+            } catch (IOException | RuntimeException e) {
+                System.err.println("❌ Load worker session failed: " + e.getMessage());
+                ok = false;
+            }
+            if (once) {
+                return ok;
+            }
+        }
+        return ok;
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+
+    /** One coordinator connection; false when a RUN was answered with ERROR or cut short */
+    private boolean session(Socket socket) throws IOException {
+        boolean ok = true;
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+        for (String line = in.readLine(); line != null && !line.equals("BYE"); line = in.readLine()) {
+            if (!line.equals("RUN")) {
+                reply(out, "ERROR expected RUN, got '" + line + "'");
+                ok = false;
+                continue;
+            }
+            Map<String, String> run = LoadWire.readBlock(in);
+            CredentialPool users;
+            LoadGenerator generator;
+            try {
+                LoadPlan plan = LoadWire.plan(run);
+                EndpointMix mix = EndpointMix.parse(run.get("mix"));
+                int[] worker = LoadWire.worker(run);
+                users = CredentialPool.fromProperties(new Credentials(Endpoint.LOGIN.url(),
+                        System.getProperty("invoo.load.username", "sa"),
+                        System.getProperty("invoo.load.password", "123456")), worker[0], worker[1]);
+                users.loginAll();
+                generator = new LoadGenerator(plan, mix, users);
+                System.out.println("🛠️ Worker " + (worker[0] + 1) + "/" + worker[1] + " slice: " + plan.targetRps()
+                        + " rps of " + mix + " as " + users.size() + " user(s)");
+            } catch (IOException | RuntimeException e) {
+                reply(out, "ERROR " + e.getMessage());
+                ok = false;
+                continue;
+            }
+            reply(out, "READY");
+
+            String go = in.readLine();
+            if (go == null || !go.startsWith("GO ")) {
+                throw new IOException("❌ Expected GO, got '" + go + "'");
+            }
+            long wait = Long.parseLong(go.substring(3).trim()) - System.currentTimeMillis();
+            if (wait > 0) {
+                try {
+                    Thread.sleep(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            LoadWire.writeBlock(out, "RESULT", LoadWire.result(generator.run()));
+            String usersReport = users.report();
+            if (!usersReport.isEmpty()) {
+                System.out.println(usersReport);
+            }
+        }
+        return ok;
+    }
+
+    private static void reply(Writer out, String line) throws IOException {
+        out.write(line.replace('\n', ' ') + "\n");
+        out.flush();
+    }
+}
@@ -0,0 +1,101 @@
+package org.Pages.Metrics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * 🎥 Continuous JFR recording for load and monitor mode
+ * -----------------------------------------------------
+ * - -Dinvoo.jfr=true starts a recording with the JDK "default" settings
+ *   (-Dinvoo.jfr.settings=profile for allocation / method sampling detail) plus
+ *   every org.Pages.HttpCall event, so harness GC pauses, virtual-thread
+ *   pinning and allocation spikes line up with the slow calls
+ * - Kept on disk as a ring bounded by -Dinvoo.jfr.maxAge (default 15m) and
+ *   -Dinvoo.jfr.maxBytes (default 256 MB)
+ * - dump(reason) writes the ring to -Dinvoo.jfr.dir (default target/jfr) when
+ *   an SLO is breached, at most once per -Dinvoo.jfr.dumpEvery (default 5m)
+ * - Switched off, every method is a no-op
+ */
+public final class ContinuousRecording implements AutoCloseable {
+
+    private final String mode;
+    private final Recording recording;
+    private final Path dir;
+    private final long dumpEveryNanos;
+    private long lastDump;
+
+    private ContinuousRecording(String mode, Recording recording, Path dir, Duration dumpEvery) {
+        this.mode = mode;
+        this.recording = recording;
+        this.dir = dir;
+        this.dumpEveryNanos = dumpEvery.toNanos();
+    }
+
+    /** 🎥 Starts the recording when -Dinvoo.jfr=true; `mode` names the dumps (load, monitor) */
+    public static ContinuousRecording start(String mode) throws IOException {
+        Path dir = Paths.get(System.getProperty("invoo.jfr.dir", "target/jfr"));
+        Duration dumpEvery = Durations.parse(System.getProperty("invoo.jfr.dumpEvery", "5m"));
+        if (!Boolean.parseBoolean(System.getProperty("invoo.jfr", "false"))) {
+            return new ContinuousRecording(mode, null, dir, dumpEvery);
+        }
+        String settings = System.getProperty("invoo.jfr.settings", "default");
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration(settings));
+        } catch (ParseException e) {
+            throw new IOException("❌ Unreadable JFR settings '" + settings + "': " + e.getMessage(), e);
+        }
+        recording.setName("invoo-" + mode);
+        recording.setToDisk(true);
+        recording.setMaxAge(Durations.parse(System.getProperty("invoo.jfr.maxAge", "15m")));
+        recording.setMaxSize(Long.getLong("invoo.jfr.maxBytes", 256L << 20));
+        recording.enable("org.Pages.HttpCall").withThreshold(Duration.ZERO);
+        recording.start();
+        System.out.println("🎥 JFR recording '" + recording.getName() + "' running (" + settings + " settings, last "
+                + Durations.format(recording.getMaxAge()) + " kept); dumps go to " + dir.toAbsolutePath());
+        return new ContinuousRecording(mode, recording, dir, dumpEvery);
+    }
+
+    public boolean enabled() {
+        return recording != null;
+    }
+
+    /** 💾 Writes the ring to disk because of `reason`; null when off or a dump was written too recently */
+    public synchronized Path dump(String reason) {
+        if (recording == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (lastDump != 0 && now - lastDump < dumpEveryNanos) {
+            return null;
+        }
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        Path file = dir.resolve(mode + "-" + reason.replaceAll("[^A-Za-z0-9_.-]+", "_") + "-" + stamp + ".jfr");
+        try {
+            Files.createDirectories(dir);
+            recording.dump(file);
+            lastDump = now;
+            System.out.println("🎥 JFR dump (" + reason + ") written to " + file.toAbsolutePath());
+            return file;
+        } catch (IOException e) {
+            System.err.println("⚠️ JFR dump (" + reason + ") failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
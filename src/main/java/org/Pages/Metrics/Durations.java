@@ -0,0 +1,41 @@
+package org.Pages.Metrics;
+
+import java.time.Duration;
+
+/**
+ * ⏱️ Human-friendly durations for config files and -D properties
+ * ---------------------------------------------------------------
+ * "250ms", "1.5s", "5m", "1h", or a plain number of seconds.
+ */
+public final class Durations {
+
+    private Durations() {
+    }
+
+    public static Duration parse(String text) {
+        String value = text.trim().toLowerCase();
+        try {
+            if (value.endsWith("ms")) {
+                return Duration.ofNanos(Math.round(Double.parseDouble(value.substring(0, value.length() - 2)) * 1e6));
+            }
+            if (value.endsWith("s")) {
+                return Duration.ofNanos(Math.round(Double.parseDouble(value.substring(0, value.length() - 1)) * 1e9));
+            }
+            if (value.endsWith("m")) {
+                return Duration.ofNanos(Math.round(Double.parseDouble(value.substring(0, value.length() - 1)) * 60e9));
+            }
+            if (value.endsWith("h")) {
+                return Duration.ofNanos(Math.round(Double.parseDouble(value.substring(0, value.length() - 1)) * 3600e9));
+            }
+            return Duration.ofNanos(Math.round(Double.parseDouble(value) * 1e9));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("❌ Not a duration: \"" + text + "\" (use e.g. 250ms, 1.5s, 5m)");
+        }
+    }
+
+    /** 🔹 Compact rendering: 850 ms, 1.2 s */
+    public static String format(Duration duration) {
+        long micros = duration.toNanos() / 1000;
+        return micros < 1_000_000 ? String.format("%.1f ms", micros / 1000.0) : String.format("%.2f s", micros / 1e6);
+    }
+}
@@ -0,0 +1,111 @@
+package org.Pages.Metrics;
+
+import org.Pages.Http.Endpoint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 🎯 Latency budget (SLO) for one catalogued endpoint
+ * ----------------------------------------------------
+ * Declared in latency-slo.properties (classpath) or -Dinvoo.slo.file=path:
+ *
+ *   STATUS_COUNTS.p95 = 400ms
+ *   CUSTOMERS.p99     = 1s
+ *   CUSTOMERS.samples = 50
+ *   default.samples   = 20
+ *   default.warmup    = 2
+ *
+ * Keys are Endpoint names; several percentiles per endpoint are allowed.
+ * -Dinvoo.slo.samples overrides every sample count.
+ */
+public record LatencyBudget(Endpoint endpoint, double percentile, Duration budget, int samples, int warmup) {
+
+    public static final String RESOURCE = "latency-slo.properties";
+
+    private static final Pattern KEY = Pattern.compile("([A-Z0-9_]+)\\.p(\\d+(?:\\.\\d+)?)");
+
+    /** 📋 Budgets from -Dinvoo.slo.file, else from the classpath resource */
+    public static List<LatencyBudget> load() throws IOException {
+        String file = System.getProperty("invoo.slo.file");
+        if (file != null) {
+            try (InputStream in = Files.newInputStream(Paths.get(file))) {
+                return parse(in, file);
+            }
+        }
+        try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IOException("❌ " + RESOURCE + " not found on the classpath (or set -Dinvoo.slo.file)");
+            }
+            return parse(in, RESOURCE);
+        }
+    }
+
+    static List<LatencyBudget> parse(InputStream in, String source) throws IOException {
+        Properties props = new Properties();
+        props.load(in);
+        int defaultSamples = Integer.getInteger("invoo.slo.samples", intValue(props, "default.samples", 20, source));
+        int defaultWarmup = intValue(props, "default.warmup", 2, source);
+
+        List<LatencyBudget> budgets = new ArrayList<>();
+        for (Map.Entry<String, String> entry : stringMap(props).entrySet()) {
+            Matcher m = KEY.matcher(entry.getKey());
+            if (!m.matches()) {
+                continue;
+            }
+            Endpoint endpoint;
+            try {
+                endpoint = Endpoint.valueOf(m.group(1));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("❌ " + source + ": unknown endpoint \"" + m.group(1) + "\" in " + entry.getKey());
+            }
+            double percentile = Double.parseDouble(m.group(2));
+            if (percentile <= 0 || percentile > 100) {
+                throw new IOException("❌ " + source + ": percentile out of range in " + entry.getKey());
+            }
+            int samples = System.getProperty("invoo.slo.samples") != null ? defaultSamples
+                    : intValue(props, endpoint.name() + ".samples", defaultSamples, source);
+            budgets.add(new LatencyBudget(endpoint, percentile, Durations.parse(entry.getValue()), samples,
+                    intValue(props, endpoint.name() + ".warmup", defaultWarmup, source)));
+        }
+        return budgets;
+    }
+
+    /** 🔹 "STATUS_COUNTS p95 < 400.0 ms" */
+    @Override
+    public String toString() {
+        return endpoint.name() + " p" + label(percentile) + " < " + Durations.format(budget);
+    }
+
+    public static String label(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    private static int intValue(Properties props, String key, int fallback, String source) throws IOException {
+        String value = props.getProperty(key);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("❌ " + source + ": " + key + " is not a number: " + value);
+        }
+    }
+
+    private static Map<String, String> stringMap(Properties props) {
+        Map<String, String> map = new TreeMap<>();
+        props.stringPropertyNames().forEach(name -> map.put(name, props.getProperty(name)));
+        return map;
+    }
+}
@@ -0,0 +1,99 @@
+package org.Pages.Metrics;
+
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 🔗 Merges raw latency logs from several runs
+ * --------------------------------------------
+ *   mvn -q exec:java -Dexec.mainClass=org.Pages.Metrics.LatencyLogMerge \
+ *       -Dexec.args=".invoo/latency other-run/latency-20251027-101152-4242.hlog -o merged.hlog"
+ *
+ * Arguments are .hlog files or directories containing them. Histograms are
+ * summed per endpoint tag and printed as one percentile table; with -o the
+ * merged totals are written back as a single .hlog.
+ */
+public final class LatencyLogMerge {
+
+    private LatencyLogMerge() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<Path> inputs = new ArrayList<>();
+        Path output = null;
+        for (int i = 0; i < args.length; i++) {
+            if ("-o".equals(args[i]) && i + 1 < args.length) {
+                output = Paths.get(args[++i]);
+            } else {
+                inputs.addAll(logFiles(Paths.get(args[i])));
+            }
+        }
+        if (inputs.isEmpty()) {
+            System.err.println("❌ Usage: LatencyLogMerge <file.hlog|dir>... [-o merged.hlog]");
+            System.exit(2);
+        }
+
+        Map<String, Histogram> merged = merge(inputs);
+        System.out.println(LatencyRecorder.table("⏱️ Merged latency of " + inputs.size() + " log(s) (ms)", merged));
+        if (output != null) {
+            write(merged, output);
+            System.out.println("✅ Merged log written to " + output.toAbsolutePath());
+        }
+    }
+
+    /** 🔗 Sums every interval histogram of the given logs, per key (decoded from the tag) */
+    public static Map<String, Histogram> merge(List<Path> logs) throws IOException {
+        Map<String, Histogram> merged = new TreeMap<>();
+        for (Path file : logs) {
+            HistogramLogReader reader = new HistogramLogReader(file.toFile());
+            EncodableHistogram next;
+            while ((next = reader.nextIntervalHistogram()) != null) {
+                Histogram h = (Histogram) next;
+                String key = h.getTag() == null ? "(untagged)" : LatencyRecorder.keyOf(h.getTag());
+                Histogram total = merged.computeIfAbsent(key, k -> {
+                    Histogram empty = new Histogram(1, LatencyRecorder.MAX_MICROS, 3);
+                    empty.setStartTimeStamp(h.getStartTimeStamp());
+                    return empty;
+                });
+                total.add(h);
+                total.setStartTimeStamp(Math.min(total.getStartTimeStamp(), h.getStartTimeStamp()));
+                total.setEndTimeStamp(Math.max(total.getEndTimeStamp(), h.getEndTimeStamp()));
+            }
+        }
+        return merged;
+    }
+
+    private static void write(Map<String, Histogram> merged, Path output) throws IOException {
+        try (PrintStream out = new PrintStream(output.toFile(), "UTF-8")) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            merged.forEach((key, h) -> {
+                h.setTag(LatencyRecorder.tag(key));
+                writer.outputIntervalHistogram(h);
+            });
+        }
+    }
+
+    private static List<Path> logFiles(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(f -> f.toString().endsWith(".hlog")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package org.Pages.Metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * ⏱️ Per-endpoint latency histograms
+ * -----------------------------------
+ * - Every request sent through the HttpEngine is recorded, keyed by
+ *   "METHOD /path" (query dropped, numeric ids folded to {id})
+ * - Answers replayed without a network exchange (fresh HttpCache hits,
+ *   memoized / coalesced GETs) go to their own "METHOD /path CACHED" series, so they never pull down the
+ *   network percentiles that SLO budgets and regression baselines read
+ * - Latency runs from the *intended* send time (ApiRequest.intendedAt, or the
+ *   moment send() was called), so time spent queued behind a per-host cap or a
+ *   late load scheduler is counted instead of omitted
+ * - Lock-free HdrHistogram Recorders on the hot path; intervals are drained
+ *   every -Dinvoo.latency.logIntervalSeconds (default 10) into a run total and
+ *   into a raw .hlog file under -Dinvoo.latency.logDir (default .invoo/latency,
+ *   outside target/ so regression baselines survive mvn clean; "none" disables
+ *   it), named latency-{run}-{time}-{pid}.hlog where run is
+ *   -Dinvoo.latency.runName or the profile (RegressionCheck compares runs of one kind)
+ * - Logs from several runs merge with LatencyLogMerge; .hlog tags can't hold
+ *   whitespace or commas, so tag() writes spaces as '_' and %-escapes '_', ','
+ *   and '%', and keyOf() reverses it exactly (every '_' is a space)
+ */
+public final class LatencyRecorder {
+
+    /** Where .hlog files go unless -Dinvoo.latency.logDir says otherwise */
+    public static final String DEFAULT_LOG_DIR = ".invoo/latency";
+
+    static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    /** Key suffix of the series for replayed answers */
+    public static final String CACHED = " CACHED";
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private static final LatencyRecorder SHARED = new LatencyRecorder(
+            System.getProperty("invoo.latency.logDir", DEFAULT_LOG_DIR),
+            Long.getLong("invoo.latency.logIntervalSeconds", 10));
+
+    static {
+        RunReport.register("latency", SHARED::report);
+    }
+
+    private final ConcurrentMap<String, Series> series = new ConcurrentHashMap<>();
+    private final String logDir;
+    private final long startMillis = System.currentTimeMillis();
+    private PrintStream logStream;
+    private HistogramLogWriter log;
+    private Path logFile;
+    private boolean logDisabled;
+
+    private LatencyRecorder(String logDir, long intervalSeconds) {
+        this.logDir = logDir;
+        if (intervalSeconds > 0) {
+            ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "latency-log");
+                t.setDaemon(true);
+                return t;
+            });
+            flusher.scheduleAtFixedRate(this::snapshot, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    public static LatencyRecorder shared() {
+        return SHARED;
+    }
+
+    /** 🏷️ Histogram key for a request, e.g. "GET /api/v1/merchants/{id}/branding" */
+    public static String key(String method, URI uri) {
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return method + " " + NUMERIC_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    /** 🏷️ .hlog tag for a key: ' ' → '_', then '_' / ',' / '%' → %5F / %2C / %25 */
+    public static String tag(String key) {
+        StringBuilder sb = new StringBuilder(key.length() + 8);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            switch (c) {
+                case ' ' -> sb.append('_');
+                case '_' -> sb.append("%5F");
+                case ',' -> sb.append("%2C");
+                case '%' -> sb.append("%25");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 🏷️ Key back from a tag(); any other %XX is left as written */
+    public static String keyOf(String tag) {
+        StringBuilder sb = new StringBuilder(tag.length());
+        for (int i = 0; i < tag.length(); i++) {
+            char c = tag.charAt(i);
+            if (c == '_') {
+                sb.append(' ');
+            } else if (tag.startsWith("%5F", i)) {
+                sb.append('_');
+                i += 2;
+            } else if (tag.startsWith("%2C", i)) {
+                sb.append(',');
+                i += 2;
+            } else if (tag.startsWith("%25", i)) {
+                sb.append('%');
+                i += 2;
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** ⏱️ Records one exchange, from intended send time to completion */
+    public void record(String method, URI uri, long intendedNanos, long endNanos) {
+        record(key(method, uri), intendedNanos, endNanos);
+    }
+
+    /** ⏱️ Records an answer served without a network exchange, under "key CACHED" */
+    public void recordCached(String method, URI uri, long intendedNanos, long endNanos) {
+        record(key(method, uri) + CACHED, intendedNanos, endNanos);
+    }
+
+    private void record(String key, long intendedNanos, long endNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(endNanos - intendedNanos);
+        series.computeIfAbsent(key, Series::new).recorder.recordValue(Math.min(MAX_MICROS, Math.max(1, micros)));
+    }
+
+    /** 📊 Drains pending intervals (appending them to the .hlog) and returns the run totals per key */
+    public synchronized Map<String, Histogram> snapshot() {
+        Map<String, Histogram> totals = new TreeMap<>();
+        for (Series s : series.values()) {
+            s.interval = s.recorder.getIntervalHistogram(s.interval);
+            if (s.interval.getTotalCount() > 0) {
+                s.interval.setTag(tag(s.key));
+                writeInterval(s.interval);
+                s.total.add(s.interval);
+            }
+            totals.put(s.key, s.total.copy());
+        }
+        if (logStream != null) {
+            logStream.flush();
+        }
+        return totals;
+    }
+
+    /** 🧾 Percentile table for the RunReport */
+    public String report() {
+        Map<String, Histogram> totals = snapshot();
+        if (totals.isEmpty()) {
+            return "";
+        }
+        String title = "⏱️ Latency per endpoint (ms, from intended send time)";
+        return table(title, totals) + (logFile == null ? "" : "\n   raw histograms: " + logFile);
+    }
+
+    /** Shared layout for the run report and LatencyLogMerge */
+    static String table(String title, Map<String, Histogram> histograms) {
+        int width = Math.max(8, histograms.keySet().stream().mapToInt(String::length).max().orElse(8));
+        StringBuilder sb = new StringBuilder(title);
+        sb.append(String.format("%n   %-" + width + "s %8s %9s %9s %9s %9s %9s",
+                "ENDPOINT", "COUNT", "p50", "p90", "p99", "p99.9", "max"));
+        histograms.forEach((key, h) -> sb.append(String.format("%n   %-" + width + "s %8d %9.2f %9.2f %9.2f %9.2f %9.2f",
+                key, h.getTotalCount(),
+                h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(90) / 1000.0,
+                h.getValueAtPercentile(99) / 1000.0, h.getValueAtPercentile(99.9) / 1000.0,
+                h.getMaxValue() / 1000.0)));
+        return sb.toString();
+    }
+
+    private void writeInterval(Histogram interval) {
+        if (log == null && !openLog()) {
+            return;
+        }
+        log.outputIntervalHistogram(interval);
+    }
+
+    private boolean openLog() {
+        if (logDisabled || logDir.isEmpty() || "none".equalsIgnoreCase(logDir)) {
+            return false;
+        }
+        try {
+            Path dir = Files.createDirectories(Paths.get(logDir));
+            String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(startMillis));
+            logFile = dir.resolve("latency-" + runName() + "-" + stamp + "-" + ProcessHandle.current().pid() + ".hlog")
+                    .toAbsolutePath();
+            logStream = new PrintStream(logFile.toFile(), "UTF-8");
+            log = new HistogramLogWriter(logStream);
+            log.outputLogFormatVersion();
+            log.outputStartTime(startMillis);
+            log.setBaseTime(startMillis);
+            log.outputBaseTime(startMillis);
+            log.outputLegend();
+            return true;
+        } catch (IOException e) {
+            System.err.println("⚠️ Latency log disabled: " + e.getMessage());
+            logDisabled = true;
+            logFile = null;
+            return false;
+        }
+    }
+
+    /** 🏷️ Kind of run in the log name, so baselines compare like with like: -Dinvoo.latency.runName, else the profile */
+    static String runName() {
+        String name = System.getProperty("invoo.latency.runName");
+        if (name == null || name.isBlank()) {
+            // same rule as Hosts: -Dinvoo.profile, then INVOO_PROFILE, then live
+            name = System.getProperty("invoo.profile");
+            if (name == null || name.isBlank()) {
+                name = System.getenv("INVOO_PROFILE");
+            }
+        }
+        return name == null || name.isBlank() ? "live" : name.trim().toLowerCase().replaceAll("[^a-z0-9]+", "_");
+    }
+
+    /** One endpoint: lock-free recorder + reusable interval + run total */
+    private static final class Series {
+
+        private final String key;
+        private final Recorder recorder = new Recorder(1, MAX_MICROS, 3);
+        private final Histogram total = new Histogram(1, MAX_MICROS, 3);
+        private Histogram interval;
+
+        private Series(String key) {
+            this.key = key;
+        }
+    }
+}
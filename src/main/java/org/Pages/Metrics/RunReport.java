@@ -0,0 +1,53 @@
+package org.Pages.Metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 📋 End-of-run summary
+ * ---------------------
+ * Components (HttpEngine, SessionManager, ...) register a section once; the
+ * sections are printed together when the test run finishes (RunReportListener)
+ * or, outside of surefire, when the JVM exits.
+ */
+public final class RunReport {
+
+    private static final Map<String, Supplier<String>> SECTIONS = new LinkedHashMap<>();
+    private static final AtomicBoolean PRINTED = new AtomicBoolean();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(RunReport::print, "run-report"));
+    }
+
+    private RunReport() {
+    }
+
+    /** 📝 Adds (or replaces) a named section of the summary */
+    public static synchronized void register(String name, Supplier<String> section) {
+        SECTIONS.put(name, section);
+    }
+
+    /** 🧾 Current summary text */
+    public static synchronized String render() {
+        StringBuilder sb = new StringBuilder();
+        for (Supplier<String> section : SECTIONS.values()) {
+            String text = section.get();
+            if (text != null && !text.isEmpty()) {
+                sb.append(sb.length() == 0 ? "" : "\n").append(text);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 🖨️ Prints the summary once per JVM */
+    public static void print() {
+        if (PRINTED.compareAndSet(false, true)) {
+            String text = render();
+            if (!text.isEmpty()) {
+                System.out.println("\n" + text);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.Pages.Monitor;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ❤️ Health of one monitored endpoint
+ * -----------------------------------
+ * Fixed-size state only (counters, one latency Recorder, the last error), so a
+ * probe that runs for weeks uses the same memory as on its first day.
+ * Interval counters and latencies reset on every report.
+ */
+final class EndpointHealth {
+
+    enum Transition {
+        NONE, DOWN, RECOVERED
+    }
+
+    private final MonitorPlan.Probe probe;
+    private final int alertAfter;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Recorder latency = new Recorder(1, TimeUnit.MINUTES.toMicros(10), 2);
+    private Histogram interval;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private long totalChecks;
+    private long totalFailures;
+    private int consecutiveFailures;
+    private boolean down;
+    private String lastError;
+
+    EndpointHealth(MonitorPlan.Probe probe, int alertAfter) {
+        this.probe = probe;
+        this.alertAfter = Math.max(1, alertAfter);
+    }
+
+    MonitorPlan.Probe probe() {
+        return probe;
+    }
+
+    /** false when the previous check is still running (this one is skipped) */
+    boolean tryStart() {
+        if (running.compareAndSet(false, true)) {
+            return true;
+        }
+        skipped.increment();
+        return false;
+    }
+
+    /** Records a finished check; error == null means it passed */
+    synchronized Transition finish(long nanos, String error) {
+        try {
+            latency.recordValue(Math.min(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)), TimeUnit.MINUTES.toMicros(10)));
+            checks.increment();
+            totalChecks++;
+            if (error == null) {
+                consecutiveFailures = 0;
+                if (down) {
+                    down = false;
+                    return Transition.RECOVERED;
+                }
+                return Transition.NONE;
+            }
+            failures.increment();
+            totalFailures++;
+            consecutiveFailures++;
+            lastError = error;
+            if (!down && consecutiveFailures >= alertAfter) {
+                down = true;
+                return Transition.DOWN;
+            }
+            return Transition.NONE;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    synchronized int consecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    synchronized String lastError() {
+        return lastError;
+    }
+
+    /** 📊 One report row; resets the interval counters and latency */
+    synchronized String reportRow(int width) {
+        interval = latency.getIntervalHistogram(interval);
+        long count = checks.sumThenReset();
+        long failed = failures.sumThenReset();
+        long skips = skipped.sumThenReset();
+        String row = String.format("%-" + width + "s %-5s %7d %7d %7d %9s %9s %9s %8d/%d",
+                probe.endpoint().name(), down ? "DOWN" : "UP", count, failed, skips,
+                millis(interval, 50), millis(interval, 99), count == 0 ? "-" : String.format("%.1f", interval.getMaxValue() / 1000.0),
+                totalFailures, totalChecks);
+        return down && lastError != null ? row + "  " + lastError : row;
+    }
+
+    private static String millis(Histogram h, double percentile) {
+        return h.getTotalCount() == 0 ? "-" : String.format("%.1f", h.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    synchronized boolean down() {
+        return down;
+    }
+}
@@ -0,0 +1,134 @@
+package org.Pages.Monitor;
+
+import org.Pages.Http.BodyCheck;
+import org.Pages.Http.Endpoint;
+import org.Pages.Metrics.Durations;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * 🗓️ What the synthetic monitor checks, and how often
+ * ---------------------------------------------------
+ * Declared in monitor.properties (classpath) or -Dinvoo.monitor.file=path:
+ *
+ *   default.interval = 5m
+ *   jitter           = 0.1
+ *   reportEvery      = 5m
+ *   alertAfter       = 2
+ *   STATUS_COUNTS    = 1m
+ *   CUSTOMERS_LIST   = 2m json:content,totalElements
+ *   LOCALE           = 15m json
+ *
+ * Keys are Endpoint names; the value is the interval, optionally followed by a
+ * body check ("json", "json:key1,key2" or "nonEmpty"). Every check also needs a
+ * 2xx. "ALL = 5m" schedules every catalogued endpoint except LOGIN.
+ */
+public record MonitorPlan(List<Probe> probes, double jitter, Duration reportEvery, int alertAfter) {
+
+    public static final String RESOURCE = "monitor.properties";
+
+    /** One scheduled check */
+    public record Probe(Endpoint endpoint, Duration interval, BodyCheck check, String checkLabel) {
+
+        @Override
+        public String toString() {
+            return endpoint.name() + " every " + Durations.format(interval)
+                    + (checkLabel.isEmpty() ? "" : " (" + checkLabel + ")");
+        }
+    }
+
+    /** 📋 Plan from -Dinvoo.monitor.file, else from the classpath resource */
+    public static MonitorPlan load() throws IOException {
+        String file = System.getProperty("invoo.monitor.file");
+        if (file != null) {
+            try (InputStream in = Files.newInputStream(Paths.get(file))) {
+                return parse(in, file);
+            }
+        }
+        try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IOException("❌ " + RESOURCE + " not found on the classpath (or set -Dinvoo.monitor.file)");
+            }
+            return parse(in, RESOURCE);
+        }
+    }
+
+    static MonitorPlan parse(InputStream in, String source) throws IOException {
+        Properties props = new Properties();
+        props.load(in);
+        Duration defaultInterval = duration(props, "default.interval", "5m", source);
+
+        List<Probe> probes = new ArrayList<>();
+        for (String key : new TreeSet<>(props.stringPropertyNames())) {
+            if (!key.matches("[A-Z0-9_]+")) {
+                continue;
+            }
+            String value = props.getProperty(key).trim();
+            if (key.equals("ALL")) {
+                for (Endpoint endpoint : Endpoint.values()) {
+                    if (endpoint != Endpoint.LOGIN && !props.containsKey(endpoint.name())) {
+                        probes.add(probe(endpoint, value, defaultInterval, source));
+                    }
+                }
+                continue;
+            }
+            try {
+                probes.add(probe(Endpoint.valueOf(key), value, defaultInterval, source));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("❌ " + source + ": unknown endpoint \"" + key + "\"");
+            }
+        }
+        if (probes.isEmpty()) {
+            throw new IOException("❌ " + source + ": no endpoints to monitor");
+        }
+        double jitter = Double.parseDouble(props.getProperty("jitter", "0.1").trim());
+        if (jitter < 0 || jitter >= 1) {
+            throw new IOException("❌ " + source + ": jitter must be in [0, 1), got " + jitter);
+        }
+        return new MonitorPlan(probes, jitter, duration(props, "reportEvery", "5m", source),
+                Integer.parseInt(props.getProperty("alertAfter", "2").trim()));
+    }
+
+    private static Probe probe(Endpoint endpoint, String value, Duration fallback, String source) throws IOException {
+        String[] parts = value.isEmpty() ? new String[0] : value.split("\\s+", 2);
+        Duration interval = parts.length == 0 ? fallback : parse(parts[0], endpoint.name(), source);
+        if (interval.compareTo(Duration.ofSeconds(1)) < 0) {
+            throw new IOException("❌ " + source + ": " + endpoint + " interval below 1s");
+        }
+        String label = parts.length > 1 ? parts[1].trim() : "";
+        BodyCheck check;
+        if (label.isEmpty()) {
+            check = BodyCheck.NONE;
+        } else if (label.equals("nonEmpty")) {
+            check = BodyCheck.nonEmpty();
+        } else if (label.equals("json")) {
+            check = BodyCheck.json();
+        } else if (label.startsWith("json:")) {
+            check = BodyCheck.json(label.substring(5).split("\\s*,\\s*"));
+        } else {
+            throw new IOException("❌ " + source + ": unknown check \"" + label + "\" for " + endpoint
+                    + " (use json, json:key1,key2 or nonEmpty)");
+        }
+        return new Probe(endpoint, interval, check, label);
+    }
+
+    private static Duration duration(Properties props, String key, String fallback, String source) throws IOException {
+        return parse(props.getProperty(key, fallback), key, source);
+    }
+
+    private static Duration parse(String text, String key, String source) throws IOException {
+        try {
+            return Durations.parse(text);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("❌ " + source + ": " + key + ": " + e.getMessage());
+        }
+    }
+}
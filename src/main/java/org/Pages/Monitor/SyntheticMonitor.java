@@ -0,0 +1,182 @@
+package org.Pages.Monitor;
+
+import org.Pages.Auth.Credentials;
+import org.Pages.Auth.SessionManager;
+import org.Pages.Http.ApiResponse;
+import org.Pages.History.ResultHistory;
+import org.Pages.Http.HttpEngine;
+import org.Pages.Metrics.ContinuousRecording;
+import org.Pages.Metrics.Durations;
+import org.Pages.Metrics.LatencyRecorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📡 Long-running synthetic monitor
+ * ---------------------------------
+ * - Each probe in the MonitorPlan runs on its own schedule; every run is
+ *   re-armed with ±jitter, and first runs are spread over the interval, so
+ *   checks don't line up into bursts
+ * - One platform scheduler thread only hands work out; checks run on virtual
+ *   threads, and a probe whose previous check is still running is skipped
+ * - All checks share one SessionManager session (refreshed before expiry,
+ *   re-login once on 401)
+ * - Checks always go to the network (ApiRequest.noCache())
+ * - Logs only DOWN / RECOVERED transitions, plus a summary every reportEvery
+ * - Every check is appended to the ResultHistory as a PROBE record, and only
+ *   as that: its HTTP call is sent with ApiRequest.noHistory()
+ * - A DOWN transition dumps the ContinuousRecording (when -Dinvoo.jfr=true)
+ */
+public final class SyntheticMonitor implements AutoCloseable {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final MonitorPlan plan;
+    private final Credentials credentials;
+    private final ContinuousRecording recording;
+    private final List<EndpointHealth> health = new ArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "monitor-scheduler");
+        t.setDaemon(true);
+        return t;
+    });
+    private final ExecutorService workers =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("monitor-check-", 0).factory());
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    public SyntheticMonitor(MonitorPlan plan, Credentials credentials, ContinuousRecording recording) {
+        this.plan = plan;
+        this.credentials = credentials;
+        this.recording = recording;
+        for (MonitorPlan.Probe probe : plan.probes()) {
+            health.add(new EndpointHealth(probe, plan.alertAfter()));
+        }
+    }
+
+    /** ▶️ Schedules every probe and blocks until close() or until `duration` (null = forever) has passed */
+    public void run(Duration duration) throws InterruptedException {
+        for (EndpointHealth h : health) {
+            long intervalNanos = h.probe().interval().toNanos();
+            scheduler.schedule(() -> tick(h), ThreadLocalRandom.current().nextLong(intervalNanos), TimeUnit.NANOSECONDS);
+        }
+        long reportNanos = plan.reportEvery().toNanos();
+        scheduler.scheduleAtFixedRate(() -> System.out.println(report()), reportNanos, reportNanos, TimeUnit.NANOSECONDS);
+        if (duration == null) {
+            stopped.await();
+        } else {
+            stopped.await(duration.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** true while every probe is up */
+    public boolean healthy() {
+        return health.stream().noneMatch(EndpointHealth::down);
+    }
+
+    /** 📊 Per-probe summary since the previous report */
+    public String report() {
+        int width = health.stream().mapToInt(h -> h.probe().endpoint().name().length()).max().orElse(8);
+        StringBuilder sb = new StringBuilder("📡 Monitor " + LocalDateTime.now().format(TIME));
+        sb.append(String.format("%n   %-" + width + "s %-5s %7s %7s %7s %9s %9s %9s %10s",
+                "ENDPOINT", "STATE", "CHECKS", "FAILED", "SKIPPED", "p50 ms", "p99 ms", "max ms", "FAILED/ALL"));
+        for (EndpointHealth h : health) {
+            sb.append("\n   ").append(h.reportRow(width));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+        stopped.countDown();
+    }
+
+    private void tick(EndpointHealth h) {
+        try {
+            workers.execute(() -> check(h));
+        } catch (RuntimeException e) {
+            return; // shutting down
+        }
+        double jitter = plan.jitter() * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        long next = Math.round(h.probe().interval().toNanos() * (1 + jitter));
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(() -> tick(h), next, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void check(EndpointHealth h) {
+        if (!h.tryStart()) {
+            return;
+        }
+        MonitorPlan.Probe probe = h.probe();
+        long start = System.nanoTime();
+        int status = -1;
+        long bytes = 0;
+        String error;
+        try {
+            ApiResponse response = call(probe);
+            status = response.status();
+            bytes = response.bodyLength();
+            error = verdict(response);
+        } catch (IOException e) {
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        } catch (RuntimeException e) {
+            // a broken check must not take the daemon down
+            error = e.toString();
+        }
+        long elapsed = System.nanoTime() - start;
+        ResultHistory.shared().record(LatencyRecorder.key(probe.endpoint().method(), URI.create(probe.endpoint().url())),
+                status, elapsed, bytes, ResultHistory.Kind.PROBE);
+        switch (h.finish(elapsed, error)) {
+            case DOWN -> {
+                System.err.println("❌ " + LocalDateTime.now().format(TIME) + " DOWN " + probe.endpoint()
+                        + " after " + h.consecutiveFailures() + " failed checks: " + error);
+                recording.dump("down-" + probe.endpoint().name());
+            }
+            case RECOVERED -> System.out.println("✅ " + LocalDateTime.now().format(TIME) + " RECOVERED "
+                    + probe.endpoint() + " (" + Durations.format(Duration.ofNanos(elapsed)) + ")");
+            default -> {
+            }
+        }
+    }
+
+    /** Sends the probe with the shared session, logging in again once on 401 */
+    private ApiResponse call(MonitorPlan.Probe probe) throws IOException {
+        boolean auth = probe.endpoint().authenticated();
+        ApiResponse response = send(probe, auth ? SessionManager.shared().token(credentials) : null);
+        if (auth && response.status() == 401) {
+            SessionManager.shared().invalidate(credentials);
+            response = send(probe, SessionManager.shared().token(credentials));
+        }
+        return response;
+    }
+
+    /** null when the check passed, else what went wrong */
+    private static String verdict(ApiResponse response) {
+        if (response.status() < 200 || response.status() >= 300) {
+            return "HTTP " + response.status() + " " + response.preview(120);
+        }
+        if (!response.valid()) {
+            return "body check failed: " + String.join("; ", response.violations());
+        }
+        return null;
+    }
+
+    private static ApiResponse send(MonitorPlan.Probe probe, String token) throws IOException {
+        // the check's PROBE record stands for the call; an engine REQUEST record would count it twice
+        return HttpEngine.shared().send(probe.endpoint().request(token).check(probe.check()).noCache().noHistory());
+    }
+}
@@ -0,0 +1,43 @@
+package org.Pages.Realtime;
+
+import org.Pages.Http.Hosts;
+import org.Pages.Metrics.Durations;
+import org.Pages.Stub.WebSocketStub;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * 📋 Shape of one WebSocket fan-out run
+ * -------------------------------------
+ * Read from system properties by fromProperties():
+ *   -Dinvoo.ws.url=ws://...          channel (default Hosts.WS + /api/ws/customers/websocket)
+ *   -Dinvoo.ws.subscribers=500       concurrent subscribers
+ *   -Dinvoo.ws.connectRate=1000      new connections per second while ramping up
+ *   -Dinvoo.ws.hold=5s               measuring time once everyone is connected
+ *   -Dinvoo.ws.connectTimeout=10s
+ *   -Dinvoo.ws.reconnectDelay=250ms  pause before reconnecting a dropped subscriber (0 = never reconnect)
+ */
+public record FanOutPlan(URI url, int subscribers, double connectRate, Duration hold, Duration connectTimeout,
+                         Duration reconnectDelay) {
+
+    public static FanOutPlan fromProperties() {
+        return new FanOutPlan(
+                URI.create(System.getProperty("invoo.ws.url", Hosts.WS + WebSocketStub.PATH)),
+                Integer.getInteger("invoo.ws.subscribers", 500),
+                Double.parseDouble(System.getProperty("invoo.ws.connectRate", "1000")),
+                Durations.parse(System.getProperty("invoo.ws.hold", "5s")),
+                Durations.parse(System.getProperty("invoo.ws.connectTimeout", "10s")),
+                Durations.parse(System.getProperty("invoo.ws.reconnectDelay", "250ms")));
+    }
+
+    public boolean reconnect() {
+        return !reconnectDelay.isZero();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d subscribers on %s (%.0f connects/s, hold %s)", subscribers, url, connectRate,
+                Durations.format(hold));
+    }
+}
@@ -0,0 +1,264 @@
+package org.Pages.Realtime;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.Pages.Json.JsonFields;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 📡 WebSocket fan-out probe
+ * --------------------------
+ * - Opens plan.subscribers() concurrent WebSocket subscribers, paced at
+ *   plan.connectRate(), each connect on its own virtual thread (the client's
+ *   callbacks run on virtual threads too)
+ * - Connect time: handshake start → open
+ * - Delivery latency: the message's publishedAtMicros (wall clock) → received,
+ *   during the hold window only (ramp-up is dominated by handshakes), so
+ *   publisher and probe must share a clock (same host, or NTP-synced)
+ * - Drops: gaps in a subscriber's seq while connected; messages missed
+ *   between a disconnect and the reconnect are counted separately
+ * - Dropped subscribers reconnect after plan.reconnectDelay()
+ * - The client and its callback executor live only for one run() and are
+ *   closed with it
+ */
+public final class FanOutProbe {
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final JsonFields MESSAGE = JsonFields.of("seq", "publishedAtMicros");
+
+    private final FanOutPlan plan;
+    private final Histogram connect = new ConcurrentHistogram(MAX_MICROS, 3);
+    private final Histogram delivery = new ConcurrentHistogram(MAX_MICROS, 3);
+    private final LongAdder connected = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder missedWhileAway = new LongAdder();
+    private final LongAdder disconnects = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+    private final LongAdder unreadable = new LongAdder();
+    private volatile boolean running;
+    private volatile boolean holding;
+
+    public FanOutProbe(FanOutPlan plan) {
+        this.plan = plan;
+    }
+
+    /** ▶️ Ramps up, holds for plan.hold(), closes everyone and reports */
+    public FanOutReport run(Callable<String> tokens) throws IOException {
+        String token;
+        try {
+            token = tokens.call();
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("❌ Could not get a token for the WebSocket probe: " + e.getMessage(), e);
+        }
+
+        try (ExecutorService callbacks = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().executor(callbacks).connectTimeout(plan.connectTimeout()).build()) {
+            return run(client, token);
+        }
+    }
+
+    /** Ramp-up, hold and close on one client; the caller closes the client and its executor */
+    private FanOutReport run(HttpClient client, String token) {
+        List<Subscriber> subscribers = new ArrayList<>(plan.subscribers());
+        running = true;
+        long start = System.nanoTime();
+        long rampEnd;
+        long receivedAtRampEnd;
+        try {
+            try (ExecutorService connects = Executors.newVirtualThreadPerTaskExecutor()) {
+                double spacingNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(plan.connectRate(), 0.001);
+                for (int i = 0; i < plan.subscribers(); i++) {
+                    sleepUntil(start + Math.round(i * spacingNanos));
+                    Subscriber s = new Subscriber(client, token);
+                    subscribers.add(s);
+                    connects.execute(s::connect);
+                }
+            } // waits for every first connect attempt
+            rampEnd = System.nanoTime();
+            receivedAtRampEnd = received.sum();
+            holding = true;
+            sleepUntil(rampEnd + plan.hold().toNanos());
+        } finally {
+            holding = false;
+            running = false;
+        }
+        long end = System.nanoTime();
+        long receivedInHold = received.sum() - receivedAtRampEnd;
+
+        List<CompletableFuture<WebSocket>> closing = new ArrayList<>();
+        for (Subscriber s : subscribers) {
+            WebSocket ws = s.ws;
+            if (ws != null && !ws.isOutputClosed()) {
+                closing.add(ws.sendClose(WebSocket.NORMAL_CLOSURE, "probe done").orTimeout(2, TimeUnit.SECONDS)
+                        .exceptionally(e -> null));
+            }
+        }
+        CompletableFuture.allOf(closing.toArray(CompletableFuture[]::new)).join();
+        subscribers.forEach(s -> {
+            if (s.ws != null) {
+                s.ws.abort();
+            }
+        });
+
+        return new FanOutReport(plan, connected.sum(), connectFailures.sum(), connect.copy(), delivery.copy(),
+                received.sum(), receivedInHold, dropped.sum(), missedWhileAway.sum(), disconnects.sum(),
+                reconnects.sum(), unreadable.sum(), rampEnd - start, end - rampEnd);
+    }
+
+    private static void sleepUntil(long deadline) {
+        long wait = deadline - System.nanoTime();
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static long nowMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000 + now.getNano() / 1_000;
+    }
+
+    /**
+     * One subscriber: its socket, last seq seen and a buffer for fragmented messages.
+     * Connects, reconnects and listener callbacks run on different threads, so
+     * the shared state is volatile / atomic; `partial` is only touched by onText,
+     * which the client calls one message part at a time
+     */
+    private final class Subscriber implements WebSocket.Listener {
+
+        private final HttpClient client;
+        private final String token;
+        private final StringBuilder partial = new StringBuilder();
+        private final AtomicBoolean everConnected = new AtomicBoolean();
+        private volatile WebSocket ws;
+        private volatile long lastSeq = -1;
+        private volatile boolean away;
+
+        private Subscriber(HttpClient client, String token) {
+            this.client = client;
+            this.token = token;
+        }
+
+        private void connect() {
+            long begin = System.nanoTime();
+            try {
+                ws = client.newWebSocketBuilder()
+                        .header("Authorization", "Bearer " + token)
+                        .connectTimeout(plan.connectTimeout())
+                        .buildAsync(plan.url(), this)
+                        .get();
+                connect.recordValue(Math.min(MAX_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin))));
+                if (everConnected.compareAndSet(false, true)) {
+                    connected.increment();
+                }
+            } catch (ExecutionException e) {
+                connectFailures.increment();
+                if (connectFailures.sum() <= 5) {
+                    System.err.println("⚠️ WebSocket connect to " + plan.url() + " failed: " + e.getCause());
+                }
+                reconnectLater();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void reconnectLater() {
+            if (running && plan.reconnect()) {
+                Thread.ofVirtual().start(() -> {
+                    sleepUntil(System.nanoTime() + plan.reconnectDelay().toNanos());
+                    if (running) {
+                        reconnects.increment();
+                        connect();
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void onOpen(WebSocket webSocket) {
+            webSocket.request(1);
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            if (!last) {
+                partial.append(data);
+            } else {
+                String text = partial.isEmpty() ? data.toString() : partial.append(data).toString();
+                partial.setLength(0);
+                handle(text);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        private void handle(String text) {
+            long at = nowMicros();
+            long seq;
+            long publishedAt;
+            try {
+                JsonFields.Values values = MESSAGE.extract(text.getBytes(StandardCharsets.UTF_8));
+                seq = values.longValue("seq", -1);
+                publishedAt = values.longValue("publishedAtMicros", -1);
+            } catch (IOException e) {
+                unreadable.increment();
+                return;
+            }
+            received.increment();
+            if (publishedAt > 0 && holding) {
+                delivery.recordValue(Math.min(MAX_MICROS, Math.max(1, at - publishedAt)));
+            }
+            if (seq < 0) {
+                return;
+            }
+            if (lastSeq >= 0 && seq > lastSeq + 1) {
+                (away ? missedWhileAway : dropped).add(seq - lastSeq - 1);
+            }
+            lastSeq = Math.max(lastSeq, seq);
+            away = false;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            lost();
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            lost();
+        }
+
+        /** The server (or the network) ended the connection while the probe was still running */
+        private void lost() {
+            if (running) {
+                disconnects.increment();
+                away = true;
+                reconnectLater();
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.Pages.Realtime;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 🧾 Result of one WebSocket fan-out run
+ * --------------------------------------
+ * - Connections: connected / failed, connect time percentiles
+ * - Delivery: messages received, fan-out throughput during the hold window,
+ *   publish → receive latency (p50 / p90 / p99 / p99.9 / max)
+ * - Health: dropped (seq gaps while connected), missed while reconnecting,
+ *   unexpected disconnects, reconnects, unreadable messages
+ */
+public final class FanOutReport {
+
+    private final FanOutPlan plan;
+    private final long connected;
+    private final long connectFailures;
+    private final Histogram connect;
+    private final Histogram delivery;
+    private final long received;
+    private final long receivedInHold;
+    private final long dropped;
+    private final long missedWhileAway;
+    private final long disconnects;
+    private final long reconnects;
+    private final long unreadable;
+    private final long rampNanos;
+    private final long holdNanos;
+
+    FanOutReport(FanOutPlan plan, long connected, long connectFailures, Histogram connect, Histogram delivery,
+                 long received, long receivedInHold, long dropped, long missedWhileAway, long disconnects,
+                 long reconnects, long unreadable, long rampNanos, long holdNanos) {
+        this.plan = plan;
+        this.connected = connected;
+        this.connectFailures = connectFailures;
+        this.connect = connect;
+        this.delivery = delivery;
+        this.received = received;
+        this.receivedInHold = receivedInHold;
+        this.dropped = dropped;
+        this.missedWhileAway = missedWhileAway;
+        this.disconnects = disconnects;
+        this.reconnects = reconnects;
+        this.unreadable = unreadable;
+        this.rampNanos = rampNanos;
+        this.holdNanos = holdNanos;
+    }
+
+    public long connected() {
+        return connected;
+    }
+
+    public long connectFailures() {
+        return connectFailures;
+    }
+
+    public long received() {
+        return received;
+    }
+
+    public long dropped() {
+        return dropped;
+    }
+
+    public long disconnects() {
+        return disconnects;
+    }
+
+    public long reconnects() {
+        return reconnects;
+    }
+
+    /** 📨 Messages delivered per second across all subscribers while everyone was connected */
+    public double throughput() {
+        return holdNanos == 0 ? 0 : receivedInHold / (holdNanos / 1e9);
+    }
+
+    /** 📬 Share of the messages subscribers should have seen that arrived (drops and missed-while-away count against it) */
+    public double deliveryRatio() {
+        long expected = received + dropped + missedWhileAway;
+        return expected == 0 ? 0 : (double) received / expected;
+    }
+
+    /** ⏱️ Publish → receive latency at `percentile`, in milliseconds */
+    public double deliveryMillis(double percentile) {
+        return delivery.getTotalCount() == 0 ? 0 : delivery.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /** 🔌 Connect (handshake) time at `percentile`, in milliseconds */
+    public double connectMillis(double percentile) {
+        return connect.getTotalCount() == 0 ? 0 : connect.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("📡 WebSocket fan-out: %s%n", plan));
+        sb.append(String.format("   connected %d / %d in %.1fs, %d connect failures, connect p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                connected, plan.subscribers(), rampNanos / 1e9, connectFailures, connectMillis(50), connectMillis(99),
+                connect.getMaxValue() / 1000.0));
+        sb.append(String.format("   received %d, fan-out throughput %.1f msg/s over %.1fs, delivery ratio %.4f%n",
+                received, throughput(), holdNanos / 1e9, deliveryRatio()));
+        sb.append(String.format("   %-10s %9s %9s %9s %9s %9s%n", "", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        sb.append(String.format("   %-10s %9.2f %9.2f %9.2f %9.2f %9.2f%n", "delivery",
+                deliveryMillis(50), deliveryMillis(90), deliveryMillis(99), deliveryMillis(99.9),
+                delivery.getMaxValue() / 1000.0));
+        sb.append(String.format("   dropped %d, missed while reconnecting %d, disconnects %d, reconnects %d, unreadable %d",
+                dropped, missedWhileAway, disconnects, reconnects, unreadable));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package org.Pages.Realtime;
+
+import org.Pages.Auth.Credentials;
+import org.Pages.Auth.SessionManager;
+import org.Pages.Http.Endpoint;
+import org.Pages.Http.Hosts;
+
+/**
+ * 📡 WebSocket fan-out entry point
+ * --------------------------------
+ * Holds many subscribers on the customers real-time channel and reports
+ * connect time, delivery latency, fan-out throughput and drops:
+ *
+ *   mvn compile exec:java -Dexec.mainClass=org.Pages.Realtime.WebSocketLoad \
+ *       -Dinvoo.profile=stub -Dinvoo.ws.subscribers=5000 -Dinvoo.ws.hold=30s
+ *
+ * See FanOutPlan for all options. Under the stub profile the WebSocketStub
+ * stand-in is started in-process (-Dinvoo.stub.ws.rate / .queue / .disconnectRate).
+ * Credentials: -Dinvoo.ws.username / -Dinvoo.ws.password (default sa / 123456).
+ * Exits 1 when a subscriber never connected or messages were dropped.
+ */
+public final class WebSocketLoad {
+
+    private WebSocketLoad() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Hosts.startWebSocketStub();
+        FanOutPlan plan = FanOutPlan.fromProperties();
+        Credentials credentials = new Credentials(Endpoint.LOGIN.url(),
+                System.getProperty("invoo.ws.username", "sa"),
+                System.getProperty("invoo.ws.password", "123456"));
+
+        FanOutReport report = new FanOutProbe(plan).run(() -> SessionManager.shared().token(credentials));
+        System.out.println(report);
+        System.exit(report.connected() < plan.subscribers() || report.dropped() > 0 ? 1 : 0);
+    }
+}
@@ -0,0 +1,130 @@
+package org.Pages.Regression;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+
+/**
+ * 📐 Mann-Whitney U test between a current run and its baseline
+ * -------------------------------------------------------------
+ * - Non-parametric: compares ranks, so a long tail or a bimodal endpoint
+ *   doesn't break it the way a t-test on means would
+ * - Works on HdrHistogram buckets directly (ties are whole buckets), so
+ *   millions of samples cost one pass over the recorded values
+ * - a12 (Vargha-Delaney) = P(current &gt; baseline) + ½·P(tie): 0.5 is no
+ *   difference, 0.64 a medium and 0.71 a large slowdown
+ * - One-sided p-values come from the tie-corrected normal approximation with
+ *   continuity correction; with a single current value (one test run) the
+ *   exact permutation p = (#baseline ≥ current + 1) / (n2 + 1) is used instead
+ */
+public final class MannWhitney {
+
+    private MannWhitney() {
+    }
+
+    /** n1 / n2 sample sizes, a12 effect size, one-sided p for "current slower" and "current faster" */
+    public record Result(long n1, long n2, double a12, double pSlower, double pFaster) {
+    }
+
+    /** 📊 Current vs baseline latency histograms (same unit, same precision) */
+    public static Result compare(Histogram current, Histogram baseline) {
+        TreeMap<Long, long[]> counts = new TreeMap<>();
+        for (HistogramIterationValue v : current.recordedValues()) {
+            counts.computeIfAbsent(v.getValueIteratedTo(), k -> new long[2])[0] += v.getCountAtValueIteratedTo();
+        }
+        for (HistogramIterationValue v : baseline.recordedValues()) {
+            counts.computeIfAbsent(v.getValueIteratedTo(), k -> new long[2])[1] += v.getCountAtValueIteratedTo();
+        }
+        return rank(counts);
+    }
+
+    /** 📊 Current vs baseline plain samples (e.g. test durations of past runs) */
+    public static Result compare(double[] current, double[] baseline) {
+        TreeMap<Double, long[]> counts = new TreeMap<>();
+        for (double v : current) {
+            counts.computeIfAbsent(v, k -> new long[2])[0]++;
+        }
+        for (double v : baseline) {
+            counts.computeIfAbsent(v, k -> new long[2])[1]++;
+        }
+        return rank(counts);
+    }
+
+    /** Median of plain samples */
+    public static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int n = sorted.length;
+        return n == 0 ? Double.NaN : n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2;
+    }
+
+    /** Ranks the pooled distinct values in order; each entry is {current count, baseline count} */
+    private static Result rank(TreeMap<?, long[]> counts) {
+        long n1 = 0;
+        long n2 = 0;
+        for (long[] c : counts.values()) {
+            n1 += c[0];
+            n2 += c[1];
+        }
+        if (n1 == 0 || n2 == 0) {
+            return new Result(n1, n2, 0.5, 1, 1);
+        }
+
+        double rankSum = 0;   // of the current sample
+        double tieTerm = 0;   // Σ (t³ - t) over tied groups
+        long below = 0;       // values ranked so far
+        long baselineBelow = 0;
+        long baselineAtOrAbove = n2;
+        long firstCurrentBaselineBelow = -1;
+        long firstCurrentBaselineAtOrAbove = -1;
+        for (long[] c : counts.values()) {
+            long t = c[0] + c[1];
+            rankSum += c[0] * (below + (t + 1) / 2.0);
+            tieTerm += (double) t * t * t - t;
+            if (c[0] > 0 && firstCurrentBaselineBelow < 0) {
+                firstCurrentBaselineAtOrAbove = baselineAtOrAbove;
+                firstCurrentBaselineBelow = baselineBelow + c[1];
+            }
+            below += t;
+            baselineBelow += c[1];
+            baselineAtOrAbove -= c[1];
+        }
+        double u = rankSum - n1 * (n1 + 1) / 2.0;
+        double a12 = u / ((double) n1 * n2);
+
+        if (n1 == 1) {
+            // exact: under H0 the single current value is equally likely to take any of n2 + 1 ranks
+            double pSlower = (firstCurrentBaselineAtOrAbove + 1.0) / (n2 + 1.0);
+            double pFaster = (firstCurrentBaselineBelow + 1.0) / (n2 + 1.0);
+            return new Result(n1, n2, a12, Math.min(1, pSlower), Math.min(1, pFaster));
+        }
+
+        double n = n1 + n2;
+        double mean = n1 * (double) n2 / 2;
+        double variance = n1 * (double) n2 / 12 * ((n + 1) - tieTerm / (n * (n - 1)));
+        if (variance <= 0) {
+            return new Result(n1, n2, a12, 1, 1);
+        }
+        double sd = Math.sqrt(variance);
+        double zSlower = (u - mean - 0.5) / sd;
+        double zFaster = (mean - u - 0.5) / sd;
+        return new Result(n1, n2, a12, upperTail(zSlower), upperTail(zFaster));
+    }
+
+    /** P(Z &gt; z) for a standard normal */
+    static double upperTail(double z) {
+        return 0.5 * erfc(z / Math.sqrt(2));
+    }
+
+    /** Complementary error function, Chebyshev fit (fractional error below 1.2e-7) */
+    private static double erfc(double x) {
+        double z = Math.abs(x);
+        double t = 1 / (1 + 0.5 * z);
+        double r = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? r : 2 - r;
+    }
+}
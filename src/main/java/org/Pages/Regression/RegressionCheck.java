@@ -0,0 +1,298 @@
+package org.Pages.Regression;
+
+import org.HdrHistogram.Histogram;
+import org.Pages.Metrics.LatencyLogMerge;
+import org.Pages.Metrics.LatencyRecorder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 📉 Latency regression check against previous runs
+ * -------------------------------------------------
+ *   mvn verify -Pstub,regression            (or exec:java -Dexec.mainClass=org.Pages.Regression.RegressionCheck)
+ *
+ * - Latency: the newest .invoo/latency/latency-{run}-*.hlog is compared, per
+ *   endpoint, with the previous -Dinvoo.regression.baselineRuns logs (default 10)
+ *   of the same run kind, pooled; logs beyond -Dinvoo.regression.keepRuns (50)
+ *   per run kind are deleted. The "... CACHED" series are left out: how fast
+ *   a replay was depends on the hit rate, not on the backend
+ * - Tests: target/surefire-reports is compared, per test, with the archived
+ *   reports of earlier runs of the same profile; the current reports are then
+ *   archived under .invoo/history/surefire/{profile}/{time} (last 50 kept)
+ * - Baselines live under .invoo/, not target/, so mvn clean keeps them
+ * - SLOWER needs all three: Mann-Whitney one-sided p below
+ *   -Dinvoo.regression.alpha (0.01; tests -Dinvoo.regression.testAlpha, 0.1),
+ *   effect size a12 of at least -Dinvoo.regression.minEffect (0.64) and a p50
+ *   at least -Dinvoo.regression.minDelta ms (20) worse
+ * - A test has one duration per run, so its smallest possible p is
+ *   1 / (baseline runs + 1): keep baselineRuns ≥ 10 for testAlpha 0.1
+ * - -Dinvoo.regression.mode=fail throws on any SLOWER endpoint (default warn),
+ *   which exec:java turns into a BUILD FAILURE without killing the Maven JVM;
+ *   the table also goes to target/regression-report.txt
+ */
+public final class RegressionCheck {
+
+    private static final Pattern LOG_NAME = Pattern.compile("latency-(.+)-(\\d{8}-\\d{6})-(\\d+)\\.hlog");
+
+    public enum Verdict { SLOWER, FASTER, UNCHANGED, INSUFFICIENT }
+
+    /** One compared endpoint or test; times in ms */
+    public record Row(String source, String name, long n, long baselineN, double p50, double baselineP50,
+                      MannWhitney.Result test, Verdict verdict) {
+    }
+
+    private final Path latencyDir;
+    private final Path reportsDir;
+    private final Path historyDir;
+    private final int baselineRuns;
+    private final int keepRuns;
+    private final double alpha;
+    private final double testAlpha;
+    private final double minEffect;
+    private final double minDeltaMs;
+    private final int minSamples;
+    private final int minRuns;
+
+    RegressionCheck(Path latencyDir, Path reportsDir, Path historyDir, int baselineRuns, int keepRuns,
+                    double alpha, double testAlpha, double minEffect, double minDeltaMs, int minSamples, int minRuns) {
+        this.latencyDir = latencyDir;
+        this.reportsDir = reportsDir;
+        this.historyDir = historyDir;
+        this.baselineRuns = baselineRuns;
+        this.keepRuns = keepRuns;
+        this.alpha = alpha;
+        this.testAlpha = testAlpha;
+        this.minEffect = minEffect;
+        this.minDeltaMs = minDeltaMs;
+        this.minSamples = minSamples;
+        this.minRuns = minRuns;
+    }
+
+    static RegressionCheck fromProperties() {
+        String latency = System.getProperty("invoo.latency.logDir", LatencyRecorder.DEFAULT_LOG_DIR);
+        return new RegressionCheck(
+                Paths.get("none".equalsIgnoreCase(latency) ? LatencyRecorder.DEFAULT_LOG_DIR : latency),
+                Paths.get(System.getProperty("invoo.regression.reportsDir", "target/surefire-reports")),
+                Paths.get(System.getProperty("invoo.regression.historyDir", ".invoo/history/surefire")),
+                Integer.getInteger("invoo.regression.baselineRuns", 10),
+                Integer.getInteger("invoo.regression.keepRuns", 50),
+                Double.parseDouble(System.getProperty("invoo.regression.alpha", "0.01")),
+                Double.parseDouble(System.getProperty("invoo.regression.testAlpha", "0.1")),
+                Double.parseDouble(System.getProperty("invoo.regression.minEffect", "0.64")),
+                Double.parseDouble(System.getProperty("invoo.regression.minDelta", "20")),
+                Integer.getInteger("invoo.regression.minSamples", 20),
+                Integer.getInteger("invoo.regression.minRuns", 5));
+    }
+
+    public static void main(String[] args) throws IOException {
+        RegressionCheck check = fromProperties();
+        List<Row> rows = new ArrayList<>();
+        String latencyTitle = check.latency(rows);
+        String testsTitle = check.tests(rows);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(latencyTitle).append(System.lineSeparator()).append(testsTitle);
+        if (!rows.isEmpty()) {
+            sb.append(System.lineSeparator()).append(table(rows));
+        }
+        String report = sb.toString();
+        System.out.println(report);
+        Path out = Paths.get(System.getProperty("invoo.regression.report", "target/regression-report.txt"));
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        Files.writeString(out, report + System.lineSeparator());
+        System.out.println("✅ Regression report written to " + out.toAbsolutePath());
+
+        long slower = rows.stream().filter(r -> r.verdict == Verdict.SLOWER).count();
+        if (slower > 0) {
+            String message = "⚠️ " + slower + " endpoint(s)/test(s) significantly slower than their baseline";
+            if ("fail".equalsIgnoreCase(System.getProperty("invoo.regression.mode", "warn"))) {
+                // exec:java runs in Maven's JVM: an exception fails the build, System.exit would kill Maven
+                throw new IllegalStateException(message.replace("⚠️", "❌") + " (see " + out.toAbsolutePath() + ")");
+            }
+            System.out.println(message);
+        }
+    }
+
+    /** ⏱️ Newest latency log vs the previous ones of the same run kind */
+    String latency(List<Row> rows) throws IOException {
+        if (!Files.isDirectory(latencyDir)) {
+            return "⚠️ Latency: no logs in " + latencyDir;
+        }
+        List<Matcher> logs = new ArrayList<>();
+        try (Stream<Path> list = Files.list(latencyDir)) {
+            list.map(p -> LOG_NAME.matcher(p.getFileName().toString())).filter(Matcher::matches).forEach(logs::add);
+        }
+        if (logs.isEmpty()) {
+            return "⚠️ Latency: no latency-{run}-*.hlog in " + latencyDir;
+        }
+        // newest first: by timestamp in the name, then pid
+        logs.sort(Comparator.comparing((Matcher m) -> m.group(2))
+                .thenComparingLong(m -> Long.parseLong(m.group(3))).reversed());
+        Matcher current = logs.get(0);
+        String run = current.group(1);
+        pruneLogs(logs.stream().filter(m -> m.group(1).equals(run)).skip(Math.max(keepRuns, baselineRuns + 1))
+                .toList());
+        List<Path> baseline = logs.stream().skip(1).filter(m -> m.group(1).equals(run)).limit(baselineRuns)
+                .map(m -> latencyDir.resolve(m.group())).toList();
+        String title = String.format("⏱️ Latency [%s]: %s vs %d earlier log(s)", run, current.group(), baseline.size());
+        if (baseline.isEmpty()) {
+            return title + " — nothing to compare yet";
+        }
+
+        Map<String, Histogram> now = LatencyLogMerge.merge(List.of(latencyDir.resolve(current.group())));
+        Map<String, Histogram> before = LatencyLogMerge.merge(baseline);
+        for (Map.Entry<String, Histogram> e : now.entrySet()) {
+            if (e.getKey().endsWith(LatencyRecorder.CACHED)) {
+                continue;
+            }
+            Histogram cur = e.getValue();
+            Histogram base = before.get(e.getKey());
+            double p50 = cur.getValueAtPercentile(50) / 1000.0;
+            if (base == null || cur.getTotalCount() < minSamples || base.getTotalCount() < minSamples) {
+                rows.add(new Row("latency", e.getKey(), cur.getTotalCount(), base == null ? 0 : base.getTotalCount(),
+                        p50, base == null ? Double.NaN : base.getValueAtPercentile(50) / 1000.0, null,
+                        Verdict.INSUFFICIENT));
+                continue;
+            }
+            double baseP50 = base.getValueAtPercentile(50) / 1000.0;
+            MannWhitney.Result test = MannWhitney.compare(cur, base);
+            rows.add(new Row("latency", e.getKey(), test.n1(), test.n2(), p50, baseP50, test,
+                    verdict(test, p50 - baseP50, alpha)));
+        }
+        return title;
+    }
+
+    /** 🧾 Current surefire reports vs the archived ones of the same profile, then archive them */
+    String tests(List<Row> rows) throws IOException {
+        SurefireTimings current = SurefireTimings.read(reportsDir);
+        if (current == null) {
+            return "⚠️ Tests: no TEST-*.xml in " + reportsDir;
+        }
+        Path profileDir = historyDir.resolve(current.profile());
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(current.finishedAt().toMillis()));
+        List<Path> archived = runs(profileDir);
+        List<SurefireTimings> baseline = new ArrayList<>();
+        for (Path dir : archived) {
+            if (baseline.size() == baselineRuns) {
+                break;
+            }
+            if (!dir.getFileName().toString().equals(stamp)) {
+                SurefireTimings past = SurefireTimings.read(dir);
+                if (past != null) {
+                    baseline.add(past);
+                }
+            }
+        }
+
+        for (Map.Entry<String, Double> e : current.seconds().entrySet()) {
+            double[] past = baseline.stream().map(b -> b.seconds().get(e.getKey())).filter(s -> s != null)
+                    .mapToDouble(s -> s * 1000).toArray();
+            double ms = e.getValue() * 1000;
+            if (past.length < minRuns) {
+                rows.add(new Row("test", e.getKey(), 1, past.length, ms, MannWhitney.median(past), null,
+                        Verdict.INSUFFICIENT));
+                continue;
+            }
+            double baseMs = MannWhitney.median(past);
+            MannWhitney.Result test = MannWhitney.compare(new double[]{ms}, past);
+            rows.add(new Row("test", e.getKey(), 1, past.length, ms, baseMs, test, verdict(test, ms - baseMs, testAlpha)));
+        }
+
+        archive(profileDir.resolve(stamp));
+        prune(profileDir);
+        return String.format("🧾 Tests [%s]: %d passing test(s) vs %d archived run(s)",
+                current.profile(), current.seconds().size(), baseline.size());
+    }
+
+    Verdict verdict(MannWhitney.Result test, double deltaMs, double alpha) {
+        if (test.pSlower() < alpha && test.a12() >= minEffect && deltaMs >= minDeltaMs) {
+            return Verdict.SLOWER;
+        }
+        if (test.pFaster() < alpha && test.a12() <= 1 - minEffect && -deltaMs >= minDeltaMs) {
+            return Verdict.FASTER;
+        }
+        return Verdict.UNCHANGED;
+    }
+
+    /** Archived runs of one profile, newest first */
+    private static List<Path> runs(Path profileDir) throws IOException {
+        if (!Files.isDirectory(profileDir)) {
+            return List.of();
+        }
+        try (Stream<Path> list = Files.list(profileDir)) {
+            return list.filter(Files::isDirectory).sorted(Comparator.reverseOrder()).toList();
+        }
+    }
+
+    private void archive(Path target) throws IOException {
+        if (Files.isDirectory(target)) {
+            return;
+        }
+        Files.createDirectories(target);
+        try (Stream<Path> list = Files.list(reportsDir)) {
+            for (Path file : list.filter(SurefireTimings::isReport).toList()) {
+                Files.copy(file, target.resolve(file.getFileName()), StandardCopyOption.COPY_ATTRIBUTES);
+            }
+        }
+    }
+
+    private void prune(Path profileDir) throws IOException {
+        List<Path> all = runs(profileDir);
+        for (Path old : all.subList(Math.min(keepRuns, all.size()), all.size())) {
+            try (Stream<Path> files = Files.list(old)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(old);
+        }
+    }
+
+    /** Deletes latency logs past keepRuns of one run kind */
+    private void pruneLogs(List<Matcher> old) throws IOException {
+        for (Matcher m : old) {
+            Files.deleteIfExists(latencyDir.resolve(m.group()));
+        }
+    }
+
+    /** 📋 One line per endpoint / test, regressions first */
+    static String table(List<Row> rows) {
+        List<Row> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(Row::verdict).thenComparing(Row::source).thenComparing(Row::name));
+        int width = Math.max(8, sorted.stream().mapToInt(r -> r.name.length()).max().orElse(0));
+        StringBuilder sb = new StringBuilder("📉 Regression check (ms)");
+        sb.append(String.format("%n   %-7s %-" + width + "s %8s %8s %9s %9s %8s %6s %8s  %s",
+                "Source", "Name", "n", "base n", "p50", "base p50", "Δp50", "a12", "p", "Verdict"));
+        for (Row r : sorted) {
+            String mark = switch (r.verdict) {
+                case SLOWER -> "❌ ";
+                case FASTER -> "✅ ";
+                case UNCHANGED -> "";
+                case INSUFFICIENT -> "⚠️ ";
+            };
+            double p = r.test == null ? Double.NaN
+                    : r.test.a12() >= 0.5 ? r.test.pSlower() : r.test.pFaster();
+            sb.append(String.format("%n   %-7s %-" + width + "s %8d %8d %9.1f %9s %8s %6s %8s  %s%s",
+                    r.source, r.name, r.n, r.baselineN, r.p50,
+                    Double.isNaN(r.baselineP50) ? "-" : String.format("%.1f", r.baselineP50),
+                    Double.isNaN(r.baselineP50) ? "-" : String.format("%+.1f", r.p50 - r.baselineP50),
+                    r.test == null ? "-" : String.format("%.2f", r.test.a12()),
+                    Double.isNaN(p) ? "-" : String.format("%.4f", p),
+                    mark, r.verdict));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,120 @@
+package org.Pages.Regression;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 🧾 Test durations of one run, from surefire's TEST-*.xml files
+ * --------------------------------------------------------------
+ * - Key is "class.method" (parameterized cases keep their [index])
+ * - Only passing test cases count: a failure's time says nothing about latency
+ * - The directory is read as a whole; when a test appears in several reports
+ *   the most recently written one wins
+ * - The profile comes from the invoo.profile property surefire recorded,
+ *   so stub and live runs are never compared with each other
+ */
+public record SurefireTimings(String profile, FileTime finishedAt, Map<String, Double> seconds) {
+
+    /** 🧾 Reads every TEST-*.xml in `dir`; null when there is none */
+    public static SurefireTimings read(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return null;
+        }
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            // oldest first: surefire never clears the directory, so a test also found in a
+            // stale report (e.g. an earlier -Pparallel run) takes its newest time
+            files = list.filter(SurefireTimings::isReport)
+                    .sorted(Comparator.comparing(SurefireTimings::modified)).toList();
+        }
+        if (files.isEmpty()) {
+            return null;
+        }
+        String profile = "live";
+        FileTime finishedAt = FileTime.fromMillis(0);
+        Map<String, Double> seconds = new TreeMap<>();
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        for (Path file : files) {
+            FileTime modified = modified(file);
+            if (modified.compareTo(finishedAt) > 0) {
+                finishedAt = modified;
+            }
+            try (InputStream in = Files.newInputStream(file)) {
+                String found = parse(factory.createXMLStreamReader(in), seconds);
+                if (found != null) {
+                    profile = found;
+                }
+            } catch (XMLStreamException e) {
+                throw new IOException("❌ Unreadable surefire report " + file + ": " + e.getMessage(), e);
+            }
+        }
+        return new SurefireTimings(profile, finishedAt, seconds);
+    }
+
+    private static FileTime modified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static boolean isReport(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith("TEST-") && name.endsWith(".xml");
+    }
+
+    /** Adds the passing test cases to `seconds`; returns the recorded invoo.profile, if any */
+    private static String parse(XMLStreamReader xml, Map<String, Double> seconds) throws XMLStreamException {
+        String profile = null;
+        String key = null;
+        double time = 0;
+        boolean passed = false;
+        try {
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamReader.START_ELEMENT) {
+                    switch (xml.getLocalName()) {
+                        case "property" -> {
+                            if ("invoo.profile".equals(xml.getAttributeValue(null, "name"))) {
+                                String value = xml.getAttributeValue(null, "value");
+                                profile = value == null || value.isBlank() ? null : value.trim();
+                            }
+                        }
+                        case "testcase" -> {
+                            key = xml.getAttributeValue(null, "classname") + "." + xml.getAttributeValue(null, "name");
+                            String t = xml.getAttributeValue(null, "time");
+                            time = t == null ? Double.NaN : Double.parseDouble(t.replace(",", ""));
+                            passed = true;
+                        }
+                        case "failure", "error", "skipped", "flakyFailure", "flakyError" -> passed = false;
+                        default -> {
+                        }
+                    }
+                } else if (event == XMLStreamReader.END_ELEMENT && "testcase".equals(xml.getLocalName())) {
+                    if (passed && !Double.isNaN(time)) {
+                        seconds.put(key, time);
+                    }
+                    key = null;
+                }
+            }
+        } finally {
+            xml.close();
+        }
+        return profile;
+    }
+}
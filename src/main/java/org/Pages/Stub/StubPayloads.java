@@ -0,0 +1,280 @@
+package org.Pages.Stub;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 🧱 Deterministic JSON payloads for the stub backend
+ * ----------------------------------------------------
+ * - Shapes follow what the dashboard API returns (pages with content /
+ *   totalElements / totalPages, analytics objects, locale key maps)
+ * - Sizes are configurable:
+ *     -Dinvoo.stub.items=20          list / series length
+ *     -Dinvoo.stub.totalElements=250 rows behind every paged endpoint
+ *     -Dinvoo.stub.localeKeys=500    keys in locale / translation files
+ * - Values are derived from the row index, so the same request always
+ *   returns the same bytes
+ */
+final class StubPayloads {
+
+    private static final String[] CURRENCIES = {"EUR", "USD", "GBP", "TRY", "AZN", "GEL"};
+    private static final String[] PROVIDERS = {"Stripe", "Adyen", "Checkout", "PayPal", "Paysafe"};
+    private static final String[] STATUSES = {"SUCCESS", "FAILED", "PENDING", "REFUNDED"};
+    private static final String[] RISK_LEVELS = {"LOW", "MEDIUM", "HIGH", "CRITICAL"};
+    private static final String[] COUNTRIES = {"DE", "NL", "GB", "TR", "AZ", "GE", "US"};
+    private static final Instant EPOCH = Instant.parse("2025-10-01T00:00:00Z");
+
+    private final int items;
+    private final int totalElements;
+    private final int localeKeys;
+    private final long tokenTtlSeconds;
+
+    StubPayloads() {
+        this(Integer.getInteger("invoo.stub.items", 20),
+                Integer.getInteger("invoo.stub.totalElements", 250),
+                Integer.getInteger("invoo.stub.localeKeys", 500),
+                Long.getLong("invoo.stub.tokenTtlSeconds", 86_400));
+    }
+
+    StubPayloads(int items, int totalElements, int localeKeys, long tokenTtlSeconds) {
+        this.items = items;
+        this.totalElements = totalElements;
+        this.localeKeys = localeKeys;
+        this.tokenTtlSeconds = tokenTtlSeconds;
+    }
+
+    // === 🔐 Auth ===
+
+    /** Unsigned-but-well-formed JWT with sub / exp / merchant_id claims */
+    String login(String username, long merchantId) {
+        long now = System.currentTimeMillis() / 1000;
+        String header = base64Url("{\"alg\":\"HS512\"}");
+        String claims = base64Url("{\"sub\":\"" + username + "\",\"iat\":" + now + ",\"exp\":" + (now + tokenTtlSeconds)
+                + ",\"type\":\"user\",\"authorities\":\"ADMIN,ROLE_USER\",\"merchant_id\":" + merchantId + "}");
+        String token = header + "." + claims + "." + base64Url("stub-signature-" + now);
+        return "{\"token\":\"" + token + "\",\"type\":\"Bearer\",\"username\":\"" + username
+                + "\",\"merchantId\":" + merchantId + ",\"expiresIn\":" + tokenTtlSeconds + "}";
+    }
+
+    // === 📊 Analytics ===
+
+    String statusCounts() {
+        return "{\"total\":" + totalElements + ",\"success\":" + (totalElements * 6 / 10)
+                + ",\"failed\":" + (totalElements / 5) + ",\"pending\":" + (totalElements / 10)
+                + ",\"refunded\":" + (totalElements / 10) + "}";
+    }
+
+    String currencies() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < CURRENCIES.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"currency\":\"").append(CURRENCIES[i]).append("\",\"count\":").append(40 + i * 17)
+                    .append(",\"amount\":").append(amount(i * 31L)).append('}');
+        }
+        return sb.append(']').toString();
+    }
+
+    String uniqueCustomers() {
+        return "{\"uniqueCustomers\":" + totalElements + ",\"newCustomers\":" + (totalElements / 4)
+                + ",\"returningCustomers\":" + (totalElements - totalElements / 4) + "}";
+    }
+
+    String summary() {
+        return "{\"totalVolume\":" + amount(totalElements * 97L) + ",\"totalTransactions\":" + totalElements
+                + ",\"successRate\":87.5,\"averageTicket\":" + amount(97) + ",\"currency\":\"EUR\"}";
+    }
+
+    String timeSeries(String metric) {
+        StringBuilder sb = new StringBuilder("{\"metric\":\"").append(metric == null ? "volume" : metric)
+                .append("\",\"groupBy\":\"day\",\"points\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"date\":\"").append(EPOCH.plus(i, ChronoUnit.DAYS)).append("\",\"value\":")
+                    .append(amount(i * 13L + 7)).append('}');
+        }
+        return sb.append("]}").toString();
+    }
+
+    String providers() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < PROVIDERS.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"provider\":\"").append(PROVIDERS[i]).append("\",\"transactions\":").append(100 + i * 23)
+                    .append(",\"volume\":").append(amount(i * 53L)).append(",\"successRate\":").append(80 + i * 3)
+                    .append('}');
+        }
+        return sb.append(']').toString();
+    }
+
+    // === 👥 Customers ===
+
+    String customerAnalytics() {
+        return "{\"totalCustomers\":" + totalElements + ",\"activeCustomers\":" + (totalElements * 3 / 4)
+                + ",\"highRiskCustomers\":" + (totalElements / 8) + ",\"criticalRiskCustomers\":" + (totalElements / 20)
+                + ",\"averageRevenue\":" + amount(411) + "}";
+    }
+
+    String customers(Map<String, String> query) {
+        return page(query, (sb, i) -> sb.append("{\"id\":").append(i + 1)
+                .append(",\"email\":\"customer").append(i + 1).append("@example.com\"")
+                .append(",\"fullName\":\"Customer ").append(i + 1).append('"')
+                .append(",\"country\":\"").append(COUNTRIES[i % COUNTRIES.length]).append('"')
+                .append(",\"totalRevenue\":").append(amount(i * 7L))
+                .append(",\"riskScore\":").append((i * 37) % 100)
+                .append(",\"riskLevel\":\"").append(query.getOrDefault("riskLevel", RISK_LEVELS[i % RISK_LEVELS.length])).append('"')
+                .append(",\"createdAt\":\"").append(EPOCH.minus(i, ChronoUnit.HOURS)).append("\"}"));
+    }
+
+    // === 💳 Payments ===
+
+    String transactions(Map<String, String> query, String type) {
+        return page(query, (sb, i) -> sb.append("{\"id\":\"").append(type, 0, 3).append('-').append(100000 + i).append('"')
+                .append(",\"type\":\"").append(type).append('"')
+                .append(",\"amount\":").append(amount(i * 11L))
+                .append(",\"currency\":\"").append(CURRENCIES[i % CURRENCIES.length]).append('"')
+                .append(",\"status\":\"").append(STATUSES[i % STATUSES.length]).append('"')
+                .append(",\"provider\":\"").append(PROVIDERS[i % PROVIDERS.length]).append('"')
+                .append(",\"customerEmail\":\"customer").append(i % 97 + 1).append("@example.com\"")
+                .append(",\"createdAt\":\"").append(EPOCH.minus(i * 7L, ChronoUnit.MINUTES)).append("\"}"));
+    }
+
+    String fraudAnalyses(Map<String, String> query) {
+        return page(query, (sb, i) -> sb.append("{\"id\":").append(i + 1)
+                .append(",\"visitorId\":\"v-").append(Integer.toHexString(0x1000 + i * 31)).append('"')
+                .append(",\"riskScore\":").append((i * 29) % 100)
+                .append(",\"ip\":\"10.0.").append(i % 255).append('.').append((i * 7) % 255).append('"')
+                .append(",\"decision\":\"").append(i % 5 == 0 ? "BLOCK" : "ALLOW").append('"')
+                .append(",\"createdAt\":\"").append(EPOCH.minus(i, ChronoUnit.MINUTES)).append("\"}"));
+    }
+
+    String fraudStatistics() {
+        return "{\"totalAnalyses\":" + totalElements + ",\"blocked\":" + (totalElements / 5)
+                + ",\"averageRiskScore\":41.3,\"highRiskVisitors\":" + (totalElements / 10) + "}";
+    }
+
+    // === ⚙️ Configurator / settings ===
+
+    String cashierPsps() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < PROVIDERS.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":").append(i + 1).append(",\"name\":\"").append(PROVIDERS[i])
+                    .append("\",\"active\":").append(i % 4 != 3).append(",\"priority\":").append(i + 1)
+                    .append(",\"currencies\":[\"EUR\",\"USD\"]}");
+        }
+        return sb.append(']').toString();
+    }
+
+    String paymentProviders() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < PROVIDERS.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":").append(i + 1).append(",\"code\":\"").append(PROVIDERS[i].toUpperCase())
+                    .append("\",\"name\":\"").append(PROVIDERS[i]).append("\",\"active\":true}");
+        }
+        return sb.append(']').toString();
+    }
+
+    String translationKeys(Map<String, String> query) {
+        return page(query, (sb, i) -> sb.append("{\"id\":").append(i + 1)
+                .append(",\"keyCode\":\"dashboard.key.").append(String.format("%05d", i)).append('"')
+                .append(",\"translations\":{\"en\":\"Label ").append(i).append("\",\"tr\":\"Etiket ").append(i)
+                .append("\"}}"));
+    }
+
+    String clients() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < Math.min(items, 10); i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":").append(i + 1).append(",\"clientId\":\"client-").append(1000 + i)
+                    .append("\",\"name\":\"Integration ").append(i + 1).append("\",\"active\":true}");
+        }
+        return sb.append(']').toString();
+    }
+
+    String merchant(long merchantId) {
+        return "{\"id\":" + merchantId + ",\"name\":\"Merchant " + merchantId + "\",\"status\":\"ACTIVE\","
+                + "\"defaultCurrency\":\"EUR\",\"timezone\":\"Europe/Amsterdam\"}";
+    }
+
+    String branding(long merchantId) {
+        return "{\"merchantId\":" + merchantId + ",\"primaryColor\":\"#1E90FF\",\"secondaryColor\":\"#FFFFFF\","
+                + "\"logoUrl\":\"/assets/logo-" + merchantId + ".png\",\"fontFamily\":\"Inter\"}";
+    }
+
+    String validateColors() {
+        return "{\"valid\":true,\"contrastRatio\":3.68,\"warnings\":[]}";
+    }
+
+    // === 🌍 Static assets / misc ===
+
+    String locale(String language) {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < localeKeys; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("\"dashboard.key.").append(String.format("%05d", i)).append("\":\"")
+                    .append(language).append(" label ").append(i).append('"');
+        }
+        return sb.append('}').toString();
+    }
+
+    String sockJsInfo() {
+        return "{\"entropy\":1234567890,\"origins\":[\"*:*\"],\"cookie_needed\":true,\"websocket\":true}";
+    }
+
+    String fingerprint() {
+        return "{\"v\":\"3.11.0\",\"requestId\":\"stub-request\",\"products\":{\"identification\":{\"visitorId\":\"stub\"}}}";
+    }
+
+    // === helpers ===
+
+    private interface Row {
+        void append(StringBuilder sb, int index);
+    }
+
+    /** Spring-style page: content / totalElements / totalPages / size / number */
+    private String page(Map<String, String> query, Row row) {
+        int size = clamp(parse(query.get("size"), items), 1, 1000);
+        int page = Math.max(0, parse(query.get("page"), 0));
+        int totalPages = (totalElements + size - 1) / size;
+        int from = page * size;
+        int to = Math.min(totalElements, from + size);
+
+        StringBuilder sb = new StringBuilder(64 + Math.max(0, to - from) * 180).append("{\"content\":[");
+        for (int i = from; i < to; i++) {
+            if (i > from) sb.append(',');
+            row.append(sb, i);
+        }
+        return sb.append("],\"totalElements\":").append(totalElements)
+                .append(",\"totalPages\":").append(totalPages)
+                .append(",\"size\":").append(size)
+                .append(",\"number\":").append(page)
+                .append(",\"first\":").append(page == 0)
+                .append(",\"last\":").append(page >= totalPages - 1)
+                .append('}').toString();
+    }
+
+    private static String amount(long seed) {
+        long cents = (seed * 7919 + 1234) % 500_000;
+        return (cents / 100) + "." + String.format("%02d", cents % 100);
+    }
+
+    private static int parse(String value, int fallback) {
+        try {
+            return value == null ? fallback : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static String base64Url(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
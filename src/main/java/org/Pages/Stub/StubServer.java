@@ -0,0 +1,405 @@
+package org.Pages.Stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.Pages.Auth.Jwt;
+import org.Pages.Json.JsonFields;
+import org.Pages.Metrics.Durations;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 🧪 Offline stub of the dashboard backend
+ * -----------------------------------------
+ * - Serves every endpoint the suites call (auth, analytics, customers,
+ *   transactions, fraud, configurator, merchants, locale / translation
+ *   assets, SockJS info, fingerprint) from one local port
+ * - Built on the JDK's NIO HttpServer with a virtual-thread executor and
+ *   keep-alive, so it can absorb load-test traffic from the same machine
+ * - /api/** requires "Authorization: Bearer ..." (401 otherwise), like the real API
+ * - Tenants: a login as "merchant<N>" gets a token with merchant_id N (any
+ *   other user gets 1), and /merchants/current(/branding/v2) answer for the
+ *   token's merchant; -Dinvoo.stub.slowMerchants=7,12 delays every request of
+ *   those merchants (token or /merchants/{id}/ path) by -Dinvoo.stub.slowDelay
+ * - -Dinvoo.stub.userRps=50 answers 429 once one token has made that many
+ *   calls in the current second, like a per-user throttle
+ * - -Dinvoo.stub.capacity=32 answers 429 to any request that would be the 33rd
+ *   in flight, like a backend shedding load (with slowRate=1 and a slowDelay
+ *   every request holds its slot long enough for the limit to matter)
+ * - Rendered payloads are cached per path + query, so steady-state requests
+ *   only copy bytes
+ * - /assets/** answer with ETag + "Cache-Control: no-cache" and honour
+ *   If-None-Match with 304, like the CDN in front of the web app
+ * - Optional faults on GETs, to exercise hedging / retries offline:
+ *   -Dinvoo.stub.slowRate=0.05 delays that share by -Dinvoo.stub.slowDelay
+ *   (default 500ms), -Dinvoo.stub.errorRate=0.02 answers that share with 503;
+ *   start(port, Faults) sets them per stub, e.g. for a test next to the shared one
+ *
+ * Started automatically by Hosts under -Dinvoo.profile=stub, or standalone:
+ *   java -cp target/classes org.Pages.Stub.StubServer [port]
+ */
+public final class StubServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 18080;
+
+    private static final int MAX_CACHED_PAYLOADS = 4096;
+    private static final Pattern MERCHANT_BRANDING = Pattern.compile("/api/v1/merchants/(\\d+)/branding");
+    private static final JsonFields BODY_PAGING = JsonFields.of("page", "size");
+    private static final JsonFields BODY_USERNAME = JsonFields.of("username");
+    private static final Pattern MERCHANT_USER = Pattern.compile("merchant-?(\\d+)");
+    private static final byte[] NO_BODY = new byte[0];
+    private static final String ASSET_LAST_MODIFIED = "Mon, 27 Oct 2025 10:00:00 GMT";
+    private static final long SLOW_DELAY_NANOS =
+            Durations.parse(System.getProperty("invoo.stub.slowDelay", "500ms")).toNanos();
+    private static final int USER_RPS = Integer.getInteger("invoo.stub.userRps", 0);
+    private static final int CAPACITY = Integer.getInteger("invoo.stub.capacity", 0);
+    private static final Set<Long> SLOW_MERCHANTS = merchantIds(System.getProperty("invoo.stub.slowMerchants", ""));
+
+    static {
+        // without TCP_NODELAY every keep-alive response waits ~40 ms on Nagle + delayed ACK
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    /** 🎲 Share of GETs delayed by slowDelay, then share answered with 503 (drawn independently) */
+    public record Faults(double slowRate, Duration slowDelay, double errorRate) {
+
+        /** -Dinvoo.stub.slowRate / .slowDelay / .errorRate */
+        public static Faults fromProperties() {
+            return new Faults(Double.parseDouble(System.getProperty("invoo.stub.slowRate", "0")),
+                    Duration.ofNanos(SLOW_DELAY_NANOS),
+                    Double.parseDouble(System.getProperty("invoo.stub.errorRate", "0")));
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Faults faults;
+    private final StubPayloads payloads = new StubPayloads();
+    private final Map<String, byte[]> cache = new ConcurrentHashMap<>();
+    private final Map<String, String> assetEtags = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, long[]> userWindows = new ConcurrentHashMap<>();
+
+    private StubServer(int port, Faults faults) throws IOException {
+        this.faults = faults;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 4096);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    /** ▶️ Starts a stub on the given port (0 = any free port) */
+    public static StubServer start(int port) throws IOException {
+        return start(port, Faults.fromProperties());
+    }
+
+    /** ▶️ Starts a stub with its own fault injection */
+    public static StubServer start(int port, Faults faults) throws IOException {
+        StubServer stub = new StubServer(port, faults);
+        stub.server.start();
+        System.out.println("🧪 Stub backend listening on " + stub.baseUrl());
+        return stub;
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + port();
+    }
+
+    /** 📊 Requests served since start */
+    public long requests() {
+        return requests.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // === routing ===
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        if (CAPACITY <= 0) {
+            serve(exchange);
+            return;
+        }
+        try {
+            if (inFlight.incrementAndGet() > CAPACITY) {
+                try (exchange) {
+                    send(exchange, 429, "{\"error\":\"Too Many Requests\",\"message\":\"injected by invoo.stub.capacity\"}");
+                }
+                return;
+            }
+            serve(exchange);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            URI uri = exchange.getRequestURI();
+            String path = uri.getPath();
+            byte[] body = "POST".equals(method) ? exchange.getRequestBody().readAllBytes() : NO_BODY;
+            if ("GET".equals(method) && injectFault(exchange)) {
+                return;
+            }
+
+            long merchantId = 1;
+            if (path.startsWith("/api/") && !path.equals("/api/v1/auth/login")) {
+                String auth = exchange.getRequestHeaders().getFirst("Authorization");
+                if (auth == null || !auth.startsWith("Bearer ") || auth.length() <= 7) {
+                    send(exchange, 401, "{\"error\":\"Unauthorized\",\"message\":\"Full authentication is required\"}");
+                    return;
+                }
+                merchantId = Math.max(1, Jwt.merchantId(auth.substring(7)));
+                if (USER_RPS > 0 && throttled(auth)) {
+                    send(exchange, 429, "{\"error\":\"Too Many Requests\",\"message\":\"injected by invoo.stub.userRps\"}");
+                    return;
+                }
+            }
+            if (!SLOW_MERCHANTS.isEmpty()) {
+                slowMerchant(merchantId, path);
+            }
+
+            byte[] payload;
+            try {
+                payload = route(method, path, uri.getRawQuery(), body, merchantId);
+            } catch (IOException e) {
+                send(exchange, 400, "{\"error\":\"Bad Request\",\"message\":\""
+                        + e.getMessage().replace("\\", "\\\\").replace("\"", "\\\"") + "\"}");
+                return;
+            }
+            if (payload == null) {
+                send(exchange, 404, "{\"error\":\"Not Found\",\"path\":\"" + path + "\"}");
+            } else if (path.startsWith("/assets/")) {
+                sendAsset(exchange, path, payload);
+            } else {
+                send(exchange, 200, payload);
+            }
+        }
+    }
+
+    /** 🎲 Delays and / or fails a share of GETs; true when a 503 was sent */
+    private boolean injectFault(HttpExchange exchange) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (faults.slowRate() > 0 && random.nextDouble() < faults.slowRate()) {
+            try {
+                Thread.sleep(faults.slowDelay());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (faults.errorRate() > 0 && random.nextDouble() < faults.errorRate()) {
+            send(exchange, 503, "{\"error\":\"Service Unavailable\",\"message\":\"injected by invoo.stub.errorRate\"}");
+            return true;
+        }
+        return false;
+    }
+
+    /** 🚦 Fixed one-second window per token: true once it is over -Dinvoo.stub.userRps */
+    private boolean throttled(String auth) {
+        long second = System.nanoTime() / 1_000_000_000L;
+        long[] window = userWindows.computeIfAbsent(auth, a -> new long[2]);
+        synchronized (window) {
+            if (window[0] != second) {
+                window[0] = second;
+                window[1] = 0;
+            }
+            return ++window[1] > USER_RPS;
+        }
+    }
+
+    /** 🐢 Delays requests of a -Dinvoo.stub.slowMerchants tenant, by token or by /merchants/{id}/ path */
+    private static void slowMerchant(long merchantId, String path) {
+        Matcher branding = MERCHANT_BRANDING.matcher(path);
+        long pathMerchant = branding.matches() ? Long.parseLong(branding.group(1)) : -1;
+        if (SLOW_MERCHANTS.contains(pathMerchant) || (pathMerchant < 0 && SLOW_MERCHANTS.contains(merchantId))) {
+            try {
+                Thread.sleep(Duration.ofNanos(SLOW_DELAY_NANOS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private byte[] route(String method, String path, String rawQuery, byte[] body, long merchantId) throws IOException {
+        if ("POST".equals(method)) {
+            String payload = switch (path) {
+                case "/api/v1/auth/login" -> login(body);
+                case "/api/v1/transaction/deposits" -> payloads.transactions(bodyParams(body), "DEPOSIT");
+                case "/api/v1/transaction/withdrawals" -> payloads.transactions(bodyParams(body), "WITHDRAWAL");
+                case "/api/v1/merchants/branding/validate-colors" -> payloads.validateColors();
+                default -> null;
+            };
+            return payload == null ? null : payload.getBytes(StandardCharsets.UTF_8);
+        }
+        if (!"GET".equals(method)) {
+            return null;
+        }
+
+        String key = merchantId + " " + (rawQuery == null ? path : path + "?" + rawQuery);
+        byte[] cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        String rendered = render(path, query(rawQuery), merchantId);
+        if (rendered == null) {
+            return null;
+        }
+        byte[] payload = rendered.getBytes(StandardCharsets.UTF_8);
+        if (cache.size() < MAX_CACHED_PAYLOADS) {
+            cache.put(key, payload);
+        }
+        return payload;
+    }
+
+    private String render(String path, Map<String, String> query, long merchantId) {
+        switch (path) {
+            case "/api/v1/analytics/status-counts": return payloads.statusCounts();
+            case "/api/v1/analytics/currencies/successful-transactions": return payloads.currencies();
+            case "/api/v1/analytics/customers/unique": return payloads.uniqueCustomers();
+            case "/api/v1/analytics/summary": return payloads.summary();
+            case "/api/v1/analytics/metrics/time-series": return payloads.timeSeries(query.get("metric"));
+            case "/api/v1/analytics/providers": return payloads.providers();
+            case "/api/v1/customers/analytics": return payloads.customerAnalytics();
+            case "/api/v1/customers": return payloads.customers(query);
+            case "/api/v1/fraud-analyses": return payloads.fraudAnalyses(query);
+            case "/api/v1/fraud-analyses/statistics": return payloads.fraudStatistics();
+            case "/api/v1/fraud-analyses/high-risk-visitors": return payloads.fraudAnalyses(query);
+            case "/api/v1/transaction/deposits": return payloads.transactions(query, "DEPOSIT");
+            case "/api/v1/transaction/withdrawals": return payloads.transactions(query, "WITHDRAWAL");
+            case "/api/v1/cashier-psps": return payloads.cashierPsps();
+            case "/api/v1/payment-providers": return payloads.paymentProviders();
+            case "/api/v1/translations/keys": return payloads.translationKeys(query);
+            case "/api/v1/clients": return payloads.clients();
+            case "/api/v1/merchants/current": return payloads.merchant(merchantId);
+            case "/api/v1/merchants/current/branding/v2": return payloads.branding(merchantId);
+            case "/api/ws/customers/info": return payloads.sockJsInfo();
+            case "/assets/locale/en-US.json": return payloads.locale("en-US");
+            case "/assets/translations/en.json": return payloads.locale("en");
+            default: break;
+        }
+        Matcher branding = MERCHANT_BRANDING.matcher(path);
+        if (branding.matches()) {
+            return payloads.branding(Long.parseLong(branding.group(1)));
+        }
+        if (path.startsWith("/DwmA/")) {
+            return payloads.fingerprint();
+        }
+        return null;
+    }
+
+    private String login(byte[] body) throws IOException {
+        String username = body.length == 0 ? null : BODY_USERNAME.extract(body).string("username");
+        if (username == null) {
+            username = "sa";
+        }
+        Matcher merchant = MERCHANT_USER.matcher(username);
+        return payloads.login(username, merchant.find() ? Long.parseLong(merchant.group(1)) : 1);
+    }
+
+    // === helpers ===
+
+    /** Static files carry an ETag and must be revalidated, like the CDN in front of pay-web */
+    private void sendAsset(HttpExchange exchange, String path, byte[] payload) throws IOException {
+        String etag = assetEtags.computeIfAbsent(path, p -> "\"" + Integer.toHexString(Arrays.hashCode(payload)) + "\"");
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.getResponseHeaders().set("Last-Modified", ASSET_LAST_MODIFIED);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        send(exchange, 200, payload);
+    }
+
+    private static void send(HttpExchange exchange, int status, String payload) throws IOException {
+        send(exchange, status, payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] bytes) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static Map<String, String> bodyParams(byte[] body) throws IOException {
+        Map<String, String> params = new HashMap<>();
+        if (body.length == 0) {
+            return params;
+        }
+        JsonFields.Values values = BODY_PAGING.extract(body);
+        for (String name : new String[]{"page", "size"}) {
+            if (values.string(name) != null) {
+                params.put(name, values.string(name));
+            }
+        }
+        return params;
+    }
+
+    private static Set<Long> merchantIds(String list) {
+        Set<Long> ids = new HashSet<>();
+        for (String id : list.split(",")) {
+            if (!id.isBlank()) {
+                ids.add(Long.parseLong(id.trim()));
+            }
+        }
+        return ids;
+    }
+
+    /** ▶️ Standalone stub: java org.Pages.Stub.StubServer [port] */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Integer.getInteger("invoo.stub.port", DEFAULT_PORT);
+        StubServer stub = start(port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println("🧪 Stub served " + stub.requests() + " requests");
+            stub.close();
+        }, "stub-shutdown"));
+        Thread.currentThread().join();
+    }
+}
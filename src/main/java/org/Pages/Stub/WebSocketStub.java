@@ -0,0 +1,383 @@
+package org.Pages.Stub;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 📡 Offline stand-in for the customers real-time channel
+ * -------------------------------------------------------
+ * - Plain RFC 6455 WebSocket server on /api/ws/customers/websocket (the SockJS
+ *   raw-WebSocket transport path), one virtual thread per connection to read
+ *   and one to write
+ * - Bearer token required in the handshake (401 otherwise), like the real API
+ * - Publishes a customer update every 1 / -Dinvoo.stub.ws.rate seconds
+ *   (default 20 per second) to every subscriber:
+ *   {"type":"customer.updated","seq":N,"publishedAtMicros":...,"customer":{...}}
+ *   The frame is encoded once and shared; publishedAtMicros is wall-clock time,
+ *   so delivery latency can be measured from another process on the same host
+ * - Each subscriber has a bounded send queue (-Dinvoo.stub.ws.queue, default
+ *   1024 frames): a subscriber that can't keep up loses messages, like behind a
+ *   real broker, instead of slowing everyone down
+ * - -Dinvoo.stub.ws.disconnectRate=0.01 drops a random subscriber on that share
+ *   of publishes, to exercise client reconnects
+ *
+ *   java -cp target/classes org.Pages.Stub.WebSocketStub [port]
+ */
+public final class WebSocketStub implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 18081;
+    public static final String PATH = "/api/ws/customers/websocket";
+
+    private static final String GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final byte[] CLOSE_FRAME = {(byte) 0x88, 0};
+    private static final byte[] POISON = new byte[0];
+
+    private final ServerSocket server;
+    private final double rate;
+    private final int queueFrames;
+    private final double disconnectRate;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final LongAdder connections = new LongAdder();
+    private final LongAdder disconnects = new LongAdder();
+    private final Thread acceptor;
+    private final Thread publisher;
+    private volatile boolean running = true;
+
+    private WebSocketStub(int port, double rate, int queueFrames, double disconnectRate) throws IOException {
+        this.server = new ServerSocket();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 4096);
+        this.rate = rate;
+        this.queueFrames = queueFrames;
+        this.disconnectRate = disconnectRate;
+        this.acceptor = Thread.ofVirtual().name("ws-stub-accept").unstarted(this::accept);
+        this.publisher = Thread.ofPlatform().daemon().name("ws-stub-publish").unstarted(this::publish);
+    }
+
+    /** ▶️ Starts a stand-in on the given port (0 = any free port) */
+    public static WebSocketStub start(int port) throws IOException {
+        WebSocketStub stub = new WebSocketStub(port,
+                Double.parseDouble(System.getProperty("invoo.stub.ws.rate", "20")),
+                Integer.getInteger("invoo.stub.ws.queue", 1024),
+                Double.parseDouble(System.getProperty("invoo.stub.ws.disconnectRate", "0")));
+        stub.acceptor.start();
+        stub.publisher.start();
+        System.out.println("🧪 WebSocket stand-in publishing " + stub.rate + "/s on " + stub.url());
+        return stub;
+    }
+
+    public static void main(String[] args) throws Exception {
+        WebSocketStub stub = start(args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT);
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close, "ws-stub-shutdown"));
+        Thread.currentThread().join();
+    }
+
+    public int port() {
+        return server.getLocalPort();
+    }
+
+    /** ws:// URL of the customers channel */
+    public String url() {
+        return "ws://127.0.0.1:" + port() + PATH;
+    }
+
+    /** 📊 Publish / fan-out counters */
+    @Override
+    public String toString() {
+        return String.format("WebSocket stand-in: %d published, %d frames queued to %d connections "
+                        + "(%d now open), %d lost to full queues, %d forced disconnects",
+                published.sum(), queued.sum(), connections.sum(), subscribers.size(), overflowed.sum(),
+                disconnects.sum());
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            server.close();
+        } catch (IOException ignored) {
+            // already closed
+        }
+        publisher.interrupt();
+        for (Subscriber s : subscribers) {
+            s.close();
+        }
+    }
+
+    // === connections ===
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket socket = server.accept();
+                Thread.ofVirtual().name("ws-stub-conn").start(() -> serve(socket));
+            } catch (IOException e) {
+                if (running) {
+                    System.err.println("⚠️ WebSocket stand-in accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        Subscriber subscriber = null;
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            if (!handshake(in, out)) {
+                return;
+            }
+            subscriber = new Subscriber(socket, out, queueFrames);
+            subscribers.add(subscriber);
+            connections.increment();
+            Thread.ofVirtual().name("ws-stub-write").start(subscriber::drain);
+            read(in, subscriber);
+        } catch (IOException e) {
+            // client went away
+        } finally {
+            if (subscriber != null) {
+                subscribers.remove(subscriber);
+                subscriber.close();
+            }
+        }
+    }
+
+    /** HTTP upgrade; false (after answering) when it isn't a valid, authenticated WebSocket request */
+    private static boolean handshake(InputStream in, OutputStream out) throws IOException {
+        String requestLine = line(in);
+        Map<String, String> headers = new HashMap<>();
+        for (String header = line(in); !header.isEmpty(); header = line(in)) {
+            int colon = header.indexOf(':');
+            if (colon > 0) {
+                headers.put(header.substring(0, colon).trim().toLowerCase(Locale.ROOT), header.substring(colon + 1).trim());
+            }
+        }
+        String[] parts = requestLine.split(" ");
+        String path = parts.length > 1 ? parts[1].split("\\?")[0] : "";
+        String key = headers.get("sec-websocket-key");
+        String status = null;
+        if (!PATH.equals(path)) {
+            status = "404 Not Found";
+        } else if (!"websocket".equalsIgnoreCase(headers.get("upgrade")) || key == null) {
+            status = "400 Bad Request";
+        } else if (!headers.getOrDefault("authorization", "").startsWith("Bearer ")) {
+            status = "401 Unauthorized";
+        }
+        if (status != null) {
+            out.write(("HTTP/1.1 " + status + "\r\nContent-Length: 0\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            return false;
+        }
+        out.write(("HTTP/1.1 101 Switching Protocols\r\nUpgrade: websocket\r\nConnection: Upgrade\r\n"
+                + "Sec-WebSocket-Accept: " + accept(key) + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return true;
+    }
+
+    /** Client frames: answers ping and close, ignores data */
+    private static void read(InputStream in, Subscriber subscriber) throws IOException {
+        while (true) {
+            int b0 = in.read();
+            int b1 = in.read();
+            if (b0 < 0 || b1 < 0) {
+                return;
+            }
+            int opcode = b0 & 0x0F;
+            long length = b1 & 0x7F;
+            if (length == 126) {
+                length = (in.read() << 8) | in.read();
+            } else if (length == 127) {
+                length = 0;
+                for (int i = 0; i < 8; i++) {
+                    length = (length << 8) | in.read();
+                }
+            }
+            byte[] mask = (b1 & 0x80) != 0 ? in.readNBytes(4) : null;
+            byte[] payload = in.readNBytes((int) Math.min(length, 1 << 20));
+            if (payload.length < length) {
+                throw new EOFException();
+            }
+            if (mask != null) {
+                for (int i = 0; i < payload.length; i++) {
+                    payload[i] ^= mask[i & 3];
+                }
+            }
+            if (opcode == 0x8) {
+                subscriber.offer(CLOSE_FRAME);
+                subscriber.offer(POISON);
+                return;
+            }
+            if (opcode == 0x9) {
+                subscriber.offer(frame(0xA, payload));
+            }
+        }
+    }
+
+    // === publishing ===
+
+    private void publish() {
+        long periodNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / Math.max(rate, 0.001)));
+        long next = System.nanoTime();
+        long seq = 0;
+        while (running) {
+            next += periodNanos;
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            byte[] frame = frame(0x1, message(++seq).getBytes(StandardCharsets.UTF_8));
+            published.increment();
+            for (Subscriber s : subscribers) {
+                if (s.offer(frame)) {
+                    queued.increment();
+                } else {
+                    overflowed.increment();
+                }
+            }
+            if (disconnectRate > 0 && ThreadLocalRandom.current().nextDouble() < disconnectRate) {
+                disconnectOne();
+            }
+        }
+    }
+
+    private void disconnectOne() {
+        List<Subscriber> open = new ArrayList<>(subscribers);
+        if (!open.isEmpty()) {
+            disconnects.increment();
+            open.get(ThreadLocalRandom.current().nextInt(open.size())).close();
+        }
+    }
+
+    private static String message(long seq) {
+        Instant now = Instant.now();
+        long micros = now.getEpochSecond() * 1_000_000 + now.getNano() / 1_000;
+        return "{\"type\":\"customer.updated\",\"seq\":" + seq + ",\"publishedAtMicros\":" + micros
+                + ",\"customer\":{\"id\":" + (1000 + seq % 500) + ",\"status\":\"ACTIVE\",\"riskScore\":"
+                + (seq * 37 % 100) + "}}";
+    }
+
+    /** Unmasked server frame with FIN set */
+    static byte[] frame(int opcode, byte[] payload) {
+        int n = payload.length;
+        int header = n < 126 ? 2 : n <= 0xFFFF ? 4 : 10;
+        byte[] frame = new byte[header + n];
+        frame[0] = (byte) (0x80 | opcode);
+        if (n < 126) {
+            frame[1] = (byte) n;
+        } else if (n <= 0xFFFF) {
+            frame[1] = 126;
+            frame[2] = (byte) (n >>> 8);
+            frame[3] = (byte) n;
+        } else {
+            frame[1] = 127;
+            for (int i = 0; i < 8; i++) {
+                frame[2 + i] = (byte) ((long) n >>> (56 - 8 * i));
+            }
+        }
+        System.arraycopy(payload, 0, frame, header, n);
+        return frame;
+    }
+
+    private static String accept(String key) {
+        try {
+            byte[] sha1 = MessageDigest.getInstance("SHA-1").digest((key + GUID).getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(sha1);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("❌ SHA-1 not available", e);
+        }
+    }
+
+    private static String line(InputStream in) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        for (int c = in.read(); c != '\n'; c = in.read()) {
+            if (c < 0) {
+                throw new EOFException();
+            }
+            if (c != '\r') {
+                buffer.write(c);
+            }
+        }
+        return buffer.toString(StandardCharsets.US_ASCII);
+    }
+
+    /** One open connection: bounded queue of encoded frames, drained by its own writer */
+    private static final class Subscriber {
+
+        private final Socket socket;
+        private final OutputStream out;
+        private final BlockingQueue<byte[]> queue;
+
+        private Subscriber(Socket socket, OutputStream out, int capacity) {
+            this.socket = socket;
+            this.out = out;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private boolean offer(byte[] frame) {
+            return queue.offer(frame);
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    byte[] frame = queue.take();
+                    if (frame == POISON) {
+                        out.flush();
+                        close();
+                        return;
+                    }
+                    out.write(frame);
+                    if (queue.isEmpty()) {
+                        out.flush();
+                    }
+                }
+            } catch (IOException | InterruptedException e) {
+                close();
+            }
+        }
+
+        private void close() {
+            queue.clear();
+            queue.offer(POISON);
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // already closed
+            }
+        }
+    }
+}
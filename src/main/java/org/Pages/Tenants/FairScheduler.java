@@ -0,0 +1,99 @@
+package org.Pages.Tenants;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ⚖️ Round-robin scheduler across tenants
+ * ---------------------------------------
+ * - Every tenant has its own FIFO lane; lanes take turns, one task per turn,
+ *   so a merchant with a long queue (or slow calls) cannot starve the others
+ * - At most `parallelism` tasks run at once, and at most `perTenant` of them
+ *   for the same tenant
+ * - Tasks run on virtual threads and may submit follow-up work
+ */
+final class FairScheduler<K> implements AutoCloseable {
+
+    private final int parallelism;
+    private final int perTenant;
+    private final Map<K, Lane> lanes = new HashMap<>();
+    private final Queue<Lane> ready = new ArrayDeque<>();
+    private final ExecutorService workers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("tenant-", 0).factory());
+    private int running;
+    private int pending;
+
+    FairScheduler(int parallelism, int perTenant) {
+        this.parallelism = Math.max(1, parallelism);
+        this.perTenant = Math.max(1, perTenant);
+    }
+
+    /** ➕ Queues `task` at the back of `tenant`'s lane */
+    synchronized void submit(K tenant, Runnable task) {
+        Lane lane = lanes.computeIfAbsent(tenant, k -> new Lane());
+        lane.tasks.add(task);
+        pending++;
+        offer(lane);
+        dispatch();
+    }
+
+    /** ⏳ Blocks until every submitted task (and everything they submitted) has finished */
+    synchronized void awaitIdle() throws InterruptedException {
+        while (running > 0 || pending > 0) {
+            wait();
+        }
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    /** Puts the lane back in the rotation if it has work and room for one more task */
+    private void offer(Lane lane) {
+        if (!lane.ready && !lane.tasks.isEmpty() && lane.inFlight < perTenant) {
+            lane.ready = true;
+            ready.add(lane);
+        }
+    }
+
+    private void dispatch() {
+        while (running < parallelism && !ready.isEmpty()) {
+            Lane lane = ready.poll();
+            lane.ready = false;
+            Runnable task = lane.tasks.poll();
+            lane.inFlight++;
+            running++;
+            pending--;
+            offer(lane); // back of the rotation
+            workers.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    finished(lane);
+                }
+            });
+        }
+    }
+
+    private synchronized void finished(Lane lane) {
+        lane.inFlight--;
+        running--;
+        offer(lane);
+        dispatch();
+        if (running == 0 && pending == 0) {
+            notifyAll();
+        }
+    }
+
+    private static final class Lane {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private int inFlight;
+        private boolean ready;
+    }
+}
@@ -0,0 +1,55 @@
+package org.Pages.Tenants;
+
+import org.Pages.Http.ApiRequest;
+import org.Pages.Http.BodyCheck;
+import org.Pages.Http.Endpoint;
+
+/**
+ * 🏪 Merchant-scoped checks the fan-out runs for every tenant
+ * -----------------------------------------------------------
+ * - Path-scoped: the merchant id is in the URL (/merchants/{id}/branding), so
+ *   one shared login can read every tenant
+ * - Token-scoped: the tenant comes from the JWT's merchant_id claim, so these
+ *   only run for merchants with their own credentials
+ * - Where the body names its merchant (idField), it must be the one asked for;
+ *   a body without that field is not compared
+ */
+public enum MerchantCheck {
+
+    BRANDING(Endpoint.MERCHANT_BRANDING, true, "merchantId"),
+    CURRENT(Endpoint.MERCHANT_CURRENT, false, "id"),
+    BRANDING_V2(Endpoint.BRANDING_V2, false, "merchantId"),
+    STATUS_COUNTS(Endpoint.STATUS_COUNTS, false, null),
+    SUMMARY(Endpoint.SUMMARY, false, null),
+    CUSTOMERS_ANALYTICS(Endpoint.CUSTOMERS_ANALYTICS, false, null);
+
+    private final Endpoint endpoint;
+    private final boolean pathScoped;
+    private final String idField;
+
+    MerchantCheck(Endpoint endpoint, boolean pathScoped, String idField) {
+        this.endpoint = endpoint;
+        this.pathScoped = pathScoped;
+        this.idField = idField;
+    }
+
+    public Endpoint endpoint() {
+        return endpoint;
+    }
+
+    public boolean pathScoped() {
+        return pathScoped;
+    }
+
+    /** JSON field that must equal the merchant id when present, or null when the body doesn't name one */
+    public String idField() {
+        return idField;
+    }
+
+    /** 📨 Request for `merchantId`; always goes to the network */
+    public ApiRequest request(long merchantId, String token) {
+        String url = pathScoped ? endpoint.url().replace("/merchants/1/", "/merchants/" + merchantId + "/") : endpoint.url();
+        BodyCheck check = idField == null ? BodyCheck.json() : BodyCheck.json().extract(idField);
+        return ApiRequest.of(endpoint.method(), url).body(endpoint.body()).bearer(token).check(check).noCache();
+    }
+}
@@ -0,0 +1,124 @@
+package org.Pages.Tenants;
+
+import org.Pages.Auth.Jwt;
+import org.Pages.Auth.SessionManager;
+import org.Pages.Http.ApiResponse;
+import org.Pages.Http.HttpEngine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🏪 Multi-merchant fan-out
+ * -------------------------
+ * Runs the merchant-scoped checks for every tenant of a MerchantPlan
+ * concurrently and returns a per-merchant latency matrix:
+ *
+ *   mvn compile exec:java -Dexec.mainClass=org.Pages.Tenants.MerchantFanOut \
+ *       -Dinvoo.merchants=1-200 -Dinvoo.merchants.rounds=5
+ *
+ * - A FairScheduler hands out calls round-robin across merchants, so every
+ *   tenant progresses at the same pace whatever its latency
+ * - Each merchant starts with its login (shared or own, via SessionManager);
+ *   its checks are queued once the token, and so the merchant id, is known
+ * - A 401 invalidates the session and the call is retried once
+ * - Exits 1 when any call or login failed
+ */
+public final class MerchantFanOut {
+
+    private final MerchantPlan plan;
+
+    public MerchantFanOut(MerchantPlan plan) {
+        this.plan = plan;
+    }
+
+    public static void main(String[] args) throws Exception {
+        MerchantMatrix matrix = new MerchantFanOut(MerchantPlan.fromProperties()).run();
+        System.out.println(matrix);
+        System.exit(matrix.errors() > 0 ? 1 : 0);
+    }
+
+    /** ▶️ Every merchant × check × round; blocks until all calls are done */
+    public MerchantMatrix run() throws InterruptedException {
+        List<MerchantMatrix.Row> rows = new ArrayList<>();
+        long start = System.nanoTime();
+        try (FairScheduler<MerchantPlan.Tenant> scheduler = new FairScheduler<>(plan.parallelism(), plan.perTenant())) {
+            for (MerchantPlan.Tenant tenant : plan.tenants()) {
+                MerchantMatrix.Row row = new MerchantMatrix.Row(tenant, plan.checks().size());
+                rows.add(row);
+                scheduler.submit(tenant, () -> start(scheduler, row));
+            }
+            scheduler.awaitIdle();
+        }
+        return new MerchantMatrix(plan, rows, System.nanoTime() - start);
+    }
+
+    /** Logs the merchant in, then queues its checks behind the other tenants' */
+    private void start(FairScheduler<MerchantPlan.Tenant> scheduler, MerchantMatrix.Row row) {
+        MerchantPlan.Tenant tenant = row.tenant;
+        String token;
+        try {
+            token = SessionManager.shared().token(tenant.credentials());
+        } catch (IOException | RuntimeException e) {
+            row.loginError = e.getMessage();
+            return;
+        }
+        long merchantId = tenant.ownLogin() ? Jwt.merchantId(token) : tenant.merchantId();
+        row.merchantId = merchantId;
+        for (int round = 0; round < plan.rounds(); round++) {
+            for (int c = 0; c < plan.checks().size(); c++) {
+                MerchantCheck check = plan.checks().get(c);
+                MerchantMatrix.Cell cell = row.cells[c];
+                if (check.pathScoped() ? merchantId < 0 : !tenant.ownLogin()) {
+                    continue;
+                }
+                scheduler.submit(tenant, () -> check(tenant, check, merchantId, cell));
+            }
+        }
+    }
+
+    private static void check(MerchantPlan.Tenant tenant, MerchantCheck check, long merchantId, MerchantMatrix.Cell cell) {
+        long start = System.nanoTime();
+        try {
+            ApiResponse response = send(tenant, check, merchantId);
+            if (response.status() == 401) {
+                SessionManager.shared().invalidate(tenant.credentials());
+                start = System.nanoTime();
+                response = send(tenant, check, merchantId);
+            }
+            long elapsed = System.nanoTime() - start;
+            String error = verdict(response, check, merchantId);
+            if (error == null) {
+                cell.record(elapsed);
+            } else {
+                cell.error(error);
+            }
+        } catch (IOException | RuntimeException e) {
+            cell.error(e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private static ApiResponse send(MerchantPlan.Tenant tenant, MerchantCheck check, long merchantId) throws IOException {
+        return HttpEngine.shared().send(check.request(merchantId, SessionManager.shared().token(tenant.credentials())));
+    }
+
+    /** null when the call passed, else what went wrong */
+    private static String verdict(ApiResponse response, MerchantCheck check, long merchantId) {
+        if (response.status() < 200 || response.status() >= 300) {
+            return "HTTP " + response.status() + " " + response.preview(120);
+        }
+        if (!response.valid()) {
+            return "body check failed: " + String.join("; ", response.violations());
+        }
+        // a body without the id field (or with null) doesn't name its merchant: nothing to compare
+        if (check.idField() != null && merchantId >= 0 && response.fields() != null
+                && response.fields().string(check.idField()) != null) {
+            long served = response.fields().longValue(check.idField(), -1);
+            if (served != merchantId) {
+                return "asked for merchant " + merchantId + ", got " + check.idField() + "=" + served;
+            }
+        }
+        return null;
+    }
+}
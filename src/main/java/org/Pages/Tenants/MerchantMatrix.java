@@ -0,0 +1,186 @@
+package org.Pages.Tenants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 🧾 Per-merchant latency matrix
+ * ------------------------------
+ * One row per merchant, one column per MerchantCheck, each cell p50 / p95 in
+ * ms ("-" when the check doesn't apply to that tenant). A cell whose p50 is
+ * outlierFactor × its column median (and outlierFloor above it) is marked "!"
+ * and listed underneath, so one tenant's slow branding or analytics stands out.
+ */
+public final class MerchantMatrix {
+
+    private final MerchantPlan plan;
+    private final List<Row> rows;
+    private final long elapsedNanos;
+
+    MerchantMatrix(MerchantPlan plan, List<Row> rows, long elapsedNanos) {
+        this.plan = plan;
+        this.rows = rows;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** Calls that completed with a 2xx, a valid body and the right merchant */
+    public long calls() {
+        return rows.stream().flatMap(r -> Arrays.stream(r.cells)).mapToLong(Cell::count).sum();
+    }
+
+    /** Failed calls plus failed logins */
+    public long errors() {
+        return rows.stream().mapToLong(r -> (r.loginError == null ? 0 : 1)
+                + Arrays.stream(r.cells).mapToLong(c -> c.errors).sum()).sum();
+    }
+
+    /** 🐢 "merchant 7 BRANDING p50 512.0 ms (column median 3.1 ms)" for every flagged cell */
+    public List<String> outliers() {
+        List<String> outliers = new ArrayList<>();
+        for (int c = 0; c < plan.checks().size(); c++) {
+            double median = columnMedian(c);
+            for (Row row : rows) {
+                Cell cell = row.cells[c];
+                if (outlier(cell, median)) {
+                    outliers.add(String.format("%s %s p50 %.1f ms (column median %.1f ms)",
+                            row.tenant, plan.checks().get(c), cell.millis(50), median));
+                }
+            }
+        }
+        return outliers;
+    }
+
+    /** ❌ First failure per merchant and check */
+    public List<String> failures() {
+        List<String> failures = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.loginError != null) {
+                failures.add(row.tenant + " login: " + row.loginError);
+            }
+            for (int c = 0; c < row.cells.length; c++) {
+                if (row.cells[c].firstError != null) {
+                    failures.add(row.tenant + " " + plan.checks().get(c) + " (" + row.cells[c].errors + "×): "
+                            + row.cells[c].firstError);
+                }
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        List<MerchantCheck> checks = plan.checks();
+        int width = Math.max(8, rows.stream().mapToInt(r -> r.tenant.label().length()).max().orElse(8));
+        int[] widths = new int[checks.size()];
+        String[][] text = new String[rows.size()][checks.size()];
+        for (int c = 0; c < checks.size(); c++) {
+            double median = columnMedian(c);
+            widths[c] = checks.get(c).name().length();
+            for (int r = 0; r < rows.size(); r++) {
+                Cell cell = rows.get(r).cells[c];
+                text[r][c] = cell.count() == 0 ? (cell.errors > 0 ? "ERR" : "-")
+                        : String.format("%.1f/%.1f%s", cell.millis(50), cell.millis(95), outlier(cell, median) ? "!" : "");
+                widths[c] = Math.max(widths[c], text[r][c].length());
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("🏪 Merchant fan-out: %s, %d calls in %.1fs, %d errors%n",
+                plan, calls(), elapsedNanos / 1e9, errors()));
+        sb.append(String.format("   %-" + width + "s %8s", "MERCHANT", "ID"));
+        for (int c = 0; c < checks.size(); c++) {
+            sb.append(String.format("  %" + widths[c] + "s", checks.get(c).name()));
+        }
+        sb.append(String.format("  %6s%n", "ERRORS"));
+        for (int r = 0; r < rows.size(); r++) {
+            Row row = rows.get(r);
+            sb.append(String.format("   %-" + width + "s %8s", row.tenant.label(), row.merchantId < 0 ? "?" : row.merchantId));
+            for (int c = 0; c < checks.size(); c++) {
+                sb.append(String.format("  %" + widths[c] + "s", text[r][c]));
+            }
+            long errors = (row.loginError == null ? 0 : 1) + Arrays.stream(row.cells).mapToLong(cell -> cell.errors).sum();
+            sb.append(String.format("  %6d%n", errors));
+        }
+        sb.append("   cells: p50/p95 ms, ! = p50 over ").append(plan.outlierFactor()).append("× the column median");
+        for (String outlier : outliers()) {
+            sb.append("\n⚠️ Slow tenant: ").append(outlier);
+        }
+        for (String failure : failures()) {
+            sb.append("\n❌ ").append(failure);
+        }
+        return sb.toString();
+    }
+
+    private boolean outlier(Cell cell, double columnMedian) {
+        if (cell.count() == 0 || columnMedian <= 0) {
+            return false;
+        }
+        double p50 = cell.millis(50);
+        return p50 >= columnMedian * plan.outlierFactor() && p50 - columnMedian >= plan.outlierFloor().toNanos() / 1e6;
+    }
+
+    /** Median of the column's p50s, over merchants that have samples */
+    private double columnMedian(int column) {
+        double[] p50s = rows.stream().map(r -> r.cells[column]).filter(c -> c.count() > 0)
+                .mapToDouble(c -> c.millis(50)).sorted().toArray();
+        if (p50s.length < 2) {
+            return 0;
+        }
+        int mid = p50s.length / 2;
+        return p50s.length % 2 == 1 ? p50s[mid] : (p50s[mid - 1] + p50s[mid]) / 2;
+    }
+
+    /** One merchant's cells, filled in by MerchantFanOut */
+    static final class Row {
+
+        final MerchantPlan.Tenant tenant;
+        final Cell[] cells;
+        volatile long merchantId;
+        volatile String loginError;
+
+        Row(MerchantPlan.Tenant tenant, int checks) {
+            this.tenant = tenant;
+            this.merchantId = tenant.merchantId();
+            this.cells = new Cell[checks];
+            for (int i = 0; i < checks; i++) {
+                cells[i] = new Cell();
+            }
+        }
+    }
+
+    /** Latencies (ns) of one merchant × check; only a few rounds, so kept raw */
+    static final class Cell {
+
+        private long[] nanos = new long[4];
+        private int count;
+        private long errors;
+        private String firstError;
+
+        synchronized void record(long elapsedNanos) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = elapsedNanos;
+        }
+
+        synchronized void error(String message) {
+            errors++;
+            if (firstError == null) {
+                firstError = message;
+            }
+        }
+
+        synchronized int count() {
+            return count;
+        }
+
+        /** Nearest-rank percentile in ms */
+        synchronized double millis(double percentile) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100 * count);
+            return sorted[Math.max(0, Math.min(count - 1, rank - 1))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.Pages.Tenants;
+
+import org.Pages.Auth.Credentials;
+import org.Pages.Http.Endpoint;
+import org.Pages.Metrics.Durations;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 📋 Which merchants the fan-out covers, and how hard
+ * ---------------------------------------------------
+ * Read from system properties by fromProperties():
+ *   -Dinvoo.merchants=1-50,99,merchant7:secret   tenants (default 1)
+ *   -Dinvoo.merchants.file=merchants.txt         more tenants, one entry per line (# comments)
+ *   -Dinvoo.merchants.checks=BRANDING,CURRENT    MerchantCheck names (default all)
+ *   -Dinvoo.merchants.rounds=3                   calls per merchant and check
+ *   -Dinvoo.merchants.parallelism=16             calls in flight across all merchants
+ *   -Dinvoo.merchants.perTenant=2                calls in flight per merchant
+ *   -Dinvoo.merchants.outlierFactor=3            flag cells whose p50 is this many times the column median
+ *   -Dinvoo.merchants.outlierFloor=5ms           ... and at least this much above it
+ *
+ * An id or id range (1-50) runs the path-scoped checks with the shared login
+ * (-Dinvoo.merchants.username / .password, default sa / 123456); a
+ * username:password entry logs in as that merchant and runs every check for
+ * the merchant_id in its token.
+ */
+public record MerchantPlan(List<Tenant> tenants, List<MerchantCheck> checks, int rounds, int parallelism, int perTenant,
+                           double outlierFactor, Duration outlierFloor) {
+
+    /** One merchant: a fixed id with the shared login, or its own credentials (id read from the token) */
+    public record Tenant(String label, long merchantId, Credentials credentials, boolean ownLogin) {
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    public static MerchantPlan fromProperties() throws IOException {
+        String spec = System.getProperty("invoo.merchants", "1");
+        String file = System.getProperty("invoo.merchants.file");
+        if (file != null) {
+            spec += "\n" + Files.readString(Paths.get(file));
+        }
+        return new MerchantPlan(tenants(spec), checks(System.getProperty("invoo.merchants.checks", "")),
+                Integer.getInteger("invoo.merchants.rounds", 3),
+                Integer.getInteger("invoo.merchants.parallelism", 16),
+                Integer.getInteger("invoo.merchants.perTenant", 2),
+                Double.parseDouble(System.getProperty("invoo.merchants.outlierFactor", "3")),
+                Durations.parse(System.getProperty("invoo.merchants.outlierFloor", "5ms")));
+    }
+
+    /** 🏪 Tenants of a spec like "1-20, 99, merchant7:secret" (commas or new lines) */
+    public static List<Tenant> tenants(String spec) throws IOException {
+        Credentials shared = new Credentials(Endpoint.LOGIN.url(),
+                System.getProperty("invoo.merchants.username", "sa"),
+                System.getProperty("invoo.merchants.password", "123456"));
+        Set<Long> ids = new LinkedHashSet<>();
+        List<Tenant> tenants = new ArrayList<>();
+        for (String line : spec.split("\n")) {
+            int hash = line.indexOf('#');
+            for (String entry : (hash < 0 ? line : line.substring(0, hash)).split(",")) {
+                entry = entry.trim();
+                if (entry.isEmpty()) {
+                    continue;
+                }
+                int colon = entry.indexOf(':');
+                if (colon > 0) {
+                    String username = entry.substring(0, colon);
+                    tenants.add(new Tenant(username, -1,
+                            new Credentials(Endpoint.LOGIN.url(), username, entry.substring(colon + 1)), true));
+                    continue;
+                }
+                try {
+                    int dash = entry.indexOf('-', 1);
+                    long from = Long.parseLong(dash < 0 ? entry : entry.substring(0, dash).trim());
+                    long to = dash < 0 ? from : Long.parseLong(entry.substring(dash + 1).trim());
+                    for (long id = from; id <= to; id++) {
+                        if (ids.add(id)) {
+                            tenants.add(new Tenant("merchant " + id, id, shared, false));
+                        }
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IOException("❌ Unreadable merchant entry '" + entry + "' (expected id, from-to or user:password)");
+                }
+            }
+        }
+        if (tenants.isEmpty()) {
+            throw new IOException("❌ No merchants to fan out over (set -Dinvoo.merchants)");
+        }
+        return tenants;
+    }
+
+    private static List<MerchantCheck> checks(String names) throws IOException {
+        if (names.isBlank()) {
+            return List.of(MerchantCheck.values());
+        }
+        List<MerchantCheck> checks = new ArrayList<>();
+        for (String name : names.split(",")) {
+            try {
+                checks.add(MerchantCheck.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("❌ Unknown merchant check '" + name.trim() + "' in -Dinvoo.merchants.checks");
+            }
+        }
+        return checks;
+    }
+
+    /** Same plan over other tenants */
+    public MerchantPlan withTenants(List<Tenant> tenants) {
+        return new MerchantPlan(tenants, checks, rounds, parallelism, perTenant, outlierFactor, outlierFloor);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d merchants × %d checks × %d rounds, parallelism %d (%d per merchant)",
+                tenants.size(), checks.size(), rounds, parallelism, perTenant);
+    }
+}
@@ -1,4 +1,52 @@
 package org.Pages.main;
 
+import org.Pages.Auth.Credentials;
+import org.Pages.Http.Endpoint;
+import org.Pages.Metrics.ContinuousRecording;
+import org.Pages.Metrics.Durations;
+import org.Pages.Monitor.MonitorPlan;
+import org.Pages.Monitor.SyntheticMonitor;
+
+import java.time.Duration;
+
+/**
+ * 📡 Synthetic monitoring entry point
+ * -----------------------------------
+ * One long-lived JVM checks the endpoints in monitor.properties on their own
+ * schedules (see MonitorPlan / SyntheticMonitor) instead of a cron-driven
+ * `mvn test` loop:
+ *
+ *   mvn -q dependency:build-classpath -Dmdep.outputFile=cp.txt
+ *   java -Xmx128m -cp "target/classes:$(cat cp.txt)" org.Pages.main.main
+ *
+ * -Dinvoo.monitor.file=path    schedule file (default: monitor.properties on the classpath)
+ * -Dinvoo.monitor.duration=1h  stop after that long and exit 1 if a probe is down (default: run until killed)
+ * -Dinvoo.monitor.username / -Dinvoo.monitor.password (default sa / 123456)
+ * -Dinvoo.jfr=true             continuous JFR ring, dumped when a probe goes DOWN (see ContinuousRecording)
+ */
 public class main {
+
+    public static void main(String[] args) throws Exception {
+        // per-interval .hlog files would grow for as long as the monitor runs
+        if (System.getProperty("invoo.latency.logDir") == null) {
+            System.setProperty("invoo.latency.logDir", "none");
+        }
+
+        MonitorPlan plan = MonitorPlan.load();
+        Credentials credentials = new Credentials(Endpoint.LOGIN.url(),
+                System.getProperty("invoo.monitor.username", "sa"),
+                System.getProperty("invoo.monitor.password", "123456"));
+        String duration = System.getProperty("invoo.monitor.duration");
+
+        System.out.println("📡 Monitoring " + plan.probes().size() + " endpoints:");
+        plan.probes().forEach(p -> System.out.println("   " + p));
+
+        ContinuousRecording jfr = ContinuousRecording.start("monitor");
+        SyntheticMonitor monitor = new SyntheticMonitor(plan, credentials, jfr);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.println(monitor.report()), "monitor-final-report"));
+        monitor.run(duration == null ? null : Durations.parse(duration));
+        monitor.close();
+        jfr.close();
+        System.exit(monitor.healthy() ? 0 : 1);
+    }
 }
@@ -1,11 +1,14 @@
 package org.Pages.Configurator;
 
+import org.Pages.Auth.SessionManager;
+import org.Pages.Http.ApiLog;
+import org.Pages.Http.ApiResponse;
+import org.Pages.Http.Hosts;
+import org.Pages.Http.HttpEngine;
 import org.junit.Assert;
 import org.junit.Test;
 
-import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.IOException;
 
 /**
  * ✅ Branding Configuration API Tests
@@ -22,124 +25,33 @@ import java.net.URL;
  */
 public class BrandingApiTest {
 
-    private static final String LOGIN_URL = "https://pay-app-oilbv.ondigitalocean.app/api/v1/auth/login";
-    private static final String LOCALE_URL = "https://pay-web-ntwda.ondigitalocean.app/assets/locale/en-US.json";
-    private static final String BRANDING_V2_URL = "https://pay-app-oilbv.ondigitalocean.app/api/v1/merchants/current/branding/v2";
-    private static final String TRANSLATION_URL = "https://sea-lion-app-3vtnz.ondigitalocean.app/assets/translations/en.json";
-    private static final String VALIDATE_COLORS_URL = "https://pay-app-oilbv.ondigitalocean.app/api/v1/merchants/branding/validate-colors";
-    private static final String FINGERPRINT_URL = "https://eu.api.fpjs.io/DwmA/JNZ1Dz7/7?q=rAYkICVaA2hXcDRGO6Nm";
+    private static final String LOGIN_URL = Hosts.API + "/api/v1/auth/login";
+    private static final String LOCALE_URL = Hosts.WEB + "/assets/locale/en-US.json";
+    private static final String BRANDING_V2_URL = Hosts.API + "/api/v1/merchants/current/branding/v2";
+    private static final String TRANSLATION_URL = Hosts.ASSETS + "/assets/translations/en.json";
+    private static final String VALIDATE_COLORS_URL = Hosts.API + "/api/v1/merchants/branding/validate-colors";
+    private static final String FINGERPRINT_URL = Hosts.FINGERPRINT + "/DwmA/JNZ1Dz7/7?q=rAYkICVaA2hXcDRGO6Nm";
 
     private static final String USERNAME = "sa";
     private static final String PASSWORD = "123456";
 
-    /** 🔐 Login and retrieve JWT token */
+    /** 🔐 JWT token from the run-wide session (one login per run) */
     private String loginAndGetToken() throws IOException {
-        URL url = new URL(LOGIN_URL);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("POST");
-        conn.setRequestProperty("Content-Type", "application/json");
-        conn.setDoOutput(true);
-
-        String jsonBody = String.format("{\"username\":\"%s\",\"password\":\"%s\"}", USERNAME, PASSWORD);
-        try (OutputStream os = conn.getOutputStream()) {
-            os.write(jsonBody.getBytes());
-            os.flush();
-        }
-
-        if (conn.getResponseCode() != 200) {
-            throw new RuntimeException("❌ Login failed! HTTP " + conn.getResponseCode());
-        }
-
-        StringBuilder sb = new StringBuilder();
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
-            String line;
-            while ((line = br.readLine()) != null) sb.append(line);
-        }
-
-        conn.disconnect();
-
-        String response = sb.toString();
-        String token = null;
-        if (response.contains("\"token\"")) {
-            token = response.split("\"token\"\\s*:\\s*\"")[1].split("\"")[0];
-        }
-
-        if (token == null || token.isEmpty()) {
-            throw new RuntimeException("❌ Token not found in login response: " + response);
-        }
-
-        System.out.println("✅ Logged in successfully, token acquired.");
-        return token;
+        return SessionManager.shared().token(LOGIN_URL, USERNAME, PASSWORD);
     }
 
     /** 🌐 Generic GET request */
     private int sendGetRequest(String urlStr, String token, boolean auth) throws IOException {
-        URL url = new URL(urlStr);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
-        conn.setRequestProperty("Accept", "application/json");
-
-        if (auth && token != null) {
-            conn.setRequestProperty("Authorization", "Bearer " + token);
-        }
-
-        conn.setConnectTimeout(15000);
-        conn.setReadTimeout(15000);
-
-        int code = conn.getResponseCode();
-        logResponse(urlStr, conn, code);
-        conn.disconnect();
-        return code;
+        ApiResponse response = HttpEngine.shared().get(urlStr, auth ? token : null);
+        ApiLog.response(urlStr, response);
+        return response.status();
     }
 
     /** 🌐 POST request with optional JSON body */
     private int sendPostRequest(String urlStr, String token, String jsonBody) throws IOException {
-        URL url = new URL(urlStr);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("POST");
-        conn.setRequestProperty("Accept", "application/json");
-        conn.setRequestProperty("Content-Type", "application/json");
-
-        if (token != null) {
-            conn.setRequestProperty("Authorization", "Bearer " + token);
-        }
-
-        conn.setDoOutput(true);
-        if (jsonBody != null && !jsonBody.isEmpty()) {
-            try (OutputStream os = conn.getOutputStream()) {
-                os.write(jsonBody.getBytes());
-                os.flush();
-            }
-        }
-
-        conn.setConnectTimeout(15000);
-        conn.setReadTimeout(15000);
-
-        int code = conn.getResponseCode();
-        logResponse(urlStr, conn, code);
-        conn.disconnect();
-        return code;
-    }
-
-    /** 🧾 Logging helper */
-    private void logResponse(String url, HttpURLConnection conn, int code) throws IOException {
-        if (code == 200) {
-            System.out.println("✅ Success: " + url + " → " + code);
-            try (BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
-                String first = br.readLine();
-                if (first != null)
-                    System.out.println("🔹 Response preview: " + first.substring(0, Math.min(150, first.length())));
-            }
-        } else {
-            System.err.println("❌ Failed: " + url + " → HTTP " + code);
-            if (conn.getErrorStream() != null) {
-                try (BufferedReader err = new BufferedReader(new InputStreamReader(conn.getErrorStream()))) {
-                    String line;
-                    while ((line = err.readLine()) != null)
-                        System.err.println(line);
-                }
-            }
-        }
+        ApiResponse response = HttpEngine.shared().post(urlStr, token, jsonBody);
+        ApiLog.response(urlStr, response);
+        return response.status();
     }
 
     // === TEST CASES ===
@@ -1,11 +1,14 @@
 package org.Pages.Dashboard;
 
+import org.Pages.Auth.SessionManager;
+import org.Pages.Http.ApiLog;
+import org.Pages.Http.ApiResponse;
+import org.Pages.Http.Hosts;
+import org.Pages.Http.HttpEngine;
 import org.junit.Assert;
 import org.junit.Test;
 
-import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.IOException;
 
 /**
  * This test suite:
@@ -16,109 +19,43 @@ import java.net.URL;
  */
 public class AnalyticsAPITest {
 
-    private static final String LOGIN_URL = "https://pay-app-oilbv.ondigitalocean.app/api/v1/auth/login";
+    private static final String LOGIN_URL = Hosts.API + "/api/v1/auth/login";
     private static final String USERNAME = "sa";
     private static final String PASSWORD = "123456";
 
     // === Analytics API Endpoints ===
     private static final String STATUS_COUNTS =
-            "https://pay-app-oilbv.ondigitalocean.app/api/v1/analytics/status-counts?type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z";
+            Hosts.API + "/api/v1/analytics/status-counts?type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z";
 
     private static final String SUMMARY =
-            "https://pay-app-oilbv.ondigitalocean.app/api/v1/analytics/summary?startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z";
+            Hosts.API + "/api/v1/analytics/summary?startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z";
 
     private static final String METRIC_VOLUME =
-            "https://pay-app-oilbv.ondigitalocean.app/api/v1/analytics/metrics/time-series?groupBy=day&metric=volume&type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z";
+            Hosts.API + "/api/v1/analytics/metrics/time-series?groupBy=day&metric=volume&type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z";
 
     private static final String METRIC_COUNT =
-            "https://pay-app-oilbv.ondigitalocean.app/api/v1/analytics/metrics/time-series?groupBy=day&metric=count&type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z";
+            Hosts.API + "/api/v1/analytics/metrics/time-series?groupBy=day&metric=count&type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z";
 
     private static final String METRIC_SUCCESS_RATE =
-            "https://pay-app-oilbv.ondigitalocean.app/api/v1/analytics/metrics/time-series?groupBy=day&metric=success_rate&type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z";
+            Hosts.API + "/api/v1/analytics/metrics/time-series?groupBy=day&metric=success_rate&type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z";
 
     private static final String PROVIDERS =
-            "https://pay-app-oilbv.ondigitalocean.app/api/v1/analytics/providers?type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z";
+            Hosts.API + "/api/v1/analytics/providers?type=all&startDate=2025-09-27T10:08:41.958Z&endDate=2025-10-27T10:08:41.958Z";
 
     /**
-     * Logs in and returns JWT token as String.
+     * Returns the JWT token from the run-wide session (one login per run).
      */
     private String loginAndGetToken() throws IOException {
-        URL url = new URL(LOGIN_URL);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("POST");
-        conn.setRequestProperty("Content-Type", "application/json");
-        conn.setDoOutput(true);
-        conn.setConnectTimeout(10000);
-        conn.setReadTimeout(10000);
-
-        String jsonBody = String.format("{\"username\":\"%s\",\"password\":\"%s\"}", USERNAME, PASSWORD);
-        try (OutputStream os = conn.getOutputStream()) {
-            os.write(jsonBody.getBytes());
-            os.flush();
-        }
-
-        int code = conn.getResponseCode();
-        if (code != 200) {
-            throw new RuntimeException("❌ Login failed! HTTP " + code);
-        }
-
-        // Read response
-        StringBuilder response = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                response.append(line);
-            }
-        }
-        conn.disconnect();
-
-        // Extract token from JSON
-        String token = null;
-        String body = response.toString();
-        if (body.contains("\"token\"")) {
-            token = body.split("\"token\"\\s*:\\s*\"")[1].split("\"")[0];
-        }
-
-        if (token == null || token.isEmpty()) {
-            throw new RuntimeException("❌ Could not extract token from login response: " + body);
-        }
-
-        System.out.println("✅ Logged in successfully, token acquired.");
-        return token;
+        return SessionManager.shared().token(LOGIN_URL, USERNAME, PASSWORD);
     }
 
     /**
      * Sends authorized GET request and returns HTTP status code.
      */
     private int getStatusCodeWithAuth(String urlStr, String token) throws IOException {
-        URL url = new URL(urlStr);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
-        conn.setRequestProperty("Authorization", "Bearer " + token);
-        conn.setRequestProperty("Accept", "application/json");
-        conn.setConnectTimeout(10000);
-        conn.setReadTimeout(10000);
-
-        int status = conn.getResponseCode();
-        if (status != 200) {
-            System.err.println("❌ Failed request: " + urlStr);
-            System.err.println("HTTP Status: " + status);
-            if (conn.getErrorStream() != null) {
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getErrorStream()))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        System.err.println(line);
-                    }
-                }
-            } else {
-                System.err.println("⚠️ No error body returned from server.");
-            }
-        } else {
-            System.out.println("✅ Success [" + urlStr + "] -> " + status);
-        }
-
-        conn.disconnect();
-        return status;
+        ApiResponse response = HttpEngine.shared().get(urlStr, token);
+        ApiLog.response(urlStr, response);
+        return response.status();
     }
 
     // === Six API Test Cases ===
@@ -0,0 +1,212 @@
+package org.Pages.History;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 💽 Result ring on disk
+ * ----------------------
+ * 1. Wrap-around: past capacity the oldest records are overwritten; size() and
+ *    scan() only show the newest `capacity`
+ * 2. A torn slot (stamp not yet written) and a stale-lap slot (stamp of the
+ *    previous lap) are skipped by scan()
+ * 3. A file whose header lags the commit stamps (crash before the header was
+ *    refreshed) is read and reopened from the stamps
+ * 4. scan(from, to) bounds: from inclusive, to exclusive, and a record
+ *    stamped slightly out of sequence order is still found
+ * 5. Slots overwritten mid-scan: lapped by the scan's own visitor they are
+ *    skipped; lapped over and over by a concurrent writer while a read-only
+ *    mapping scans, every record seen is whole (all fields from one append)
+ */
+public class ResultRingTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void wrapAroundKeepsOnlyTheNewestRecords() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("wrap.ring");
+        try (ResultRing ring = ResultRing.openForWriting(file, 8)) {
+            for (int i = 0; i < 20; i++) {
+                Assert.assertEquals(i, ring.append(i, i, 200, 0, i, i));
+            }
+            Assert.assertEquals(20, ring.head());
+            Assert.assertEquals(8, ring.size());
+            Assert.assertEquals(List.of(12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L), timestamps(ring, 0, Long.MAX_VALUE));
+        }
+        try (ResultRing reader = ResultRing.openForReading(file)) {
+            Assert.assertEquals(8, reader.size());
+            Assert.assertEquals(List.of(12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L), timestamps(reader, 0, Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void tornAndStaleLapSlotsAreSkipped() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("torn.ring");
+        try (ResultRing ring = ResultRing.openForWriting(file, 16)) {
+            for (int i = 0; i < 20; i++) {
+                ring.append(i, i, 200, 0, i, i);
+            }
+        }
+        // seq 10 half-written (no stamp yet), seq 18 still carrying the stamp of seq 2 from the previous lap
+        writeStamp(file, 10, 0);
+        writeStamp(file, 18, 3);
+
+        try (ResultRing reader = ResultRing.openForReading(file)) {
+            Assert.assertEquals(20, reader.head());
+            List<Long> seen = timestamps(reader, 0, Long.MAX_VALUE);
+            Assert.assertEquals(List.of(4L, 5L, 6L, 7L, 8L, 9L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 19L), seen);
+        }
+    }
+
+    @Test
+    public void laggingHeaderIsFollowedByTheStamps() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("lag.ring");
+        try (ResultRing ring = ResultRing.openForWriting(file, 4096)) {
+            for (int i = 0; i < 1500; i++) {
+                ring.append(i, 1, 200, 0, 1, 1);
+            }
+            // the writer hasn't closed: the header still says 1025, a reader walks the stamps
+            Assert.assertEquals(1025, headerNext(file));
+            try (ResultRing reader = ResultRing.openForReading(file)) {
+                Assert.assertEquals(1500, reader.head());
+                Assert.assertEquals(1500, timestamps(reader, 0, Long.MAX_VALUE).size());
+            }
+        }
+        // a crash before close(): the header lags, reopening must not reuse committed slots
+        writeHeaderNext(file, 1025);
+        try (ResultRing ring = ResultRing.openForWriting(file, 4096)) {
+            Assert.assertEquals(1500, ring.head());
+            Assert.assertEquals(1500, ring.append(1500, 1, 200, 0, 1, 1));
+            Assert.assertEquals(1501, timestamps(ring, 0, Long.MAX_VALUE).size());
+        }
+    }
+
+    @Test
+    public void scanBoundsAreFromInclusiveToExclusive() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("range.ring");
+        try (ResultRing ring = ResultRing.openForWriting(file, 256)) {
+            for (int i = 0; i < 100; i++) {
+                ring.append(1_000 + i * 10L, i, 200, 0, i, i);
+            }
+            Assert.assertEquals(List.of(1_050L, 1_060L, 1_070L, 1_080L, 1_090L), timestamps(ring, 1_050, 1_100));
+            Assert.assertEquals(List.of(1_050L), timestamps(ring, 1_041, 1_051));
+            Assert.assertEquals(List.of(), timestamps(ring, 1_051, 1_059));
+            Assert.assertEquals(List.of(), timestamps(ring, 0, 1_000));
+            Assert.assertEquals(List.of(1_000L, 1_010L), timestamps(ring, 0, 1_011));
+            Assert.assertEquals(List.of(1_980L, 1_990L), timestamps(ring, 1_980, Long.MAX_VALUE));
+            Assert.assertEquals(100, timestamps(ring, Long.MIN_VALUE, Long.MAX_VALUE).size());
+        }
+    }
+
+    @Test
+    public void slightlyReorderedTimestampsAreStillFound() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("reorder.ring");
+        try (ResultRing ring = ResultRing.openForWriting(file, 256)) {
+            // seq 1 was claimed first but its writer read the clock after seq 2's
+            ring.append(1_000, 1, 200, 0, 1, 1);
+            ring.append(1_030, 1, 200, 0, 1, 1);
+            ring.append(1_020, 1, 200, 0, 1, 1);
+            ring.append(1_040, 1, 200, 0, 1, 1);
+            Assert.assertEquals(List.of(1_020L), timestamps(ring, 1_010, 1_025));
+            Assert.assertEquals(List.of(1_030L, 1_040L), timestamps(ring, 1_025, 1_050));
+        }
+    }
+
+    @Test
+    public void slotsLappedDuringTheScanAreSkipped() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("lapped.ring");
+        try (ResultRing ring = ResultRing.openForWriting(file, 8)) {
+            for (int i = 0; i < 8; i++) {
+                ring.append(i, i, 200, 0, i, i);
+            }
+            List<Long> seen = new ArrayList<>();
+            ring.scan(0, Long.MAX_VALUE, (timestamp, endpointId, status, kind, latencyMicros, bytes) -> {
+                seen.add(timestamp);
+                if (seen.size() == 1) {
+                    for (int i = 8; i < 16; i++) {
+                        ring.append(i, i, 200, 0, i, i);
+                    }
+                }
+            });
+            Assert.assertEquals("❌ Visited slots a newer lap had already overwritten", List.of(0L), seen);
+        }
+    }
+
+    @Test
+    public void concurrentOverwritesNeverTearARecord() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("seqlock.ring");
+        try (ResultRing ring = ResultRing.openForWriting(file, 64);
+             ResultRing reader = ResultRing.openForReading(file)) {
+            AtomicBoolean stop = new AtomicBoolean();
+            // every field of record `seq` is derived from seq, so a record mixing two laps shows
+            Thread writer = new Thread(() -> {
+                for (long seq = 0; !stop.get(); seq++) {
+                    ring.append(seq, (int) seq, (int) (seq % 30_000), (int) (seq % 100), seq, seq);
+                }
+            }, "ring-writer");
+            writer.start();
+            List<String> torn = new ArrayList<>();
+            long records = 0;
+            try {
+                long deadline = System.nanoTime() + 500_000_000L;
+                while (System.nanoTime() < deadline && torn.size() < 10) {
+                    List<Long> seen = new ArrayList<>();
+                    reader.scan(Long.MIN_VALUE, Long.MAX_VALUE, (timestamp, endpointId, status, kind, latencyMicros, bytes) -> {
+                        seen.add(timestamp);
+                        if (endpointId != (int) timestamp || latencyMicros != (int) timestamp || bytes != timestamp
+                                || status != (int) (timestamp % 30_000) || kind != (int) (timestamp % 100)) {
+                            torn.add("ts " + timestamp + ", endpoint " + endpointId + ", status " + status + ", kind "
+                                    + kind + ", latency " + latencyMicros + ", bytes " + bytes);
+                        }
+                    });
+                    records += seen.size();
+                }
+            } finally {
+                stop.set(true);
+                writer.join();
+            }
+            System.out.println("💽 " + records + " records read while " + ring.head() + " were appended");
+            Assert.assertTrue("❌ Torn records mixing two laps:\n" + String.join("\n", torn), torn.isEmpty());
+        }
+    }
+
+    private static List<Long> timestamps(ResultRing ring, long from, long to) {
+        List<Long> seen = new ArrayList<>();
+        ring.scan(from, to, (timestamp, endpointId, status, kind, latencyMicros, bytes) -> seen.add(timestamp));
+        return seen;
+    }
+
+    private static void writeStamp(Path file, long seq, int stamp) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            long capacity = 16;
+            channel.write(ByteBuffer.allocate(4).putInt(0, stamp),
+                    ResultRing.HEADER_BYTES + (seq % capacity) * ResultRing.RECORD_BYTES + 20);
+        }
+    }
+
+    private static long headerNext(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer next = ByteBuffer.allocate(8);
+            channel.read(next, 24);
+            return next.getLong(0);
+        }
+    }
+
+    private static void writeHeaderNext(Path file, long next) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).putLong(0, next), 24);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.Pages.Http;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🎚️ Adaptive limiter AIMD logic
+ * ------------------------------
+ * The limiter (initial 5, range 1..200) is driven in rounds: every free slot
+ * is taken, then each call is answered with a synthetic status and RTT that
+ * depend on its place in the round, so no test sleeps or depends on timing:
+ * 1. A backend that answers 429 to anything past 20 calls in flight: the 429s
+ *    cut the limit, which settles just under the capacity
+ * 2. A backend that never answers 429 but queues everything past 10 calls in
+ *    flight (call i waits i / 10 service times): only the rising RTT cuts the
+ *    limit, which settles between 2× and 3× the capacity, as the tolerance of
+ *    2.0 allows a mean RTT of twice the baseline
+ * 3. An unlimited backend with a 1ms and a 50ms endpoint (4 : 1 calls): each
+ *    is judged against its own baseline, so the limit climbs to its max
+ *    without a single cut
+ * 4. -Dinvoo.limiter.live=true adds a convergence check against a simulated
+ *    backend with real sleeps: 100 virtual-thread callers for 3s, capacity
+ *    -Dinvoo.limiter.capacity (default 20)
+ */
+public class AdaptiveLimiterTest {
+
+    private static final long MS = Duration.ofMillis(1).toNanos();
+    private static final int ROUNDS = 400;
+
+    @Test
+    public void throttlingSettlesTheLimitAtBackendCapacity() throws Exception {
+        int capacity = 20;
+        AdaptiveLimiter limiter = limiter(200);
+        rounds(limiter, i -> i < capacity ? new Call("GET /simulated", 200, 5 * MS) : new Call("GET /simulated", 429, -1));
+
+        double settled = limiter.settled();
+        Assert.assertTrue("❌ The 429s never cut the limit:\n" + limiter.report(), limiter.cuts() > 0);
+        Assert.assertTrue("❌ Limit settled at " + settled + ", expected " + capacity * 0.8 + ".." + capacity * 1.1
+                        + " for a backend capacity of " + capacity + ":\n" + limiter.report(),
+                settled >= capacity * 0.8 && settled <= capacity * 1.1);
+        Assert.assertEquals("❌ Expected per-endpoint settled limit to match the host's", settled,
+                limiter.settled("GET /simulated"), 0.001);
+    }
+
+    @Test
+    public void risingLatencyAloneCutsTheLimit() throws Exception {
+        int capacity = 10;
+        AdaptiveLimiter limiter = limiter(200);
+        rounds(limiter, i -> new Call("GET /queued", 200, 5 * MS * (i / capacity + 1)));
+
+        double settled = limiter.settled();
+        Assert.assertTrue("❌ Queueing never cut the limit:\n" + limiter.report(), limiter.cuts() > 0);
+        Assert.assertTrue("❌ Limit settled at " + settled + ", expected " + capacity * 2 + ".." + capacity * 3
+                        + " for " + capacity + " backend workers:\n" + limiter.report(),
+                settled >= capacity * 2 && settled <= capacity * 3);
+    }
+
+    @Test
+    public void mixedEndpointSpeedsDoNotCutTheLimit() throws Exception {
+        AdaptiveLimiter limiter = limiter(60);
+        rounds(limiter, i -> i % 5 == 0
+                ? new Call("GET /transaction/deposits", 200, 50 * MS)
+                : new Call("GET /analytics/status-counts", 200, MS));
+
+        Assert.assertEquals("❌ Cut the limit on a backend without a capacity limit:\n" + limiter.report(),
+                0, limiter.cuts());
+        Assert.assertEquals("❌ Limit stopped climbing on a backend without a capacity limit:\n" + limiter.report(),
+                60, limiter.limit());
+    }
+
+    @Test
+    public void liveLimitSettlesNearBackendCapacity() throws Exception {
+        Assume.assumeTrue("🎚️ Set -Dinvoo.limiter.live=true for the real-time convergence check",
+                Boolean.getBoolean("invoo.limiter.live"));
+        int capacity = Integer.getInteger("invoo.limiter.capacity", 20);
+        AdaptiveLimiter limiter = limiter(200);
+        AtomicInteger backendInFlight = new AtomicInteger();
+        List<Thread> callers = new ArrayList<>();
+        long deadline = System.nanoTime() + Duration.ofSeconds(3).toNanos();
+        for (int i = 0; i < 100; i++) {
+            callers.add(Thread.ofVirtual().name("caller-" + i).start(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        if (!limiter.tryAcquire(Duration.ofSeconds(1).toNanos())) {
+                            continue;
+                        }
+                        long start = System.nanoTime();
+                        try {
+                            int status = 429;
+                            if (backendInFlight.incrementAndGet() <= capacity) {
+                                Thread.sleep(Duration.ofMillis(5));
+                                status = 200;
+                            }
+                            limiter.onResponse("GET /simulated", status, System.nanoTime() - start);
+                        } finally {
+                            backendInFlight.decrementAndGet();
+                            limiter.release();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (Thread caller : callers) {
+            caller.join();
+        }
+        System.out.println(limiter.report());
+
+        double settled = limiter.settled();
+        Assert.assertTrue("❌ The 429s never cut the limit:\n" + limiter.report(), limiter.cuts() > 0);
+        Assert.assertTrue("❌ Limit settled at " + settled + ", expected " + capacity / 2.0 + ".." + capacity * 1.25
+                        + " for a backend capacity of " + capacity + ":\n" + limiter.report(),
+                settled >= capacity / 2.0 && settled <= capacity * 1.25);
+    }
+
+    private static AdaptiveLimiter limiter(int max) {
+        return new AdaptiveLimiter("simulated", true, 5, 1, max, 2.0, Duration.ofMillis(5), 0.9);
+    }
+
+    /** One synthetic response: endpoint, status and RTT (-1 = none) */
+    private record Call(String endpoint, int status, long rttNanos) {
+    }
+
+    private interface Backend {
+        /** Answers the i-th call of a round */
+        Call call(int i);
+    }
+
+    /** ROUNDS times: fills every free slot, then answers and releases the calls in order */
+    private static void rounds(AdaptiveLimiter limiter, Backend backend) throws InterruptedException {
+        for (int round = 0; round < ROUNDS; round++) {
+            int inFlight = 0;
+            while (limiter.tryAcquire(0)) {
+                inFlight++;
+            }
+            for (int i = 0; i < inFlight; i++) {
+                Call call = backend.call(i);
+                limiter.onResponse(call.endpoint(), call.status(), call.rttNanos());
+                limiter.release();
+            }
+        }
+        System.out.println(limiter.report());
+    }
+}
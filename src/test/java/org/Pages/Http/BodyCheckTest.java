@@ -0,0 +1,89 @@
+package org.Pages.Http;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 📚 extract + forEach over a multi-window page
+ * ---------------------------------------------
+ * The check PageCrawler uses (json("content").extract(totals).forEach("content"))
+ * run through BodyReader on a ~40 KB page, so the parser refills its 8 KB
+ * window inside elements, keys and values:
+ * 1. Every element arrives whole and in order
+ * 2. totalElements / totalPages / last after the array are still extracted
+ * 3. Same result whether the stream hands out full windows or ragged chunks,
+ *    for a range of offsets of the page inside the stream
+ */
+public class BodyCheckTest {
+
+    private static final int ELEMENTS = 300;
+
+    @Test
+    public void elementsAndTotalsAcrossRefills() throws IOException {
+        for (int shift = 0; shift < 64; shift += 7) {
+            for (int chunk : new int[]{Integer.MAX_VALUE, 997, 61}) {
+                List<String> expected = new ArrayList<>();
+                byte[] page = page(shift, expected);
+                Assert.assertTrue("❌ Page should span several windows", page.length > 4 * 8192);
+
+                List<String> streamed = new ArrayList<>();
+                BodyCheck check = BodyCheck.json("content")
+                        .extract("totalElements", "totalPages", "last")
+                        .forEach("content", record -> streamed.add(new String(record, StandardCharsets.UTF_8)));
+                BodyReader.Body body = BodyReader.read(new Chunked(page, chunk), check, false, 64);
+
+                String where = " (shift " + shift + ", chunks of " + chunk + ")";
+                Assert.assertEquals("❌ Violations" + where, List.of(), body.violations());
+                Assert.assertEquals("❌ Streamed elements differ" + where, expected, streamed);
+                Assert.assertEquals("❌ totalElements lost" + where, ELEMENTS, body.fields().longValue("totalElements", -1));
+                Assert.assertEquals("❌ totalPages lost" + where, 3, body.fields().longValue("totalPages", -1));
+                Assert.assertEquals("❌ last lost" + where, "false", body.fields().string("last"));
+                Assert.assertEquals("❌ content length" + where, ELEMENTS, body.fields().arrayLength("content"));
+                Assert.assertEquals(page.length, body.length());
+            }
+        }
+    }
+
+    /** {"pad":"…","content":[{…}, …],"totalElements":…,"totalPages":3,"last":false} */
+    private static byte[] page(int shift, List<String> elements) {
+        StringBuilder sb = new StringBuilder("{\"pad\":\"").append("p".repeat(shift)).append("\",\"content\":[");
+        for (int i = 0; i < ELEMENTS; i++) {
+            String element = "{\"id\":" + i + ",\"email\":\"customer" + i + "@example.com\",\"note\":\"line\\n"
+                    + "n".repeat(i % 97) + "\",\"tags\":[\"a\",\"b\"],\"amount\":" + (i * 10.5) + ",\"active\":"
+                    + (i % 2 == 0) + ",\"owner\":null}";
+            elements.add(element);
+            sb.append(i == 0 ? "" : ",").append(element);
+        }
+        sb.append("],\"totalElements\":").append(ELEMENTS).append(",\"totalPages\":3,\"last\":false}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Hands out at most `chunk` bytes per read, like a socket delivering segments */
+    private static final class Chunked extends InputStream {
+
+        private final ByteArrayInputStream in;
+        private final int chunk;
+
+        private Chunked(byte[] bytes, int chunk) {
+            this.in = new ByteArrayInputStream(bytes);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read() {
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return in.read(b, off, Math.min(len, chunk));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.Pages.Http;
+
+import org.Pages.Stub.StubServer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+
+/**
+ * ⚡ Circuit breaker state machine
+ * --------------------------------
+ * 1. CLOSED → OPEN only once minCalls calls are in the window and the failure
+ *    share reaches failureRate
+ * 2. OPEN rejects with HostUnavailableException; through HttpEngine against
+ *    a stub answering 503, the rejected calls never reach the stub
+ * 3. After openFor exactly one HALF_OPEN probe is let through
+ * 4. A successful probe closes the circuit with an empty window; a failed
+ *    probe opens it again
+ * 5. release() (interrupted call, bulkhead timeout) frees the probe slot
+ */
+public class CircuitBreakerTest {
+
+    private static final Duration OPEN_FOR = Duration.ofMillis(50);
+
+    @Test
+    public void tripsOnlyAfterMinCallsAtFailureRate() throws Exception {
+        CircuitBreaker breaker = breaker(Duration.ofHours(1));
+        for (int i = 0; i < 3; i++) {
+            breaker.acquire();
+            breaker.onFailure();
+        }
+        Assert.assertEquals("❌ Tripped on 3 calls with minCalls 4", CircuitBreaker.State.CLOSED, breaker.state());
+        breaker.acquire();
+        breaker.onFailure();
+        Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        Assert.assertEquals(1, breaker.trips());
+
+        CircuitBreaker mixed = breaker(Duration.ofHours(1));
+        for (int status : new int[]{200, 503, 200, 200, 503}) {
+            mixed.acquire();
+            mixed.onResponse(status);
+        }
+        Assert.assertEquals("❌ Tripped at 2 of 5 failed", CircuitBreaker.State.CLOSED, mixed.state());
+        mixed.acquire();
+        mixed.onResponse(502);
+        Assert.assertEquals("❌ 3 of 6 failed should reach the 0.5 failure rate",
+                CircuitBreaker.State.OPEN, mixed.state());
+    }
+
+    @Test
+    public void openCircuitRejectsWithoutTouchingTheNetwork() throws Exception {
+        CircuitBreaker breaker = tripped(Duration.ofHours(1));
+        Assert.assertThrows(HostUnavailableException.class, breaker::acquire);
+        Assert.assertThrows(HostUnavailableException.class, breaker::acquire);
+        Assert.assertEquals(2, breaker.rejected());
+
+        try (StubServer stub = StubServer.start(0, new StubServer.Faults(0, Duration.ZERO, 1.0))) {
+            ApiRequest request = ApiRequest.get(stub.baseUrl() + "/assets/locale/en-US.json");
+            int sent = 0;
+            while (sent < 20) {
+                try {
+                    Assert.assertEquals(503, HttpEngine.shared().send(request).status());
+                    sent++;
+                } catch (HostUnavailableException e) {
+                    break;
+                }
+            }
+            Assert.assertTrue("❌ 20 calls answered 503 and the circuit never opened", sent < 20);
+            long reached = stub.requests();
+            for (int i = 0; i < 5; i++) {
+                Assert.assertThrows(HostUnavailableException.class, () -> HttpEngine.shared().send(request));
+            }
+            Assert.assertEquals("❌ Calls rejected by the open circuit reached the stub", reached, stub.requests());
+        }
+    }
+
+    @Test
+    public void halfOpenLetsExactlyOneProbeThrough() throws Exception {
+        CircuitBreaker breaker = tripped(OPEN_FOR);
+        Assert.assertThrows(HostUnavailableException.class, breaker::acquire);
+        Thread.sleep(OPEN_FOR.toMillis() + 20);
+
+        breaker.acquire();
+        Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        Assert.assertThrows("❌ A second probe went through", HostUnavailableException.class, breaker::acquire);
+        Assert.assertThrows(HostUnavailableException.class, breaker::acquire);
+    }
+
+    @Test
+    public void successfulProbeClosesAndResetsTheWindow() throws Exception {
+        CircuitBreaker breaker = tripped(OPEN_FOR);
+        Thread.sleep(OPEN_FOR.toMillis() + 20);
+        breaker.acquire();
+        breaker.onResponse(200);
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        // the 4 failures that tripped it are gone: 3 new ones stay under minCalls
+        for (int i = 0; i < 3; i++) {
+            breaker.acquire();
+            breaker.onFailure();
+        }
+        Assert.assertEquals("❌ The window kept the failures from before the probe",
+                CircuitBreaker.State.CLOSED, breaker.state());
+        Assert.assertEquals(1, breaker.trips());
+    }
+
+    @Test
+    public void failedProbeOpensAgain() throws Exception {
+        CircuitBreaker breaker = tripped(OPEN_FOR);
+        Thread.sleep(OPEN_FOR.toMillis() + 20);
+        breaker.acquire();
+        breaker.onResponse(504);
+        Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        Assert.assertEquals(2, breaker.trips());
+        Assert.assertThrows(HostUnavailableException.class, breaker::acquire);
+    }
+
+    @Test
+    public void releaseFreesTheProbeSlot() throws Exception {
+        CircuitBreaker breaker = tripped(OPEN_FOR);
+        Thread.sleep(OPEN_FOR.toMillis() + 20);
+        breaker.acquire();
+        // the probe was interrupted / timed out in the bulkhead: no verdict
+        breaker.release();
+        Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        breaker.acquire();
+        Assert.assertThrows(HostUnavailableException.class, breaker::acquire);
+        breaker.onResponse(200);
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    /** Window 10, minCalls 4, failure rate 0.5 */
+    private static CircuitBreaker breaker(Duration openFor) {
+        return new CircuitBreaker("test", true, 10, 4, 0.5, openFor);
+    }
+
+    private static CircuitBreaker tripped(Duration openFor) throws HostUnavailableException {
+        CircuitBreaker breaker = breaker(openFor);
+        for (int i = 0; i < 4; i++) {
+            breaker.acquire();
+            breaker.onFailure();
+        }
+        Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        return breaker;
+    }
+}
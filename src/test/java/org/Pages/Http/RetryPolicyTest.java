@@ -0,0 +1,112 @@
+package org.Pages.Http;
+
+import org.Pages.Stub.StubServer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 🔁 Retry budget and hedge race
+ * ------------------------------
+ * 1. RetryBudget(0.1, 10): the burst of 10 is spent first, then one extra
+ *    attempt per 10 requests; a quiet period never saves up more than 10
+ * 2. Against a stub of its own that delays half of the GETs by 150ms and
+ *    answers every GET with 503, hedges fire but a fast 503 never beats the
+ *    slow primary (no hedge win, the primary's 503 is returned)
+ * 3. Same stub without the 503s: hedges do win against slow primaries and
+ *    every response is a 200
+ */
+public class RetryPolicyTest {
+
+    private static final int WARM_UP = 16;
+    private static final int REQUESTS = WARM_UP + 24;
+    private static final Duration SLOW = Duration.ofMillis(150);
+
+    @Test
+    public void budgetAllowsBurstThenTenPercent() {
+        RetryBudget budget = new RetryBudget(0.1, 10);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue("❌ Burst token " + (i + 1) + " denied", budget.tryWithdraw());
+        }
+        Assert.assertFalse("❌ An 11th attempt went through an empty bucket", budget.tryWithdraw());
+
+        for (int i = 0; i < 9; i++) {
+            budget.deposit();
+        }
+        Assert.assertFalse("❌ 9 requests × 0.1 paid for a whole retry", budget.tryWithdraw());
+        budget.deposit();
+        Assert.assertTrue("❌ 10 requests × 0.1 didn't pay for a retry", budget.tryWithdraw());
+
+        for (int i = 0; i < 1000; i++) {
+            budget.deposit();
+        }
+        int allowed = 0;
+        while (budget.tryWithdraw()) {
+            allowed++;
+        }
+        Assert.assertEquals("❌ A quiet period saved up past the burst", 10, allowed);
+
+        int extra = 0;
+        for (int i = 0; i < 1000; i++) {
+            budget.deposit();
+            if (budget.tryWithdraw()) {
+                extra++;
+            }
+        }
+        Assert.assertEquals("❌ Retrying every request should get 10 % extra attempts", 100, extra);
+        Assert.assertEquals(10 + 1 + 10 + 100, budget.spent());
+    }
+
+    @Test
+    public void fastRetryableStatusNeverWinsTheHedgeRace() throws Exception {
+        Map<Integer, Integer> statuses = new TreeMap<>();
+        RetryPolicy policy = hedgeAgainst(new StubServer.Faults(0.5, SLOW, 1.0), statuses);
+
+        Assert.assertTrue("❌ No hedge was sent, the race never ran", policy.hedges() > 0);
+        Assert.assertEquals("❌ A hedge's 503 won over the primary (" + policy.hedges() + " hedges)",
+                0, policy.hedgeWins());
+        Assert.assertEquals("❌ Expected the 503s back for the retry loop: " + statuses,
+                Map.of(503, REQUESTS), statuses);
+    }
+
+    @Test
+    public void hedgeWinsAgainstSlowPrimary() throws Exception {
+        Map<Integer, Integer> statuses = new TreeMap<>();
+        RetryPolicy policy = hedgeAgainst(new StubServer.Faults(0.5, SLOW, 0), statuses);
+
+        Assert.assertEquals("❌ Unexpected statuses: " + statuses, Map.of(200, REQUESTS), statuses);
+        Assert.assertTrue("❌ No hedge beat a slow primary (" + policy.hedges() + " hedges)", policy.hedgeWins() > 0);
+    }
+
+    /** Sends REQUESTS GETs one after another through a hedging policy without retries; statuses are counted */
+    private static RetryPolicy hedgeAgainst(StubServer.Faults faults, Map<Integer, Integer> statuses)
+            throws IOException, InterruptedException {
+        // hedge after max(30ms, p1) once WARM_UP responses are in: only the slow primaries get a hedge
+        RetryPolicy policy = new RetryPolicy(true, 1, WARM_UP, Duration.ofMillis(30), 0, Duration.ofMillis(1),
+                new RetryBudget(1.0, 1000));
+        AdaptiveLimiter limiter = new AdaptiveLimiter("stub", false, 64, 1, 64, 2.0, Duration.ZERO, 0.9);
+        PhaseTimings phases = new PhaseTimings(false);
+        try (StubServer stub = StubServer.start(0, faults);
+             HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            ApiRequest request = ApiRequest.get(stub.baseUrl() + "/assets/locale/en-US.json");
+            for (int i = 0; i < REQUESTS; i++) {
+                HttpResponse<InputStream> response = policy.send(client, limiter, request,
+                        request.toHttpRequest(Duration.ofSeconds(5)), phases.trace(request, new PhaseTimings.Setups()));
+                try (InputStream body = response.body()) {
+                    body.transferTo(OutputStream.nullOutputStream());
+                }
+                statuses.merge(response.statusCode(), 1, Integer::sum);
+            }
+        }
+        System.out.println(policy.report());
+        return policy;
+    }
+}
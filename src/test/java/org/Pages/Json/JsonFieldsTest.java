@@ -0,0 +1,88 @@
+package org.Pages.Json;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 🔎 Streaming extractor across window refills
+ * --------------------------------------------
+ * The stream parser reads 8192-byte windows; keys, colons and values are
+ * moved across that boundary one byte at a time, and every position must
+ * yield the same fields as a single-window parse. A tail longer than a window
+ * follows, so the refill really overwrites the bytes before the boundary.
+ * validate() must also reject what is not JSON: misspelt keywords, numbers
+ * outside the RFC 8259 grammar, bare words, bad escapes and raw control
+ * characters inside strings (also when they sit in a skipped subtree).
+ */
+public class JsonFieldsTest {
+
+    private static final int WINDOW = 8192;
+    private static final JsonFields FIELDS = JsonFields.of("totalElements", "page.number");
+
+    @Test
+    public void keyAndValueAcrossRefillBoundary() throws IOException {
+        for (int keyEnd = WINDOW - 12; keyEnd <= WINDOW + 12; keyEnd++) {
+            byte[] json = padded(keyEnd, "totalElements", ":12345,\"page\":{\"number\":\"7\"}}");
+            Assert.assertEquals("❌ Closing quote at byte " + keyEnd, (byte) '"', json[keyEnd]);
+
+            JsonFields.Values values = FIELDS.extract(new ByteArrayInputStream(json));
+            Assert.assertEquals("❌ totalElements lost with its key ending at byte " + keyEnd,
+                    "12345", values.string("totalElements"));
+            Assert.assertEquals("❌ page.number lost with the first key ending at byte " + keyEnd,
+                    "7", values.string("page.number"));
+            Assert.assertEquals("❌ validate() disagrees with the key ending at byte " + keyEnd,
+                    "12345", FIELDS.validate(new ByteArrayInputStream(json)).string("totalElements"));
+        }
+    }
+
+    @Test
+    public void nestedKeyAcrossRefillBoundary() throws IOException {
+        for (int keyEnd = WINDOW - 4; keyEnd <= WINDOW + 4; keyEnd++) {
+            byte[] json = padded(keyEnd, "page", ":{\"number\":\"3\"},\"totalElements\":9}");
+            JsonFields.Values values = FIELDS.extract(new ByteArrayInputStream(json));
+            Assert.assertEquals("❌ page.number lost with \"page\" ending at byte " + keyEnd,
+                    "3", values.string("page.number"));
+            Assert.assertEquals("9", values.string("totalElements"));
+        }
+    }
+
+    @Test
+    public void validateRejectsMalformedScalars() {
+        String[] malformed = {
+                "{\"a\":tru}", "{\"a\":truex}", "{\"a\":nul}", "{\"a\":False}", "{\"a\":hello}",
+                "{\"a\":NaN}", "{\"a\":Infinity}", "{\"a\":1.2.3}", "{\"a\":01}", "{\"a\":-}", "{\"a\":1.}",
+                "{\"a\":.5}", "{\"a\":+1}", "{\"a\":1e}", "{\"a\":1e+}", "{\"a\":0x10}", "{\"a\":1-2}",
+                "{\"a\":\"line\nbreak\"}", "{\"a\":\"tab\tinside\"}", "{\"a\":\"bad \\x escape\"}",
+                "{\"a\":\"bad \\u12G4 escape\"}", "{\"line\nkey\":1}", "[1,tru]", "[\"raw \u0001\"]",
+        };
+        for (String json : malformed) {
+            Assert.assertThrows("❌ validate() accepted " + json, MalformedJsonException.class,
+                    () -> FIELDS.validate(stream(json)));
+        }
+    }
+
+    @Test
+    public void validateAcceptsEveryScalarForm() throws IOException {
+        String json = "{\"t\":true,\"f\":false,\"n\":null,\"numbers\":[0,-0,7,-12,3.25,-0.5,1e9,1E+2,2.5e-3,10E0],"
+                + "\"s\":\"esc \\\" \\\\ \\/ \\b \\f \\n \\r \\t \\u00e9 é\",\"totalElements\":42}";
+        Assert.assertEquals("42", FIELDS.validate(stream(json)).string("totalElements"));
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** {"pad":"xxx…","<key>"<rest>,"tail":"yyy…"} with the key's closing quote at byte keyEnd */
+    private static byte[] padded(int keyEnd, String key, String rest) {
+        String head = "{\"pad\":\"";
+        String beforeQuote = "\",\"" + key;
+        int padding = keyEnd - head.length() - beforeQuote.length();
+        String tail = ",\"tail\":\"" + "y".repeat(2 * WINDOW) + "\"}";
+        return (head + "x".repeat(padding) + beforeQuote + "\"" + rest.substring(0, rest.length() - 1) + tail)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
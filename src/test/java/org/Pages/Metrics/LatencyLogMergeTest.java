@@ -0,0 +1,82 @@
+package org.Pages.Metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 🔗 Latency log tags survive a merge
+ * -----------------------------------
+ * 1. tag() / keyOf() round-trip keys with spaces, '_', ',' and '%', and no
+ *    tag contains whitespace or a comma
+ * 2. Two .hlog files written with those tags merge back to the original keys
+ *    (the " CACHED" series included) with their counts summed, also after
+ *    LatencyLogMerge -o wrote the merged totals out again
+ */
+public class LatencyLogMergeTest {
+
+    private static final List<String> KEYS = List.of(
+            "GET /api/v1/transactions",
+            "GET /assets/locale/en-US.json" + LatencyRecorder.CACHED,
+            "GET /api/v1/merchant_settings/{id}" + LatencyRecorder.CACHED,
+            "GET /search/a%2Cb,c_d%5F");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void tagsRoundTrip() {
+        for (String key : KEYS) {
+            String tag = LatencyRecorder.tag(key);
+            Assert.assertFalse("❌ Tag " + tag + " would break the .hlog line", tag.matches(".*[\\s,].*"));
+            Assert.assertEquals(key, LatencyRecorder.keyOf(tag));
+        }
+        Assert.assertEquals("❌ A tag written before the escaping didn't decode", "GET /a CACHED",
+                LatencyRecorder.keyOf("GET_/a_CACHED"));
+    }
+
+    @Test
+    public void mergeRestoresEveryKey() throws Exception {
+        Path first = log("first.hlog", 10);
+        Path second = log("second.hlog", 5);
+
+        Map<String, Histogram> merged = LatencyLogMerge.merge(List.of(first, second));
+        Assert.assertEquals(Set.copyOf(KEYS), merged.keySet());
+        merged.values().forEach(h -> Assert.assertEquals(15, h.getTotalCount()));
+
+        Path output = folder.getRoot().toPath().resolve("merged.hlog");
+        LatencyLogMerge.main(new String[]{first.toString(), second.toString(), "-o", output.toString()});
+        Map<String, Histogram> again = LatencyLogMerge.merge(List.of(output));
+        Assert.assertEquals(Set.copyOf(KEYS), again.keySet());
+        again.values().forEach(h -> Assert.assertEquals(15, h.getTotalCount()));
+    }
+
+    /** One interval per key, `count` samples each, tagged the way LatencyRecorder does */
+    private Path log(String name, int count) throws IOException {
+        Path file = folder.getRoot().toPath().resolve(name);
+        try (PrintStream out = new PrintStream(file.toFile(), "UTF-8")) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            for (String key : KEYS) {
+                Histogram h = new Histogram(1, LatencyRecorder.MAX_MICROS, 3);
+                h.setStartTimeStamp(System.currentTimeMillis());
+                h.recordValueWithCount(1_000, count);
+                h.setEndTimeStamp(System.currentTimeMillis());
+                h.setTag(LatencyRecorder.tag(key));
+                writer.outputIntervalHistogram(h);
+            }
+        }
+        return file;
+    }
+}
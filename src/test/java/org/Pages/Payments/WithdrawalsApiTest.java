@@ -1,11 +1,15 @@
 package org.Pages.Payments;
 
+import org.Pages.Auth.SessionManager;
+import org.Pages.Http.ApiLog;
+import org.Pages.Http.ApiRequest;
+import org.Pages.Http.ApiResponse;
+import org.Pages.Http.Hosts;
+import org.Pages.Http.HttpEngine;
 import org.junit.Assert;
 import org.junit.Test;
 
-import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.IOException;
 
 /**
  * ✅ Withdrawals API Tests
@@ -15,72 +19,21 @@ import java.net.URL;
  */
 public class WithdrawalsApiTest {
 
-    private static final String LOGIN_URL = "https://pay-app-oilbv.ondigitalocean.app/api/v1/auth/login";
-    private static final String WITHDRAWALS_URL = "https://pay-app-oilbv.ondigitalocean.app/api/v1/transaction/withdrawals";
+    private static final String LOGIN_URL = Hosts.API + "/api/v1/auth/login";
+    private static final String WITHDRAWALS_URL = Hosts.API + "/api/v1/transaction/withdrawals";
     private static final String USERNAME = "sa";
     private static final String PASSWORD = "123456";
 
-    /** 🔐 Logs in and retrieves JWT token */
+    /** 🔐 JWT token from the run-wide session (one login per run) */
     private String loginAndGetToken() throws IOException {
-        URL url = new URL(LOGIN_URL);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("POST");
-        conn.setRequestProperty("Content-Type", "application/json");
-        conn.setDoOutput(true);
-
-        String jsonBody = String.format("{\"username\":\"%s\",\"password\":\"%s\"}", USERNAME, PASSWORD);
-        try (OutputStream os = conn.getOutputStream()) {
-            os.write(jsonBody.getBytes());
-        }
-
-        if (conn.getResponseCode() != 200) {
-            throw new RuntimeException("❌ Login failed! HTTP " + conn.getResponseCode());
-        }
-
-        StringBuilder response = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
-            String line;
-            while ((line = reader.readLine()) != null) response.append(line);
-        }
-        conn.disconnect();
-
-        String token = null;
-        if (response.toString().contains("\"token\"")) {
-            token = response.toString().split("\"token\"\\s*:\\s*\"")[1].split("\"")[0];
-        }
-        if (token == null) throw new RuntimeException("❌ Token not found!");
-
-        System.out.println("✅ Logged in successfully, token acquired.");
-        return token;
+        return SessionManager.shared().token(LOGIN_URL, USERNAME, PASSWORD);
     }
 
     /** 🌐 Generic HTTP request sender */
     private int sendRequest(String urlStr, String method, String token, String body) throws IOException {
-        URL url = new URL(urlStr);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod(method);
-        conn.setRequestProperty("Accept", "application/json");
-        conn.setRequestProperty("Authorization", "Bearer " + token);
-
-        if (body != null) {
-            conn.setDoOutput(true);
-            conn.setRequestProperty("Content-Type", "application/json");
-            try (OutputStream os = conn.getOutputStream()) {
-                os.write(body.getBytes());
-            }
-        }
-
-        int code = conn.getResponseCode();
-
-        if (code != 200) {
-            System.err.println("❌ Request failed: " + urlStr);
-            System.err.println("HTTP Status: " + code);
-        } else {
-            System.out.println("✅ Success: " + urlStr + " → " + code);
-        }
-
-        conn.disconnect();
-        return code;
+        ApiResponse response = HttpEngine.shared().send(ApiRequest.of(method, urlStr).bearer(token).body(body));
+        ApiLog.response(urlStr, response);
+        return response.status();
     }
 
     // === TEST CASE ===
@@ -0,0 +1,93 @@
+package org.Pages.Performance;
+
+import org.Pages.Auth.CredentialPool;
+import org.Pages.Auth.Credentials;
+import org.Pages.Http.ApiResponse;
+import org.Pages.Http.Endpoint;
+import org.Pages.Http.Hosts;
+import org.Pages.Http.HttpEngine;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 👥 Credential pool check
+ * ------------------------
+ * 1. Loads -Dinvoo.credentials.file (under the stub profile, four merchant
+ *    users unless set) and logs everyone in up front
+ * 2. Fails if a user could not log in
+ * 3. Sends STATUS_COUNTS round-robin over the pool; fails on any error or
+ *    when the users didn't get an even share
+ * 4. Prints the per-user table
+ * 5. Slicing the users for distributed workers gives every user to exactly one
+ *    worker, and refuses to split fewer users than workers
+ */
+public class CredentialPoolTest {
+
+    private static final int CALLS = 40;
+
+    @Test
+    public void loginAllAndSpreadCalls() throws IOException {
+        String file = System.getProperty("invoo.credentials.file");
+        Assume.assumeTrue("👥 Set -Dinvoo.credentials.file to check a user pool outside the stub profile",
+                file != null || "stub".equals(Hosts.PROFILE));
+        Path users;
+        if (file != null) {
+            users = Path.of(file);
+        } else {
+            users = Files.createTempFile("invoo-users", ".txt");
+            users.toFile().deleteOnExit();
+            Files.writeString(users, "# stub merchant users\nmerchant1:123456\nmerchant2:123456\nmerchant3:123456\nmerchant4:123456\n");
+        }
+        List<Credentials> credentials = CredentialPool.load(users, Endpoint.LOGIN.url());
+        CredentialPool pool = new CredentialPool(credentials, CredentialPool.Assignment.ROUND_ROBIN, 4);
+
+        int loggedIn = pool.loginAll();
+        Assert.assertEquals("❌ Not every pool user could log in", credentials.size(), loggedIn);
+
+        Map<Credentials, Integer> calls = new HashMap<>();
+        for (int i = 0; i < CALLS; i++) {
+            Credentials user = pool.assign(i);
+            ApiResponse response = HttpEngine.shared().send(Endpoint.STATUS_COUNTS.request(pool.token(user)).noCache());
+            pool.record(user, response.status());
+            calls.merge(user, 1, Integer::sum);
+            Assert.assertEquals("❌ " + user.username() + " got HTTP " + response.status(), 200, response.status());
+        }
+        System.out.println(pool.report());
+
+        int min = calls.values().stream().mapToInt(Integer::intValue).min().orElse(0);
+        int max = calls.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        Assert.assertEquals("❌ Round-robin left a user out: " + calls.keySet(), loggedIn, calls.size());
+        Assert.assertTrue("❌ Uneven round-robin share: " + min + " to " + max + " calls per user", max - min <= 1);
+        Assert.assertTrue("❌ Hot users: " + pool.hotUsers(), pool.hotUsers().isEmpty());
+    }
+
+    @Test
+    public void workerSlicesAreDisjoint() throws IOException {
+        List<Credentials> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            users.add(new Credentials(Endpoint.LOGIN.url(), "user" + i, "secret"));
+        }
+        for (int workers = 1; workers <= 4; workers++) {
+            List<Credentials> seen = new ArrayList<>();
+            for (int worker = 0; worker < workers; worker++) {
+                List<Credentials> slice = CredentialPool.slice(users, worker, workers);
+                Assert.assertTrue("❌ Uneven slice " + worker + " of " + workers + ": " + slice.size(),
+                        slice.size() >= users.size() / workers && slice.size() <= users.size() / workers + 1);
+                seen.addAll(slice);
+            }
+            Assert.assertEquals("❌ Users shared between " + workers + " workers", seen.size(), new HashSet<>(seen).size());
+            Assert.assertEquals("❌ Users left out over " + workers + " workers", new HashSet<>(users), new HashSet<>(seen));
+        }
+        Assert.assertThrows(IOException.class, () -> CredentialPool.slice(users.subList(0, 2), 0, 3));
+    }
+}
@@ -0,0 +1,63 @@
+package org.Pages.Performance;
+
+import org.Pages.Http.Hosts;
+import org.Pages.Load.EndpointMix;
+import org.Pages.Load.LoadCoordinator;
+import org.Pages.Load.LoadPlan;
+import org.Pages.Load.LoadReport;
+import org.Pages.Load.LoadWorker;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🧭 Coordinator / worker check on one machine
+ * --------------------------------------------
+ * 1. Starts two LoadWorkers in this JVM on free local ports
+ * 2. A LoadCoordinator splits a small plan (-Dinvoo.dist.rps, default 40 rps
+ *    of STATUS_COUNTS + SUMMARY for 2s) between them over the socket protocol
+ * 3. Fails if the merged report has errors or is missing arrivals
+ *
+ * Only runs under the stub profile, or against a real backend when
+ * -Dinvoo.dist.rps is set explicitly
+ */
+public class DistributedLoadTest {
+
+    private static final int WORKERS = 2;
+
+    @Test
+    public void coordinatorMergesWorkerResults() throws Exception {
+        Assume.assumeTrue("🧭 Set -Dinvoo.dist.rps to send a distributed load run outside the stub profile",
+                "stub".equals(Hosts.PROFILE) || System.getProperty("invoo.dist.rps") != null);
+        double rps = Double.parseDouble(System.getProperty("invoo.dist.rps", "40"));
+        LoadPlan plan = new LoadPlan(rps, Duration.ZERO, Duration.ofSeconds(2), Duration.ZERO, 1000, false, 100);
+
+        List<LoadWorker> workers = new ArrayList<>();
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        try {
+            for (int i = 0; i < WORKERS; i++) {
+                LoadWorker worker = LoadWorker.start(0);
+                workers.add(worker);
+                addresses.add(new InetSocketAddress("127.0.0.1", worker.port()));
+                Thread.ofVirtual().name("test-worker-" + i).start(() -> worker.serve(true));
+            }
+            LoadReport report = new LoadCoordinator(addresses)
+                    .run(plan, EndpointMix.parse("STATUS_COUNTS:1,SUMMARY:1"));
+            System.out.println(report);
+
+            long expected = Math.round(rps * 2);
+            Assert.assertEquals("❌ Distributed run had errors:\n" + report, 0, report.errors());
+            Assert.assertTrue("❌ Expected about " + expected + " arrivals, got " + report.sent() + ":\n" + report,
+                    report.sent() >= expected - WORKERS && report.sent() <= expected + WORKERS);
+        } finally {
+            for (LoadWorker worker : workers) {
+                worker.close();
+            }
+        }
+    }
+}
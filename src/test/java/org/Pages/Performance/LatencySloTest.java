@@ -0,0 +1,88 @@
+package org.Pages.Performance;
+
+import org.HdrHistogram.Histogram;
+import org.Pages.Auth.SessionManager;
+import org.Pages.Http.ApiResponse;
+import org.Pages.Http.Endpoint;
+import org.Pages.Http.HttpEngine;
+import org.Pages.Metrics.Durations;
+import org.Pages.Metrics.LatencyBudget;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ⏱️ Latency SLO checks
+ * ---------------------
+ * One test per budget in latency-slo.properties:
+ * 1. Warms the endpoint up (connection, JIT, server caches)
+ * 2. Calls it N times, one after another, through the shared HttpEngine
+ * 3. Fails if any call is not 2xx or the measured percentile is over budget
+ *
+ * Kept out of ParallelApiSuite: concurrent suites would skew the samples.
+ */
+@RunWith(Parameterized.class)
+public class LatencySloTest {
+
+    private static final String USERNAME = "sa";
+    private static final String PASSWORD = "123456";
+
+    private final LatencyBudget budget;
+
+    public LatencySloTest(String name, LatencyBudget budget) {
+        this.budget = budget;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> budgets() throws IOException {
+        List<Object[]> params = new ArrayList<>();
+        for (LatencyBudget budget : LatencyBudget.load()) {
+            params.add(new Object[]{budget.toString(), budget});
+        }
+        return params;
+    }
+
+    /**
+     * Returns the JWT token from the run-wide session (one login per run).
+     */
+    private String loginAndGetToken() throws IOException {
+        return SessionManager.shared().token(Endpoint.LOGIN.url(), USERNAME, PASSWORD);
+    }
+
+    @Test
+    public void percentileWithinBudget() throws IOException {
+        Endpoint endpoint = budget.endpoint();
+        String token = endpoint.authenticated() ? loginAndGetToken() : null;
+
+        for (int i = 0; i < budget.warmup(); i++) {
+            HttpEngine.shared().send(endpoint.request(token).noCache());
+        }
+
+        Histogram histogram = new Histogram(TimeUnit.MINUTES.toMicros(10), 3);
+        for (int i = 0; i < budget.samples(); i++) {
+            long start = System.nanoTime();
+            ApiResponse response = HttpEngine.shared().send(endpoint.request(token).noCache());
+            histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start)));
+            Assert.assertTrue("❌ " + endpoint + " returned HTTP " + response.status() + " on sample " + (i + 1),
+                    response.status() >= 200 && response.status() < 300);
+        }
+
+        Duration measured = Duration.ofNanos(histogram.getValueAtPercentile(budget.percentile()) * 1000);
+        String line = String.format("%s: p%s = %s over %d samples (budget %s, max %s)",
+                endpoint, LatencyBudget.label(budget.percentile()), Durations.format(measured), budget.samples(),
+                Durations.format(budget.budget()), Durations.format(Duration.ofNanos(histogram.getMaxValue() * 1000)));
+
+        if (measured.compareTo(budget.budget()) > 0) {
+            Assert.fail("❌ Latency SLO breached — " + line);
+        }
+        System.out.println("✅ Within SLO — " + line);
+    }
+}
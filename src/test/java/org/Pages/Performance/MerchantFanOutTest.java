@@ -0,0 +1,41 @@
+package org.Pages.Performance;
+
+import org.Pages.Http.Hosts;
+import org.Pages.Tenants.MerchantFanOut;
+import org.Pages.Tenants.MerchantMatrix;
+import org.Pages.Tenants.MerchantPlan;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.IOException;
+
+/**
+ * 🏪 Multi-merchant fan-out check
+ * -------------------------------
+ * 1. Runs the merchant-scoped checks for every -Dinvoo.merchants tenant
+ *    (see MerchantPlan; under the stub profile 20 merchants by id plus two
+ *    merchant logins unless set)
+ * 2. Fails if any login or call failed, including a merchant answering with
+ *    another merchant's data
+ * 3. Prints the per-merchant latency matrix with slow tenants flagged
+ *
+ * Runs on the stub profile; outside it only when -Dinvoo.merchants is set.
+ */
+public class MerchantFanOutTest {
+
+    @Test
+    public void merchantScopedChecksForEveryTenant() throws IOException, InterruptedException {
+        Assume.assumeTrue("🏪 Set -Dinvoo.merchants to fan out over real merchants outside the stub profile",
+                "stub".equals(Hosts.PROFILE) || System.getProperty("invoo.merchants") != null);
+        MerchantPlan plan = MerchantPlan.fromProperties();
+        if ("stub".equals(Hosts.PROFILE) && System.getProperty("invoo.merchants") == null) {
+            plan = plan.withTenants(MerchantPlan.tenants("1-20, merchant7:123456, merchant42:123456"));
+        }
+        MerchantMatrix matrix = new MerchantFanOut(plan).run();
+        System.out.println(matrix);
+
+        Assert.assertTrue("❌ No merchant-scoped call succeeded:\n" + matrix, matrix.calls() > 0);
+        Assert.assertEquals("❌ Merchant fan-out failures:\n" + String.join("\n", matrix.failures()), 0, matrix.errors());
+    }
+}
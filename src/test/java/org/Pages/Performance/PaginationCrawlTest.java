@@ -0,0 +1,75 @@
+package org.Pages.Performance;
+
+import org.Pages.Auth.SessionManager;
+import org.Pages.Crawl.CrawlReport;
+import org.Pages.Crawl.PageCrawler;
+import org.Pages.Http.Endpoint;
+import org.Pages.Http.Hosts;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 📚 Pagination crawl checks
+ * --------------------------
+ * One test per paged list endpoint:
+ * 1. Crawls every page (-Dinvoo.crawl.pageSize, -Dinvoo.crawl.parallelism)
+ * 2. Fails if any page is not 2xx or not valid JSON with "content"
+ * 3. Fails if the list announces records but none arrive
+ * 4. Prints per-offset latency so deep-page slowdowns are visible
+ *
+ * Kept out of ParallelApiSuite, like LatencySloTest. Runs on the stub profile;
+ * outside it (up to -Dinvoo.crawl.maxPages pages per endpoint) only when
+ * -Dinvoo.crawl.pageSize is set.
+ */
+@RunWith(Parameterized.class)
+public class PaginationCrawlTest {
+
+    private static final String USERNAME = "sa";
+    private static final String PASSWORD = "123456";
+
+    private final Endpoint endpoint;
+
+    public PaginationCrawlTest(Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Endpoint> endpoints() {
+        return Arrays.asList(Endpoint.CUSTOMERS_LIST, Endpoint.FRAUD_ANALYSES, Endpoint.DEPOSITS,
+                Endpoint.WITHDRAWALS, Endpoint.TRANSLATION_KEYS);
+    }
+
+    @Test
+    public void crawlAllPages() {
+        Assume.assumeTrue("📚 Set -Dinvoo.crawl.pageSize to crawl the list endpoints outside the stub profile",
+                "stub".equals(Hosts.PROFILE) || System.getProperty("invoo.crawl.pageSize") != null);
+        PageCrawler crawler = new PageCrawler(endpoint,
+                Integer.getInteger("invoo.crawl.pageSize", 20),
+                Integer.getInteger("invoo.crawl.parallelism", 4));
+        AtomicLong bytes = new AtomicLong();
+
+        CrawlReport report = crawler.crawl(
+                () -> SessionManager.shared().token(Endpoint.LOGIN.url(), USERNAME, PASSWORD),
+                record -> bytes.addAndGet(record.length));
+        System.out.println(report);
+
+        Assert.assertTrue("❌ " + report.failures().size() + " page(s) failed:\n" + report,
+                report.failures().isEmpty());
+        if (report.totalElements() > 0) {
+            Assert.assertTrue("❌ " + endpoint + " announced " + report.totalElements() + " records, none arrived",
+                    report.records() > 0 && bytes.get() > 0);
+            if (!report.capped() && report.records() != report.totalElements()) {
+                // the list can change while it is crawled; worth seeing, not worth failing on
+                System.out.println("⚠️ " + endpoint + ": " + report.records() + " records received, totalElements "
+                        + report.totalElements());
+            }
+        }
+    }
+}
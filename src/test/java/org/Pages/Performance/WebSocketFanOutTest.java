@@ -0,0 +1,57 @@
+package org.Pages.Performance;
+
+import org.Pages.Auth.SessionManager;
+import org.Pages.Http.Endpoint;
+import org.Pages.Http.Hosts;
+import org.Pages.Metrics.Durations;
+import org.Pages.Realtime.FanOutPlan;
+import org.Pages.Realtime.FanOutProbe;
+import org.Pages.Realtime.FanOutReport;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 📡 Customers real-time channel fan-out check
+ * --------------------------------------------
+ * 1. Holds -Dinvoo.ws.subscribers subscribers on the channel (see FanOutPlan;
+ *    200 at 200 connects/s for 3s unless set)
+ * 2. Fails if any subscriber never connected
+ * 3. Fails if nothing arrived or under 99% of the published messages did
+ * 4. Fails if p99 publish → receive latency is over -Dinvoo.ws.maxDeliveryP99 (default 250ms)
+ *
+ * Runs against the WebSocketStub under the stub profile; the live channel
+ * speaks SockJS / STOMP, so against live it only runs with an explicit
+ * -Dinvoo.ws.url pointing at a raw WebSocket endpoint.
+ */
+public class WebSocketFanOutTest {
+
+    private static final String USERNAME = "sa";
+    private static final String PASSWORD = "123456";
+
+    @Test
+    public void customersChannelFanOut() throws IOException {
+        Assume.assumeTrue("📡 No raw WebSocket channel outside the stub profile (set -Dinvoo.ws.url)",
+                "stub".equals(Hosts.PROFILE) || System.getProperty("invoo.ws.url") != null);
+        Hosts.startWebSocketStub();
+
+        FanOutPlan plan = FanOutPlan.fromProperties();
+        if (System.getProperty("invoo.ws.subscribers") == null) {
+            // a CI-sized run; WebSocketLoad is the place for thousands of subscribers
+            plan = new FanOutPlan(plan.url(), 200, 200, Duration.ofSeconds(3), plan.connectTimeout(), plan.reconnectDelay());
+        }
+        FanOutReport report = new FanOutProbe(plan).run(
+                () -> SessionManager.shared().token(Endpoint.LOGIN.url(), USERNAME, PASSWORD));
+        System.out.println(report);
+
+        double maxP99 = Durations.parse(System.getProperty("invoo.ws.maxDeliveryP99", "250ms")).toNanos() / 1e6;
+        Assert.assertEquals("❌ Not every subscriber connected:\n" + report, plan.subscribers(), report.connected());
+        Assert.assertTrue("❌ No message reached any subscriber:\n" + report, report.received() > 0);
+        Assert.assertTrue("❌ Delivery ratio under 0.99:\n" + report, report.deliveryRatio() >= 0.99);
+        Assert.assertTrue(String.format("❌ Delivery p99 %.2f ms over %.2f ms:%n%s", report.deliveryMillis(99), maxP99, report),
+                report.deliveryMillis(99) <= maxP99);
+    }
+}
@@ -0,0 +1,96 @@
+package org.Pages.Regression;
+
+import org.HdrHistogram.Histogram;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 📐 Mann-Whitney U against known values
+ * --------------------------------------
+ * 1. One current value: the exact permutation p = (#baseline at or past it + 1) / (n2 + 1),
+ *    ties counted on both sides
+ * 2. Several values: tie-corrected normal approximation with continuity
+ *    correction, against values computed independently from average ranks
+ *    (same as R's wilcox.test(exact = FALSE, correct = TRUE), one-sided)
+ * 3. Histogram buckets rank the same as the plain samples they hold
+ */
+public class MannWhitneyTest {
+
+    private static final double[] BASELINE = {10, 20, 30, 40, 50, 60, 70, 80, 90};
+
+    @Test
+    public void singleSampleUsesTheExactPermutationP() {
+        MannWhitney.Result slowest = MannWhitney.compare(new double[]{100}, BASELINE);
+        Assert.assertEquals(1.0, slowest.a12(), 1e-12);
+        Assert.assertEquals(0.1, slowest.pSlower(), 1e-12);
+        Assert.assertEquals(1.0, slowest.pFaster(), 1e-12);
+
+        MannWhitney.Result fastest = MannWhitney.compare(new double[]{5}, BASELINE);
+        Assert.assertEquals(0.0, fastest.a12(), 1e-12);
+        Assert.assertEquals(1.0, fastest.pSlower(), 1e-12);
+        Assert.assertEquals(0.1, fastest.pFaster(), 1e-12);
+
+        // 50 ties with one baseline value: 5 baseline values are ≥ it and 5 are ≤ it
+        MannWhitney.Result tied = MannWhitney.compare(new double[]{50}, BASELINE);
+        Assert.assertEquals(0.5, tied.a12(), 1e-12);
+        Assert.assertEquals(0.6, tied.pSlower(), 1e-12);
+        Assert.assertEquals(0.6, tied.pFaster(), 1e-12);
+
+        MannWhitney.Result between = MannWhitney.compare(new double[]{75}, BASELINE);
+        Assert.assertEquals(7 / 9.0, between.a12(), 1e-12);
+        Assert.assertEquals(0.3, between.pSlower(), 1e-12);
+        Assert.assertEquals(0.8, between.pFaster(), 1e-12);
+    }
+
+    @Test
+    public void tieCorrectedNormalApproximation() {
+        MannWhitney.Result small = MannWhitney.compare(new double[]{3, 4, 4, 5, 6, 6, 7}, new double[]{1, 2, 2, 3, 4, 5});
+        Assert.assertEquals(7, small.n1());
+        Assert.assertEquals(6, small.n2());
+        Assert.assertEquals(36.0 / 42, small.a12(), 1e-12);
+        Assert.assertEquals(0.018104450669929623, small.pSlower(), 1e-6);
+        Assert.assertEquals(0.9874229236929042, small.pFaster(), 1e-6);
+
+        MannWhitney.Result larger = MannWhitney.compare(
+                new double[]{12, 15, 15, 18, 20, 22, 25, 25, 30, 31, 35, 40},
+                new double[]{10, 11, 12, 12, 14, 15, 16, 18, 18, 19, 20, 21, 22});
+        Assert.assertEquals(123.0 / 156, larger.a12(), 1e-12);
+        Assert.assertEquals(0.007601781347911804, larger.pSlower(), 1e-6);
+        Assert.assertEquals(0.9934684397301201, larger.pFaster(), 1e-6);
+
+        MannWhitney.Result same = MannWhitney.compare(new double[]{1, 2, 3}, new double[]{1, 2, 3});
+        Assert.assertEquals(0.5, same.a12(), 1e-12);
+        Assert.assertEquals(0.5902615116112394, same.pSlower(), 1e-6);
+        Assert.assertEquals(0.5902615116112394, same.pFaster(), 1e-6);
+    }
+
+    @Test
+    public void degenerateSamplesAreNeverSignificant() {
+        MannWhitney.Result empty = MannWhitney.compare(new double[0], BASELINE);
+        Assert.assertEquals(1.0, empty.pSlower(), 0);
+        Assert.assertEquals(1.0, empty.pFaster(), 0);
+
+        // every value tied: zero variance
+        MannWhitney.Result flat = MannWhitney.compare(new double[]{7, 7, 7}, new double[]{7, 7});
+        Assert.assertEquals(0.5, flat.a12(), 1e-12);
+        Assert.assertEquals(1.0, flat.pSlower(), 0);
+        Assert.assertEquals(1.0, flat.pFaster(), 0);
+    }
+
+    @Test
+    public void histogramsRankLikeTheirSamples() {
+        double[] current = {12, 15, 15, 18, 20, 22, 25, 25, 30, 31, 35, 40};
+        double[] baseline = {10, 11, 12, 12, 14, 15, 16, 18, 18, 19, 20, 21, 22};
+        MannWhitney.Result plain = MannWhitney.compare(current, baseline);
+        MannWhitney.Result buckets = MannWhitney.compare(histogram(current), histogram(baseline));
+        Assert.assertEquals(plain, buckets);
+    }
+
+    private static Histogram histogram(double[] values) {
+        Histogram h = new Histogram(3);
+        for (double v : values) {
+            h.recordValue((long) v);
+        }
+        return h;
+    }
+}
@@ -0,0 +1,104 @@
+package org.Pages.Regression;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.Pages.Metrics.LatencyRecorder;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 📉 Regression verdicts
+ * ----------------------
+ * 1. SLOWER / FASTER need p strictly below alpha, a12 at or past minEffect
+ *    (1 - minEffect for FASTER) and a p50 delta of at least minDelta;
+ *    missing any one of them is UNCHANGED
+ * 2. latency() compares the newest .hlog with the earlier ones per endpoint
+ *    and leaves the "... CACHED" series out
+ */
+public class RegressionCheckTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void verdictThresholds() {
+        RegressionCheck check = check(folder.getRoot().toPath());
+        double alpha = 0.01;
+
+        Assert.assertEquals(RegressionCheck.Verdict.SLOWER, check.verdict(result(0.64, 0.0099, 1), 20, alpha));
+        Assert.assertEquals("❌ p = alpha is not significant", RegressionCheck.Verdict.UNCHANGED,
+                check.verdict(result(0.64, 0.01, 1), 20, alpha));
+        Assert.assertEquals("❌ a12 below minEffect", RegressionCheck.Verdict.UNCHANGED,
+                check.verdict(result(0.6399, 0.0001, 1), 500, alpha));
+        Assert.assertEquals("❌ p50 delta below minDelta", RegressionCheck.Verdict.UNCHANGED,
+                check.verdict(result(0.9, 0.0001, 1), 19.9, alpha));
+
+        Assert.assertEquals(RegressionCheck.Verdict.FASTER, check.verdict(result(0.36, 1, 0.0099), -20, alpha));
+        Assert.assertEquals("❌ a12 above 1 - minEffect", RegressionCheck.Verdict.UNCHANGED,
+                check.verdict(result(0.3601, 1, 0.0001), -500, alpha));
+        Assert.assertEquals("❌ p50 improvement below minDelta", RegressionCheck.Verdict.UNCHANGED,
+                check.verdict(result(0.1, 1, 0.0001), -19.9, alpha));
+
+        // tests run with their own, looser alpha
+        Assert.assertEquals(RegressionCheck.Verdict.SLOWER, check.verdict(result(1, 0.09, 1), 50, 0.1));
+        Assert.assertEquals(RegressionCheck.Verdict.UNCHANGED, check.verdict(result(1, 0.09, 1), 50, alpha));
+    }
+
+    @Test
+    public void latencyComparesNetworkSeriesOnly() throws IOException {
+        Path logs = folder.newFolder("latency").toPath();
+        for (int run = 0; run < 3; run++) {
+            log(logs.resolve("latency-stub-20260101-00000" + run + "-42.hlog"), 50_000);
+        }
+        log(logs.resolve("latency-stub-20260102-000000-42.hlog"), 100_000);
+
+        List<RegressionCheck.Row> rows = new ArrayList<>();
+        String title = check(logs).latency(rows);
+        Assert.assertTrue(title, title.contains("latency-stub-20260102-000000-42.hlog vs 3 earlier log(s)"));
+        Assert.assertEquals("❌ Expected only the network series: " + rows, 1, rows.size());
+        RegressionCheck.Row row = rows.get(0);
+        Assert.assertEquals("GET /api/v1/merchant_settings", row.name());
+        Assert.assertEquals(RegressionCheck.Verdict.SLOWER, row.verdict());
+        Assert.assertEquals(30, row.n());
+        Assert.assertEquals(90, row.baselineN());
+    }
+
+    /** Defaults: alpha 0.01, testAlpha 0.1, minEffect 0.64, minDelta 20ms, minSamples 20, minRuns 5 */
+    private static RegressionCheck check(Path latencyDir) {
+        Path root = latencyDir.getParent();
+        return new RegressionCheck(latencyDir, root.resolve("reports"), root.resolve("history"), 10, 50,
+                0.01, 0.1, 0.64, 20, 20, 5);
+    }
+
+    private static MannWhitney.Result result(double a12, double pSlower, double pFaster) {
+        return new MannWhitney.Result(30, 300, a12, pSlower, pFaster);
+    }
+
+    /** 30 network samples around `micros`, and 30 fast cached replays of the same endpoint */
+    private static void log(Path file, long micros) throws IOException {
+        String key = "GET /api/v1/merchant_settings";
+        try (PrintStream out = new PrintStream(file.toFile(), "UTF-8")) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            Histogram network = new Histogram(3);
+            Histogram cached = new Histogram(3);
+            for (int i = 0; i < 30; i++) {
+                network.recordValue(micros + i * 100L);
+                cached.recordValue(100 + i);
+            }
+            network.setTag(LatencyRecorder.tag(key));
+            cached.setTag(LatencyRecorder.tag(key + LatencyRecorder.CACHED));
+            writer.outputIntervalHistogram(network);
+            writer.outputIntervalHistogram(cached);
+        }
+    }
+}
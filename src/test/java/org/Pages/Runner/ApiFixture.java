@@ -0,0 +1,64 @@
+package org.Pages.Runner;
+
+import org.Pages.Auth.Credentials;
+import org.Pages.Auth.SessionManager;
+import org.Pages.Http.ApiLog;
+import org.Pages.Http.ApiRequest;
+import org.Pages.Http.ApiResponse;
+import org.Pages.Http.BodyCheck;
+import org.Pages.Http.HttpEngine;
+
+import java.io.IOException;
+
+/**
+ * 🧩 Thread-safe test fixture
+ * ---------------------------
+ * - Immutable: holds only the credentials, so one static instance can be shared
+ *   by every test method running in parallel
+ * - Tokens come from the run-wide SessionManager, connections from the HttpEngine
+ * - Replaces per-class static clients / contexts that were not safe to share
+ */
+public final class ApiFixture {
+
+    private final Credentials credentials;
+
+    private ApiFixture(Credentials credentials) {
+        this.credentials = credentials;
+    }
+
+    /** 🔑 Fixture that authenticates as the given user */
+    public static ApiFixture login(String loginUrl, String username, String password) {
+        return new ApiFixture(new Credentials(loginUrl, username, password));
+    }
+
+    /** 🔐 Current JWT token for this fixture's user */
+    public String token() throws IOException {
+        return SessionManager.shared().token(credentials);
+    }
+
+    /** 🌐 Authorized GET, logged via ApiLog */
+    public ApiResponse get(String url) throws IOException {
+        return send(ApiRequest.get(url).bearer(token()));
+    }
+
+    /** ✅ Authorized GET whose body is streamed through the given checks (see ApiResponse.violations()) */
+    public ApiResponse get(String url, BodyCheck check) throws IOException {
+        return send(ApiRequest.get(url).bearer(token()).check(check));
+    }
+
+    /** 🌍 Public GET (no Authorization header), logged via ApiLog */
+    public ApiResponse getPublic(String url) throws IOException {
+        return send(ApiRequest.get(url));
+    }
+
+    /** 🌐 Authorized POST with JSON body, logged via ApiLog */
+    public ApiResponse post(String url, String jsonBody) throws IOException {
+        return send(ApiRequest.post(url, jsonBody).bearer(token()));
+    }
+
+    private ApiResponse send(ApiRequest request) throws IOException {
+        ApiResponse response = HttpEngine.shared().send(request);
+        ApiLog.response(request.uri().toString(), response);
+        return response;
+    }
+}
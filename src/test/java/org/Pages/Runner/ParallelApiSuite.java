@@ -0,0 +1,46 @@
+package org.Pages.Runner;
+
+import org.Pages.Configurator.BrandingApiTest;
+import org.Pages.Configurator.CashierProvidersApiTest;
+import org.Pages.Configurator.PaymentProviderApiTest;
+import org.Pages.Configurator.TranslationApiTest;
+import org.Pages.Custumers.AnalyticsApiTest;
+import org.Pages.Custumers.CustomerListApiTest;
+import org.Pages.Custumers.RiskManagementDashboardApiTest;
+import org.Pages.Dashboard.AnalyticsAPITest;
+import org.Pages.Dashboard.OverviewAPITest;
+import org.Pages.Developers.APIClientsApiTest;
+import org.Pages.Developers.WebhooksApiTest;
+import org.Pages.MerchantSettings.MerchantSettingsApiTest;
+import org.Pages.Payments.DepositsApiTest;
+import org.Pages.Payments.FraudAnalysisApiTest;
+import org.Pages.Payments.WithdrawalsApiTest;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * ⚡ All API suites in one parallel run
+ * -------------------------------------
+ * Run with: mvn test -Pparallel
+ * (the default profile excludes this class and runs the suites serially)
+ */
+@RunWith(ParallelSuite.class)
+@Suite.SuiteClasses({
+        OverviewAPITest.class,
+        AnalyticsAPITest.class,
+        BrandingApiTest.class,
+        CashierProvidersApiTest.class,
+        PaymentProviderApiTest.class,
+        TranslationApiTest.class,
+        AnalyticsApiTest.class,
+        CustomerListApiTest.class,
+        RiskManagementDashboardApiTest.class,
+        APIClientsApiTest.class,
+        WebhooksApiTest.class,
+        MerchantSettingsApiTest.class,
+        DepositsApiTest.class,
+        FraudAnalysisApiTest.class,
+        WithdrawalsApiTest.class
+})
+public class ParallelApiSuite {
+}
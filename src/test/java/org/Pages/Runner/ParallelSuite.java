@@ -0,0 +1,33 @@
+package org.Pages.Runner;
+
+import org.junit.runner.Runner;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.Suite;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerBuilder;
+
+/**
+ * ⚡ Parallel suite runner
+ * ------------------------
+ * - Runs the listed test classes concurrently on virtual threads
+ * - Runs the @Test methods inside each class concurrently as well
+ *   (-Dinvoo.parallel.methods=false keeps methods serial per class)
+ * - @BeforeClass / @AfterClass still run once per class, around its methods
+ *
+ * Tests are I/O bound, so the real limit is the per-host in-flight cap of the
+ * HttpEngine (-Dinvoo.http.maxConcurrencyPerHost), not the number of threads.
+ */
+public class ParallelSuite extends Suite {
+
+    public ParallelSuite(Class<?> klass, RunnerBuilder builder) throws InitializationError {
+        super(klass, builder);
+        setScheduler(new VirtualThreadScheduler());
+        if (Boolean.parseBoolean(System.getProperty("invoo.parallel.methods", "true"))) {
+            for (Runner child : getChildren()) {
+                if (child instanceof ParentRunner<?> parent) {
+                    parent.setScheduler(new VirtualThreadScheduler());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.Pages.Runner;
+
+import org.Pages.Metrics.RunReport;
+import org.junit.runner.Result;
+import org.junit.runner.notification.RunListener;
+
+/**
+ * 📋 Prints the RunReport when surefire finishes the test run
+ * (shutdown-hook output of a forked JVM never reaches the console).
+ */
+public class RunReportListener extends RunListener {
+
+    @Override
+    public void testRunFinished(Result result) {
+        RunReport.print();
+    }
+}
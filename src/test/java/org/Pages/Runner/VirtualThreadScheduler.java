@@ -0,0 +1,26 @@
+package org.Pages.Runner;
+
+import org.junit.runners.model.RunnerScheduler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 🧵 JUnit scheduler that runs every child (class or method) on its own virtual thread.
+ * finished() blocks until all scheduled children are done.
+ */
+final class VirtualThreadScheduler implements RunnerScheduler {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Override
+    public void schedule(Runnable childStatement) {
+        executor.execute(childStatement);
+    }
+
+    @Override
+    public void finished() {
+        // close() waits for every submitted child to complete
+        executor.close();
+    }
+}